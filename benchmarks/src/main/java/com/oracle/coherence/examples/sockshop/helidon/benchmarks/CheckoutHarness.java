@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.benchmarks;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.oracle.coherence.examples.sockshop.helidon.catalog.CatalogRepository;
+import com.oracle.coherence.examples.sockshop.helidon.catalog.InventoryRepository;
+import com.oracle.coherence.examples.sockshop.helidon.catalog.Sock;
+import com.oracle.coherence.examples.sockshop.helidon.users.Address;
+import com.oracle.coherence.examples.sockshop.helidon.users.Card;
+import com.oracle.coherence.examples.sockshop.helidon.users.User;
+import com.oracle.coherence.examples.sockshop.helidon.users.UserRepository;
+
+import io.helidon.microprofile.server.Server;
+
+import jakarta.enterprise.inject.spi.CDI;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+
+/**
+ * An end-to-end throughput harness that deploys all Sock Shop services into a
+ * single JVM, backed by an embedded single-member Coherence cluster, and drives
+ * them over HTTP with a configurable mix of browse, cart and checkout scenarios.
+ * <p/>
+ * Orders talks to Carts, Users, Payment and Shipping over gRPC, and to the
+ * Inventory over REST, exactly as it does when deployed to Kubernetes; the
+ * only difference is that all of those calls are made to the local server.
+ * <p/>
+ * Each virtual user is a closed-loop client with its own customer account,
+ * which repeatedly picks a scenario based on the configured mix and executes
+ * it. Latency is recorded per endpoint, and the results are printed to the
+ * console and written to a JSON file once the measurement is complete.
+ * <p/>
+ * The harness is configured using the following system properties:
+ * <ul>
+ *     <li>{@code harness.users} - the number of concurrent virtual users (32)</li>
+ *     <li>{@code harness.warmup} - the warmup duration, in seconds (15)</li>
+ *     <li>{@code harness.duration} - the measurement duration, in seconds (60)</li>
+ *     <li>{@code harness.mix} - the relative scenario weights ({@code browse:70,cart:20,checkout:10})</li>
+ *     <li>{@code harness.seed} - the random seed used by the virtual users (42)</li>
+ *     <li>{@code harness.result} - the JSON result file ({@code target/harness-result.json})</li>
+ * </ul>
+ */
+public class CheckoutHarness {
+    private static final String REST_CLIENT_PREFIX = "com.oracle.coherence.examples.sockshop.helidon.orders.";
+
+    /**
+     * The stock of each sock, which is large enough to never run out.
+     */
+    private static final int STOCK = 100_000_000;
+
+    private final int users;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<Scenario, Integer> mix;
+    private final long seed;
+    private final Path result;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private String baseUri;
+    private List<String> sockIds;
+    private volatile Recorder recorder = new Recorder();
+
+    CheckoutHarness(int users, Duration warmup, Duration duration, Map<Scenario, Integer> mix, long seed, Path result) {
+        this.users = users;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        this.seed = seed;
+        this.result = result;
+    }
+
+    public static void main(String[] args) throws Exception {
+        CheckoutHarness harness = new CheckoutHarness(
+                Integer.getInteger("harness.users", 32),
+                Duration.ofSeconds(Long.getLong("harness.warmup", 15)),
+                Duration.ofSeconds(Long.getLong("harness.duration", 60)),
+                Scenario.parseMix(System.getProperty("harness.mix", "browse:70,cart:20,checkout:10")),
+                Long.getLong("harness.seed", 42),
+                Path.of(System.getProperty("harness.result", "target/harness-result.json")));
+
+        harness.run();
+        System.exit(0);
+    }
+
+    /**
+     * Start the services, run the warmup and measurement phases, and
+     * report the results.
+     *
+     * @throws Exception if the harness fails
+     */
+    void run() throws Exception {
+        Server server = startServer();
+        try {
+            loadData();
+
+            System.out.printf("Warming up for %ds with %d users%n", warmup.toSeconds(), users);
+            drive(warmup);
+
+            recorder = new Recorder();
+            System.out.printf("Measuring for %ds with %d users, mix %s%n", duration.toSeconds(), users, mix);
+            long start = System.nanoTime();
+            drive(duration);
+            double elapsed = (System.nanoTime() - start) / 1e9;
+
+            Recorder measured = recorder;
+            measured.print(System.out, elapsed);
+            measured.write(result, elapsed, this);
+            System.out.println("Results written to " + result.toAbsolutePath());
+        }
+        finally {
+            server.stop();
+            EmbeddedCluster.stop();
+        }
+    }
+
+    // ---- setup -----------------------------------------------------------
+
+    private Server startServer() throws IOException {
+        int port = freePort();
+        baseUri = "http://localhost:" + port;
+
+        EmbeddedCluster.isolate();
+        System.setProperty("tracing.global", "false");
+
+        // point Orders at the other services deployed into this server
+        System.setProperty(REST_CLIENT_PREFIX + "InventoryClient/mp-rest/url", baseUri);
+        System.setProperty("grpc.client.channels.1.port", String.valueOf(port));
+        System.setProperty("grpc.client.channels.2.port", String.valueOf(port));
+        System.setProperty("grpc.client.channels.3.port", String.valueOf(port));
+        System.setProperty("grpc.client.channels.4.port", String.valueOf(port));
+
+        return Server.builder().port(port).build().start();
+    }
+
+    /**
+     * Create a customer account for each virtual user, load the identifiers
+     * of all socks in the catalog, and stock up on them so that checkouts
+     * don't run out of stock.
+     */
+    private void loadData() {
+        UserRepository userRepository = CDI.current().select(UserRepository.class).get();
+        for (int i = 0; i < users; i++) {
+            String username = customerId(i);
+            userRepository.register(new User("Harness", "User " + i, username + "@example.com", username, "pass"));
+            userRepository.addAddress(username, new Address(String.valueOf(i), "Harness Street", "Harness City", "12345", "US"));
+            userRepository.addCard(username, new Card("4111111111111111", "12/99", "123"));
+        }
+
+        CatalogRepository catalogRepository = CDI.current().select(CatalogRepository.class).get();
+        sockIds = catalogRepository.getSocks(null, "price", 1, 1000).stream()
+                .map(Sock::getId)
+                .toList();
+
+        InventoryRepository inventoryRepository = CDI.current().select(InventoryRepository.class).get();
+        sockIds.forEach(sockId -> inventoryRepository.setStock(sockId, STOCK));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String customerId(int user) {
+        return "harness-" + user;
+    }
+
+    // ---- load generation -------------------------------------------------
+
+    /**
+     * Run all virtual users for the specified duration.
+     *
+     * @param period the duration to run virtual users for
+     *
+     * @throws InterruptedException if interrupted while waiting for the
+     *                              virtual users to complete
+     */
+    private void drive(Duration period) throws InterruptedException {
+        long deadline = System.nanoTime() + period.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                VirtualUser user = new VirtualUser(customerId(i), new Random(seed + i));
+                executor.submit(() -> user.run(deadline));
+            }
+        }
+    }
+
+    /**
+     * A closed-loop client that executes scenarios on behalf of a single customer.
+     */
+    private class VirtualUser {
+        private final String customerId;
+        private final Random random;
+        private final int totalWeight;
+
+        VirtualUser(String customerId, Random random) {
+            this.customerId = customerId;
+            this.random = random;
+            this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        void run(long deadline) {
+            while (System.nanoTime() < deadline) {
+                Scenario scenario = nextScenario();
+                long start = System.nanoTime();
+                boolean ok = switch (scenario) {
+                    case BROWSE -> browse();
+                    case CART -> cart();
+                    case CHECKOUT -> checkout();
+                };
+                recorder.record("scenario " + scenario.id(), start, ok);
+            }
+        }
+
+        private Scenario nextScenario() {
+            int n = random.nextInt(totalWeight);
+            for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+                n -= entry.getValue();
+                if (n < 0) {
+                    return entry.getKey();
+                }
+            }
+            throw new IllegalStateException();
+        }
+
+        private boolean browse() {
+            return send("GET /catalogue", get("/catalogue?size=10"), 200)
+                   && send("GET /catalogue/{id}", get("/catalogue/" + randomSock()), 200)
+                   && send("GET /tags", get("/tags"), 200);
+        }
+
+        private boolean cart() {
+            return addItem()
+                   && send("GET /carts/{id}/items", get("/carts/" + customerId + "/items"), 200);
+        }
+
+        private boolean checkout() {
+            String body = "{"
+                          + "\"customer\":\"" + baseUri + "/customers/" + customerId + "\","
+                          + "\"address\":\"" + baseUri + "/addresses/" + customerId + ":1\","
+                          + "\"card\":\"" + baseUri + "/cards/" + customerId + ":1111\","
+                          + "\"items\":\"" + baseUri + "/carts/" + customerId + "/items\""
+                          + "}";
+
+            // the order checks out the cart, so there is no need to delete it afterwards
+            return addItem()
+                   && send("POST /orders", post("/orders", body), 201);
+        }
+
+        private boolean addItem() {
+            String body = "{\"itemId\":\"" + randomSock() + "\",\"quantity\":1,\"unitPrice\":10.0}";
+            return send("POST /carts/{id}/items", post("/carts/" + customerId + "/items", body), 201);
+        }
+
+        private String randomSock() {
+            return sockIds.get(random.nextInt(sockIds.size()));
+        }
+
+        private boolean send(String endpoint, HttpRequest request, int expectedStatus) {
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                ok = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == expectedStatus;
+            }
+            catch (IOException e) {
+                ok = false;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ok = false;
+            }
+            recorder.record(endpoint, start, ok);
+            return ok;
+        }
+
+        private HttpRequest get(String path) {
+            return request(path).GET().build();
+        }
+
+        private HttpRequest post(String path, String json) {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUri + path))
+                    .header("Accept", "application/json")
+                    .timeout(Duration.ofSeconds(30));
+        }
+    }
+
+    // ---- inner enum: Scenario --------------------------------------------
+
+    /**
+     * The scenarios executed by virtual users.
+     */
+    enum Scenario {
+        /**
+         * List socks, look at one of them, and list tags.
+         */
+        BROWSE,
+
+        /**
+         * Add an item to the cart, and list cart items.
+         */
+        CART,
+
+        /**
+         * Add an item to the cart and place an order, which checks out and removes the cart.
+         */
+        CHECKOUT;
+
+        String id() {
+            return name().toLowerCase();
+        }
+
+        /**
+         * Parse the scenario mix specification.
+         *
+         * @param spec comma-separated list of {@code scenario:weight} pairs
+         *
+         * @return the scenario weights, in declaration order
+         */
+        static Map<Scenario, Integer> parseMix(String spec) {
+            Map<Scenario, Integer> mix = new TreeMap<>();
+            for (String part : spec.split(",")) {
+                String[] pair = part.trim().split(":");
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Invalid scenario mix: " + spec);
+                }
+                int weight = Integer.parseInt(pair[1].trim());
+                if (weight > 0) {
+                    mix.put(Scenario.valueOf(pair[0].trim().toUpperCase()), weight);
+                }
+            }
+            if (mix.isEmpty()) {
+                throw new IllegalArgumentException("Scenario mix must include at least one scenario: " + spec);
+            }
+            return mix;
+        }
+    }
+
+    // ---- inner class: Recorder -------------------------------------------
+
+    /**
+     * Latency and error statistics for all endpoints and scenarios
+     * during a single phase of the run.
+     */
+    private static class Recorder {
+        private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+        void record(String name, long startNanos, boolean ok) {
+            long micros = (System.nanoTime() - startNanos) / 1_000;
+            Stats s = stats.computeIfAbsent(name, k -> new Stats());
+            s.latency.record(micros);
+            if (!ok) {
+                s.errors.increment();
+            }
+        }
+
+        void print(PrintStream out, double elapsedSeconds) {
+            out.printf("%n%-24s %10s %10s %10s %10s %10s %10s %8s%n",
+                       "endpoint", "count", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+            new TreeMap<>(stats).forEach((name, s) ->
+                    out.printf("%-24s %10d %10.1f %10.3f %10.3f %10.3f %10.3f %8d%n",
+                               name,
+                               s.latency.count(),
+                               s.latency.count() / elapsedSeconds,
+                               s.latency.percentile(50) / 1e3,
+                               s.latency.percentile(99) / 1e3,
+                               s.latency.percentile(99.9) / 1e3,
+                               s.latency.max() / 1e3,
+                               s.errors.sum()));
+        }
+
+        void write(Path file, double elapsedSeconds, CheckoutHarness harness) throws Exception {
+            Map<String, Object> endpoints = new TreeMap<>();
+            stats.forEach((name, s) -> {
+                Map<String, Object> m = new LinkedHashMap<>();
+                m.put("count", s.latency.count());
+                m.put("throughput", s.latency.count() / elapsedSeconds);
+                m.put("meanMillis", s.latency.mean() / 1e3);
+                m.put("p50Millis", s.latency.percentile(50) / 1e3);
+                m.put("p99Millis", s.latency.percentile(99) / 1e3);
+                m.put("p999Millis", s.latency.percentile(99.9) / 1e3);
+                m.put("maxMillis", s.latency.max() / 1e3);
+                m.put("errors", s.errors.sum());
+                endpoints.put(name, m);
+            });
+
+            Map<String, Integer> mix = new LinkedHashMap<>();
+            harness.mix.forEach((scenario, weight) -> mix.put(scenario.id(), weight));
+
+            Map<String, Object> root = new LinkedHashMap<>();
+            root.put("users", harness.users);
+            root.put("warmupSeconds", harness.warmup.toSeconds());
+            root.put("durationSeconds", elapsedSeconds);
+            root.put("mix", mix);
+            root.put("seed", harness.seed);
+            root.put("endpoints", endpoints);
+
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Jsonb jsonb = JsonbBuilder.create()) {
+                Files.writeString(file, jsonb.toJson(root));
+            }
+        }
+    }
+
+    /**
+     * Statistics for a single endpoint or scenario.
+     */
+    private static class Stats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+    }
+}
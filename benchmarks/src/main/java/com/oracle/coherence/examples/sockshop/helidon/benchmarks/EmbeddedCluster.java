@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.benchmarks;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedMap;
+
+/**
+ * Helper class that manages an embedded, single-member Coherence cluster
+ * for repository benchmarks.
+ * <p/>
+ * The member is isolated from any other cluster on the network, so that
+ * the results only depend on the machine the benchmarks run on.
+ */
+public final class EmbeddedCluster {
+    private EmbeddedCluster() {
+    }
+
+    /**
+     * Start the embedded cluster member, if it is not already running.
+     *
+     * @return the running {@link Coherence} instance
+     */
+    public static synchronized Coherence start() {
+        Coherence coherence = Coherence.getInstance();
+        if (coherence == null || !coherence.isStarted()) {
+            isolate();
+            coherence = Coherence.clusterMember().start().join();
+        }
+        return coherence;
+    }
+
+    /**
+     * Configure the system properties that isolate a cluster member started
+     * in this JVM, either by {@link #start()} or by the Coherence CDI extension.
+     */
+    static void isolate() {
+        System.setProperty("coherence.wka", "127.0.0.1");
+        System.setProperty("coherence.localhost", "127.0.0.1");
+        System.setProperty("coherence.ttl", "0");
+        System.setProperty("coherence.cluster", "sockshop-benchmarks");
+        System.setProperty("coherence.distributed.localstorage", "true");
+        // carts observes the Catalog service, which otherwise has no storage here
+        System.setProperty("carts.catalog.localstorage", "true");
+        System.setProperty("coherence.log.level", "1");
+    }
+
+    /**
+     * Return the named map with the specified name, starting the
+     * embedded cluster member if necessary.
+     *
+     * @param name the name of the map
+     * @param <K>  the type of map keys
+     * @param <V>  the type of map values
+     *
+     * @return the named map with the specified name
+     */
+    public static <K, V> NamedMap<K, V> getMap(String name) {
+        return start().getSession().getMap(name);
+    }
+
+    /**
+     * Stop the embedded cluster member.
+     */
+    public static synchronized void stop() {
+        Coherence.closeAll();
+    }
+}
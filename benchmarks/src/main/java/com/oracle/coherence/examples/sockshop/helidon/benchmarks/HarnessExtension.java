@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.benchmarks;
+
+import java.util.Set;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
+
+/**
+ * A CDI extension that allows all Sock Shop services to be deployed into
+ * a single CDI container by the {@link CheckoutHarness}.
+ * <p/>
+ * Orders, Payment and Shipping each define a {@code @Named("jsonb")} gRPC
+ * marshaller supplier, which makes the marshaller injection point ambiguous
+ * when all three are on the same classpath. Because the three marshallers
+ * are functionally equivalent, this extension vetoes all but the one defined
+ * by Orders.
+ */
+public class HarnessExtension implements Extension {
+    private static final Set<String> VETOED = Set.of(
+            "com.oracle.coherence.examples.sockshop.helidon.payment.JsonbMarshaller$Supplier",
+            "com.oracle.coherence.examples.sockshop.helidon.shipping.JsonbMarshaller$Supplier");
+
+    void vetoDuplicates(@Observes ProcessAnnotatedType<?> event) {
+        if (VETOED.contains(event.getAnnotatedType().getJavaClass().getName())) {
+            event.veto();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Cart} mutations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CartBenchmark {
+    /**
+     * The number of distinct items in the cart.
+     */
+    @Param({"5", "50"})
+    int itemCount;
+
+    private Cart cart;
+    private Cart other;
+    private String lastItemId;
+
+    @Setup
+    public void setup() {
+        cart  = new Cart("C1");
+        other = new Cart("C2");
+        for (int i = 0; i < itemCount; i++) {
+            cart.add(new Item("X" + i, 1, 9.99f));
+            other.add(new Item("X" + (i + itemCount / 2), 2, 9.99f));
+        }
+        lastItemId = "X" + (itemCount - 1);
+    }
+
+    @Benchmark
+    public Item getItem() {
+        return cart.getItem(lastItemId);
+    }
+
+    @Benchmark
+    public Item addExistingItem() {
+        return cart.add(new Item(lastItemId, 1, 9.99f));
+    }
+
+    @Benchmark
+    public Item updateExistingItem() {
+        return cart.update(new Item(lastItemId, 3, 9.99f));
+    }
+
+    @Benchmark
+    public Cart addAndRemoveItem() {
+        cart.add(new Item("NEW", 1, 9.99f));
+        return cart.remove("NEW");
+    }
+
+    @Benchmark
+    public Cart merge() {
+        return new Cart("C3").merge(other).merge(cart);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.coherence.examples.sockshop.helidon.benchmarks.EmbeddedCluster;
+
+import com.tangosol.net.NamedMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link CoherenceCartRepository} against an embedded
+ * single-member cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class CoherenceCartRepositoryBenchmark {
+    private static final int CART_COUNT = 256;
+    private static final int ITEM_COUNT = 10;
+
+    private CartRepository carts;
+    private String[] cartIds;
+    private int next;
+
+    @Setup
+    public void setup() {
+        NamedMap<String, Cart> map = EmbeddedCluster.getMap("carts");
+        map.clear();
+        carts = new CoherenceCartRepository(map);
+
+        cartIds = new String[CART_COUNT];
+        for (int i = 0; i < CART_COUNT; i++) {
+            cartIds[i] = "C" + i;
+            for (int j = 0; j < ITEM_COUNT; j++) {
+                carts.addItem(cartIds[i], new Item("X" + j, 1, 9.99f));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedCluster.stop();
+    }
+
+    @Benchmark
+    public Cart getOrCreateCart() {
+        return carts.getOrCreateCart(nextCartId());
+    }
+
+    @Benchmark
+    public List<Item> getItems() {
+        return carts.getItems(nextCartId());
+    }
+
+    @Benchmark
+    public CartSummary getCartSummary() {
+        return carts.getCartSummary(nextCartId());
+    }
+
+    @Benchmark
+    public Item addItem() {
+        return carts.addItem(nextCartId(), new Item("X0", 1, 9.99f));
+    }
+
+    @Benchmark
+    public Item updateItem() {
+        return carts.updateItem(nextCartId(), new Item("X1", 2, 9.99f));
+    }
+
+    @Benchmark
+    public Cart applyItemOperations() {
+        return carts.applyItemOperations(nextCartId(), List.of(
+                new ItemOperation(ItemOperation.Type.ADD, "NEW", 1, 9.99f),
+                new ItemOperation(ItemOperation.Type.UPDATE, "X1", 3, 9.99f),
+                new ItemOperation(ItemOperation.Type.DELETE, "NEW", 0, 0f)));
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private String nextCartId() {
+        return cartIds[next++ & (CART_COUNT - 1)];
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.coherence.examples.sockshop.helidon.benchmarks.EmbeddedCluster;
+
+import com.tangosol.net.NamedMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link CoherenceCatalogRepository} against an embedded
+ * single-member cluster, using the default catalog data set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class CoherenceCatalogRepositoryBenchmark {
+    private CatalogRepository catalog;
+    private String sockId;
+
+    @Setup
+    public void setup() {
+        NamedMap<String, Sock> map = EmbeddedCluster.getMap("socks");
+        map.clear();
+        catalog = new CoherenceCatalogRepository(map).loadData();
+        sockId  = map.keySet().stream().sorted().findFirst().orElseThrow();
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedCluster.stop();
+    }
+
+    @Benchmark
+    public Collection<? extends Sock> getSocks() {
+        return catalog.getSocks(null, "price", 1, 10);
+    }
+
+    @Benchmark
+    public Collection<? extends Sock> getSocksByTag() {
+        return catalog.getSocks("blue,formal", "name", 1, 6);
+    }
+
+    @Benchmark
+    public Sock getSock() {
+        return catalog.getSock(sockId);
+    }
+
+    @Benchmark
+    public long getSockCount() {
+        return catalog.getSockCount("blue");
+    }
+
+    @Benchmark
+    public Set<String> getTags() {
+        return catalog.getTags();
+    }
+}
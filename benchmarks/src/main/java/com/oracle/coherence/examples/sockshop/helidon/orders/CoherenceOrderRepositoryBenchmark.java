@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.coherence.examples.sockshop.helidon.benchmarks.EmbeddedCluster;
+
+import com.tangosol.net.NamedMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link CoherenceOrderRepository} against an embedded
+ * single-member cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class CoherenceOrderRepositoryBenchmark {
+    private static final int ORDER_COUNT    = 1024;
+    private static final int CUSTOMER_COUNT = 64;
+
+    private OrderRepository orders;
+    private Order[] data;
+    private int next;
+
+    @Setup
+    public void setup() {
+        NamedMap<String, Order> map = EmbeddedCluster.getMap("orders");
+        map.clear();
+        orders = new CoherenceOrderRepository(map);
+
+        data = new Order[ORDER_COUNT];
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            data[i] = Orders.order("C" + (i % CUSTOMER_COUNT), 5);
+            data[i].setOrderId("O" + i);
+            orders.saveOrder(data[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedCluster.stop();
+    }
+
+    @Benchmark
+    public Order saveOrder() {
+        Order order = nextOrder();
+        orders.saveOrder(order);
+        return order;
+    }
+
+    @Benchmark
+    public Order get() {
+        return orders.get(nextOrder().getOrderId());
+    }
+
+    @Benchmark
+    public Collection<? extends Order> findOrdersByCustomer() {
+        return orders.findOrdersByCustomer(nextOrder().getCustomer().getId());
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private Order nextOrder() {
+        return data[next++ & (ORDER_COUNT - 1)];
+    }
+}
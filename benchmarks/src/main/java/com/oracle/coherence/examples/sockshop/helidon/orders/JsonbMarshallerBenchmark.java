@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.MethodDescriptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link JsonbMarshaller} round-trips of the messages exchanged
+ * between orders, payment and shipping services over gRPC.
+ * <p/>
+ * Request messages are marshalled using the orders service marshaller and
+ * unmarshalled using the receiving service's marshaller, exactly as they
+ * are on the wire.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonbMarshallerBenchmark {
+    private MethodDescriptor.Marshaller<Order> orderMarshaller;
+    private MethodDescriptor.Marshaller<PaymentRequest> paymentRequestMarshaller;
+    private MethodDescriptor.Marshaller<com.oracle.coherence.examples.sockshop.helidon.payment.PaymentRequest> paymentRequestParser;
+    private MethodDescriptor.Marshaller<ShippingRequest> shippingRequestMarshaller;
+    private MethodDescriptor.Marshaller<com.oracle.coherence.examples.sockshop.helidon.shipping.ShippingRequest> shippingRequestParser;
+
+    private Order order;
+    private PaymentRequest paymentRequest;
+    private ShippingRequest shippingRequest;
+
+    @Setup
+    public void setup() {
+        JsonbMarshaller.Supplier orders = new JsonbMarshaller.Supplier();
+        orderMarshaller           = orders.get(Order.class);
+        paymentRequestMarshaller  = orders.get(PaymentRequest.class);
+        shippingRequestMarshaller = orders.get(ShippingRequest.class);
+        paymentRequestParser      = new com.oracle.coherence.examples.sockshop.helidon.payment.JsonbMarshaller.Supplier()
+                .get(com.oracle.coherence.examples.sockshop.helidon.payment.PaymentRequest.class);
+        shippingRequestParser     = new com.oracle.coherence.examples.sockshop.helidon.shipping.JsonbMarshaller.Supplier()
+                .get(com.oracle.coherence.examples.sockshop.helidon.shipping.ShippingRequest.class);
+
+        order = Orders.order("C1", 5);
+        paymentRequest = PaymentRequest.builder()
+                .orderId(order.getOrderId())
+                .customer(order.getCustomer())
+                .address(order.getAddress())
+                .card(order.getCard())
+                .amount(order.getTotal())
+                .build();
+        shippingRequest = ShippingRequest.builder()
+                .orderId(order.getOrderId())
+                .customer(order.getCustomer())
+                .address(order.getAddress())
+                .itemCount(order.getItems().size())
+                .build();
+    }
+
+    @Benchmark
+    public Order orderRoundTrip() {
+        return orderMarshaller.parse(orderMarshaller.stream(order));
+    }
+
+    @Benchmark
+    public Object paymentRequestRoundTrip() {
+        return paymentRequestParser.parse(paymentRequestMarshaller.stream(paymentRequest));
+    }
+
+    @Benchmark
+    public Object shippingRequestRoundTrip() {
+        return shippingRequestParser.parse(shippingRequestMarshaller.stream(shippingRequest));
+    }
+}
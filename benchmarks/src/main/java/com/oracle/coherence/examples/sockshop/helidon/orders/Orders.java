@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory methods for test orders used by the benchmarks.
+ */
+final class Orders {
+    private Orders() {
+    }
+
+    /**
+     * Create a list of order items.
+     *
+     * @param count the number of items to create
+     *
+     * @return a list of order items
+     */
+    static List<Item> items(int count) {
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(Item.builder().itemId("X" + i).quantity(i % 3 + 1).unitPrice(9.99f).build());
+        }
+        return items;
+    }
+
+    /**
+     * Create an order for the specified customer.
+     *
+     * @param customerId the customer identifier
+     * @param itemCount  the number of items in the order
+     *
+     * @return a new order
+     */
+    static Order order(String customerId, int itemCount) {
+        return Order.builder()
+                .customer(Customer.builder()
+                                  .id(customerId)
+                                  .firstName("Homer")
+                                  .lastName("Simpson")
+                                  .email("homer@simpson.com")
+                                  .build())
+                .address(Address.builder()
+                                 .number("742")
+                                 .street("Evergreen Terrace")
+                                 .city("Springfield")
+                                 .postcode("12345")
+                                 .country("USA")
+                                 .build())
+                .card(Card.builder()
+                              .longNum("1234123412341234")
+                              .expires("12/29")
+                              .ccv("123")
+                              .build())
+                .items(items(itemCount))
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.payment;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.coherence.examples.sockshop.helidon.benchmarks.EmbeddedCluster;
+
+import com.tangosol.net.NamedMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link CoherencePaymentRepository} against an embedded
+ * single-member cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class CoherencePaymentRepositoryBenchmark {
+    private static final int ORDER_COUNT = 1024;
+
+    private CoherencePaymentRepository payments;
+    private Authorization[] data;
+    private int next;
+
+    @Setup
+    public void setup() {
+        NamedMap<AuthorizationId, Authorization> map = EmbeddedCluster.getMap("payments");
+        map.clear();
+        payments = new CoherencePaymentRepository(map);
+        payments.createIndexes();
+
+        LocalDateTime time = LocalDateTime.of(2026, 1, 1, 0, 0);
+        data = new Authorization[ORDER_COUNT];
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            data[i] = Authorization.builder()
+                    .orderId("O" + i)
+                    .time(time)
+                    .authorised(true)
+                    .message("Payment authorized")
+                    .build();
+            payments.saveAuthorization(data[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedCluster.stop();
+    }
+
+    @Benchmark
+    public Authorization saveAuthorization() {
+        Authorization auth = nextAuthorization();
+        payments.saveAuthorization(auth);
+        return auth;
+    }
+
+    @Benchmark
+    public Collection<? extends Authorization> findAuthorizationsByOrder() {
+        return payments.findAuthorizationsByOrder(nextAuthorization().getOrderId());
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private Authorization nextAuthorization() {
+        return data[next++ & (ORDER_COUNT - 1)];
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.shipping;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.coherence.examples.sockshop.helidon.benchmarks.EmbeddedCluster;
+
+import com.tangosol.net.NamedMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link CoherenceShipmentRepository} against an embedded
+ * single-member cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class CoherenceShipmentRepositoryBenchmark {
+    private static final int ORDER_COUNT = 1024;
+
+    private ShipmentRepository shipments;
+    private Shipment[] data;
+    private int next;
+
+    @Setup
+    public void setup() {
+        NamedMap<String, Shipment> map = EmbeddedCluster.getMap("shipments");
+        map.clear();
+        shipments = new CoherenceShipmentRepository(map);
+
+        LocalDate deliveryDate = LocalDate.of(2026, 1, 2);
+        data = new Shipment[ORDER_COUNT];
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            data[i] = Shipment.builder()
+                    .orderId("O" + i)
+                    .carrier("UPS")
+                    .trackingNumber("TN" + i)
+                    .deliveryDate(deliveryDate)
+                    .build();
+            shipments.saveShipment(data[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedCluster.stop();
+    }
+
+    @Benchmark
+    public Shipment saveShipment() {
+        Shipment shipment = nextShipment();
+        shipments.saveShipment(shipment);
+        return shipment;
+    }
+
+    @Benchmark
+    public Shipment getShipment() {
+        return shipments.getShipment(nextShipment().getOrderId());
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private Shipment nextShipment() {
+        return data[next++ & (ORDER_COUNT - 1)];
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.tracing;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.tracing.HeaderProvider;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link TraceParent} and {@link TraceParentHeaders}, compared
+ * to the {@code String.format}, {@code HashMap} and anonymous
+ * {@code HeaderProvider} based code they replaced in the orders, payment and
+ * shipping services.
+ * <p/>
+ * Run with {@code -prof gc} to compare per-operation allocation, reported
+ * as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TraceParentBenchmark {
+    private static final TextMapGetter<Map<String, String>> GETTER = new TextMapGetter<>() {
+        @Override
+        public Iterable<String> keys(Map<String, String> carrier) {
+            return carrier.keySet();
+        }
+
+        @Override
+        public String get(Map<String, String> carrier, String key) {
+            return carrier.get(key);
+        }
+    };
+
+    private final SpanContext spanContext = SpanContext.create(
+            "4bf92f3577b34da6a3ce929d0e0e4736", "00f067aa0ba902b7", TraceFlags.getSampled(), TraceState.getDefault());
+
+    private final String traceParent = TraceParent.format(spanContext);
+
+    // ---- format ----------------------------------------------------------
+
+    @Benchmark
+    public String formatLegacy() {
+        return String.format("00-%s-%s-%02x",
+                             spanContext.getTraceId(),
+                             spanContext.getSpanId(),
+                             spanContext.getTraceFlags().asByte());
+    }
+
+    @Benchmark
+    public String format() {
+        return TraceParent.format(spanContext);
+    }
+
+    // ---- extract ---------------------------------------------------------
+
+    @Benchmark
+    public Context extractLegacy() {
+        Map<String, String> carrier = new HashMap<>();
+        carrier.put("traceparent", traceParent);
+        return W3CTraceContextPropagator.getInstance().extract(Context.root(), carrier, GETTER);
+    }
+
+    @Benchmark
+    public Context extract() {
+        return TraceParent.extract(traceParent);
+    }
+
+    // ---- header carrier --------------------------------------------------
+
+    @Benchmark
+    public Optional<String> headersLegacy() {
+        String tp = traceParent;
+        if (tp != null && !tp.isEmpty()) {
+            HeaderProvider hp = new HeaderProvider() {
+                @Override
+                public Optional<String> get(String key) {
+                    return "traceparent".equals(key) ? Optional.of(tp) : Optional.empty();
+                }
+
+                @Override
+                public Iterable<String> keys() {
+                    return List.of("traceparent");
+                }
+
+                @Override
+                public Iterable<String> getAll(String key) {
+                    return "traceparent".equals(key) ? List.of(tp) : List.of();
+                }
+
+                @Override
+                public boolean contains(String key) {
+                    return "traceparent".equals(key);
+                }
+            };
+            for (String key : hp.keys()) {
+                return hp.get(key);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Optional<String> headers() {
+        return TraceParentHeaders.of(traceParent).flatMap(hp -> {
+            for (String key : hp.keys()) {
+                return hp.get(key);
+            }
+            return Optional.empty();
+        });
+    }
+
+    // ---- sampled flag ----------------------------------------------------
+
+    @Benchmark
+    public boolean isSampledLegacy() {
+        return Span.fromContext(extractLegacy()).getSpanContext().isSampled();
+    }
+
+    @Benchmark
+    public boolean isSampled() {
+        return TraceParent.isSampled(traceParent);
+    }
+}
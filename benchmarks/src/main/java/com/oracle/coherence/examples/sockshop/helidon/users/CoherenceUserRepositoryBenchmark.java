@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.coherence.examples.sockshop.helidon.benchmarks.EmbeddedCluster;
+
+import com.tangosol.net.NamedMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link CoherenceUserRepository} against an embedded
+ * single-member cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class CoherenceUserRepositoryBenchmark {
+    private static final int USER_COUNT = 256;
+
+    private UserRepository users;
+    private UserRepository uncachedUsers;
+    private String[] usernames;
+    private int next;
+
+    @Setup
+    public void setup() {
+        NamedMap<String, User> map = EmbeddedCluster.getMap("users");
+        NamedMap<AddressId, Address> addresses = EmbeddedCluster.getMap("addresses");
+        NamedMap<CardId, Card> cards = EmbeddedCluster.getMap("cards");
+        map.clear();
+        addresses.clear();
+        cards.clear();
+        PasswordHasher hasher = new PasswordHasher(10_000);
+        users = new CoherenceUserRepository(map, addresses, cards, hasher, new AuthCache(30_000, USER_COUNT));
+        uncachedUsers = new CoherenceUserRepository(map, addresses, cards, hasher, new AuthCache(0, 0));
+
+        usernames = new String[USER_COUNT];
+        for (int i = 0; i < USER_COUNT; i++) {
+            usernames[i] = "user" + i;
+            users.register(Users.user(usernames[i], 3, 3));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        EmbeddedCluster.stop();
+    }
+
+    @Benchmark
+    public User getUser() {
+        return users.getUser(nextUsername());
+    }
+
+    @Benchmark
+    public boolean authenticate() {
+        return users.authenticate(nextUsername(), "pass");
+    }
+
+    @Benchmark
+    public boolean authenticateUncached() {
+        return uncachedUsers.authenticate(nextUsername(), "pass");
+    }
+
+    @Benchmark
+    public Address getAddress() {
+        return users.getAddress(new AddressId(nextUsername(), "3"));
+    }
+
+    @Benchmark
+    public Card getCard() {
+        return users.getCard(new CardId(nextUsername(), "0002"));
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private String nextUsername() {
+        return usernames[next++ & (USER_COUNT - 1)];
+    }
+}
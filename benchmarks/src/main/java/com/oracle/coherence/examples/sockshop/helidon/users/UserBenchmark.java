@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link User} address and card lookups and updates,
+ * from small to large address books.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class UserBenchmark {
+    /**
+     * The number of addresses and cards the user has.
+     */
+    @Param({"2", "20", "1000"})
+    int count;
+
+    private User user;
+    private String lastAddressId;
+    private String lastCardId;
+
+    @Setup
+    public void setup() {
+        user          = Users.user("homer", count, count);
+        lastAddressId = user.getAddresses().get(count - 1).getAddressId();
+        lastCardId    = user.getCards().get(count - 1).getCardId();
+    }
+
+    @Benchmark
+    public Address getAddress() {
+        return user.getAddress(lastAddressId);
+    }
+
+    @Benchmark
+    public Address getMissingAddress() {
+        return user.getAddress("missing");
+    }
+
+    @Benchmark
+    public User addAndRemoveAddress() {
+        Address address = user.addAddress(new Address("742", "Evergreen Terrace", "Springfield", "12345", "USA"));
+        return user.removeAddress(address.getAddressId());
+    }
+
+    @Benchmark
+    public User addAndRemoveCard() {
+        Card card = user.addCard(new Card("9999888877776666", "12/29", "123"));
+        return user.removeCard(card.getCardId());
+    }
+
+    @Benchmark
+    public Card getCard() {
+        return user.getCard(lastCardId);
+    }
+
+    @Benchmark
+    public Card getMissingCard() {
+        return user.getCard("missing");
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+/**
+ * Factory methods for test users used by the benchmarks.
+ */
+final class Users {
+    private Users() {
+    }
+
+    /**
+     * Create a user with the specified number of addresses and cards.
+     *
+     * @param username     the username
+     * @param addressCount the number of addresses to add
+     * @param cardCount    the number of cards to add
+     *
+     * @return a new user
+     */
+    static User user(String username, int addressCount, int cardCount) {
+        User user = new User("Homer", "Simpson", "homer@simpson.com", username, "pass");
+        for (int i = 0; i < addressCount; i++) {
+            user.addAddress(new Address(Integer.toString(i), "Evergreen Terrace", "Springfield", "12345", "USA"));
+        }
+        for (int i = 0; i < cardCount; i++) {
+            user.addCard(new Card(String.format("123412341234%04d", i), "12/29", "123"));
+        }
+        return user;
+    }
+}
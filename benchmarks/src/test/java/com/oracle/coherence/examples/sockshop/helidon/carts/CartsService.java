@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import com.tangosol.net.NamedMap;
+
+/**
+ * Access to the repository the Carts service uses, for tests in other packages.
+ */
+public final class CartsService {
+    private CartsService() {
+    }
+
+    /**
+     * Return the repository the Carts service uses to store carts in the
+     * specified map.
+     *
+     * @param carts the map to store carts in
+     *
+     * @return the cart repository
+     */
+    public static CartRepository repository(NamedMap<String, Cart> carts) {
+        return new CoherenceCartRepository(carts);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.oracle.coherence.examples.sockshop.helidon.carts.Cart;
+import com.oracle.coherence.examples.sockshop.helidon.carts.CartRepository;
+import com.oracle.coherence.examples.sockshop.helidon.carts.CartsService;
+import com.oracle.coherence.examples.sockshop.helidon.users.AddressId;
+import com.oracle.coherence.examples.sockshop.helidon.users.AuthCache;
+import com.oracle.coherence.examples.sockshop.helidon.users.CardId;
+import com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository;
+import com.oracle.coherence.examples.sockshop.helidon.users.PasswordHasher;
+import com.oracle.coherence.examples.sockshop.helidon.users.User;
+import com.oracle.coherence.examples.sockshop.helidon.users.UserRepository;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.CoherenceConfiguration;
+import com.tangosol.net.NamedMap;
+import com.tangosol.net.Session;
+import com.tangosol.net.SessionConfiguration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Integration tests for {@link CoLocatedUsersClient} and {@link CoLocatedCartsClient}.
+ * <p/>
+ * The users and carts are written by the repositories of the Users and Carts
+ * services, into the {@code Users} and {@code Carts} cache services, and
+ * read through the same sessions orders uses in co-located mode. This test
+ * JVM is the only cluster member, so it stores the data of both services.
+ */
+class CoLocatedClientsIT {
+    private static Coherence coherence;
+
+    @BeforeAll
+    static void startCluster() {
+        System.setProperty("coherence.localhost", "127.0.0.1");
+        System.setProperty("coherence.cluster", "sockshop-co-located");
+        System.setProperty("orders.users.localstorage", "true");
+        System.setProperty("orders.carts.localstorage", "true");
+
+        CoherenceConfiguration config = CoherenceConfiguration.builder()
+                .withSessions(session(UsersSession.NAME, "users-cache-config.xml"),
+                              session(CartsSession.NAME, "carts-cache-config.xml"))
+                .build();
+        coherence = Coherence.clusterMember(config).start().join();
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        Coherence.closeAll();
+    }
+
+    @Test
+    void testReadUserDetailsWrittenByUsersService() {
+        Session session = coherence.getSession(UsersSession.NAME);
+        NamedMap<String, User> users = session.getMap("users");
+        assertThat(users.getService().getInfo().getServiceName(), is("Users"));
+
+        UserRepository repository = new CoherenceUserRepository(
+                users, session.getMap("addresses"), session.getMap("cards"),
+                new PasswordHasher(1000), new AuthCache(0, 0));
+        repository.register(new User("Homer", "Simpson", "homer@simpson.com", "homer", "pass"));
+        AddressId addressId = repository.addAddress("homer",
+                new com.oracle.coherence.examples.sockshop.helidon.users.Address(
+                        "742", "Evergreen Terrace", "Springfield", "12345", "USA"));
+        CardId cardId = repository.addCard("homer",
+                new com.oracle.coherence.examples.sockshop.helidon.users.Card("1234123412345678", "12/29", "123"));
+
+        CoLocatedUsersClient client = new CoLocatedUsersClient(
+                session.getMap("users"), session.getMap("addresses"), session.getMap("cards"));
+        UserDetails details = client.details(new UserDetailsRequest(
+                "homer", "homer:" + addressId.getAddressId(), "homer:" + cardId.getCardId()));
+
+        assertThat(details.getCustomer().getId(), is("homer"));
+        assertThat(details.getCustomer().getFirstName(), is("Homer"));
+        assertThat(details.getCustomer().getEmail(), is("homer@simpson.com"));
+        assertThat(details.getAddress().getStreet(), is("Evergreen Terrace"));
+        assertThat(details.getAddress().getCity(), is("Springfield"));
+        assertThat(details.getCard().getLongNum(), is("************5678"));
+        assertThat(details.getCard().getExpires(), is("12/29"));
+
+        UserDetails async = client.detailsAsync(new UserDetailsRequest(
+                "homer", "homer:" + addressId.getAddressId(), "homer:" + cardId.getCardId()))
+                .toCompletableFuture().join();
+        assertThat(async, is(details));
+    }
+
+    @Test
+    void testCheckoutCartWrittenByCartsService() {
+        Session session = coherence.getSession(CartsSession.NAME);
+        NamedMap<String, Cart> carts = session.getMap("carts");
+        assertThat(carts.getService().getInfo().getServiceName(), is("Carts"));
+
+        CartRepository repository = CartsService.repository(carts);
+        repository.addItem("bart", new com.oracle.coherence.examples.sockshop.helidon.carts.Item("X1", 2, 10f));
+        repository.addItem("bart", new com.oracle.coherence.examples.sockshop.helidon.carts.Item("X2", 1, 2.5f));
+
+        CartsServiceClient remote = new CartsServiceClient(repository);
+        CoLocatedCartsClient client = new CoLocatedCartsClient(session.getMap("carts"), remote);
+        assertThat(client.items("bart").getItems().size(), is(2));
+        assertThat(client.items("bart").getItems().get(1).getUnitPrice(), is(2.5f));
+        assertThat(client.items("lisa").getItems().isEmpty(), is(true));
+
+        // checking out a cart changes it, so it is left to the Carts service
+        CartItems cart = client.checkout("bart");
+        assertThat(remote.checkouts.get(), is(1));
+        assertThat(cart.getItems().size(), is(2));
+        assertThat(cart.getItems().get(0).getItemId(), is("X1"));
+        assertThat(cart.getItems().get(0).getQuantity(), is(2));
+        assertThat(cart.getItems().get(0).getUnitPrice(), is(10f));
+        assertThat(carts.get("bart"), is(nullValue()));
+        assertThat(client.checkoutAsync("bart").toCompletableFuture().join().getItems().isEmpty(), is(true));
+        assertThat(remote.checkouts.get(), is(2));
+    }
+
+    private static SessionConfiguration session(String name, String configUri) {
+        return SessionConfiguration.builder()
+                .named(name)
+                .withScopeName(Coherence.DEFAULT_SCOPE)
+                .withConfigUri(configUri)
+                .build();
+    }
+
+    /**
+     * A {@link CartsClient} that checks out carts using the repository of the
+     * Carts service, in place of the Carts service's gRPC API.
+     */
+    private static class CartsServiceClient implements CartsClient {
+        private final CartRepository repository;
+
+        private final AtomicInteger checkouts = new AtomicInteger();
+
+        CartsServiceClient(CartRepository repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public CartItems items(String cartId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Boolean clear(String cartId) {
+            return repository.deleteCart(cartId);
+        }
+
+        @Override
+        public CartItems checkout(String cartId) {
+            checkouts.incrementAndGet();
+            List<Item> items = new ArrayList<>();
+            repository.checkoutCart(cartId).forEach(item ->
+                    items.add(new Item(item.getItemId(), item.getQuantity(), item.getUnitPrice())));
+            return new CartItems(cartId, items);
+        }
+
+        @Override
+        public CompletionStage<CartItems> checkoutAsync(String cartId) {
+            return CompletableFuture.completedFuture(checkout(cartId));
+        }
+
+        @Override
+        public CartItems restore(CartItems cart) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<CartItems> restoreAsync(CartItems cart) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.grpc.MethodDescriptor;
+
+import io.helidon.grpc.api.Grpc;
+import io.helidon.grpc.core.MarshallerSupplier;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of a gRPC {@link MethodDescriptor.Marshaller} that
+ * uses a compact binary encoding for the messages of {@link CartGrpc}.
+ * <p>
+ * A cart is written as its identifier followed by the number of items and
+ * the fields of each item, in a fixed order, which the orders service reads
+ * into its own item class.
+ *
+ * @param <T> the type of value to be marshalled
+ */
+@Grpc.GrpcMarshaller
+public class BinaryMarshaller<T> implements MethodDescriptor.Marshaller<T> {
+    private static final Map<Class<?>, Codec<?>> CODECS = Map.of(
+            String.class, new Codec<String>(BinaryMarshaller::writeString, BinaryMarshaller::readString),
+            Boolean.class, new Codec<Boolean>(DataOutput::writeBoolean, DataInput::readBoolean),
+            CartItems.class, new Codec<CartItems>(BinaryMarshaller::writeCart, BinaryMarshaller::readCart));
+
+    private final Codec<T> codec;
+
+    /**
+     * Construct {@code BinaryMarshaller} instance.
+     *
+     * @param clazz the type of object to marshall
+     */
+    @SuppressWarnings("unchecked")
+    BinaryMarshaller(Class<T> clazz) {
+        codec = (Codec<T>) CODECS.get(clazz);
+        if (codec == null) {
+            throw new IllegalArgumentException("No binary encoding for " + clazz.getName());
+        }
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try {
+            codec.writer.write(new DataOutputStream(bytes), value);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    @Override
+    public T parse(InputStream in) {
+        try {
+            return codec.reader.read(new DataInputStream(in));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    static void writeCart(DataOutput out, CartItems cart) throws IOException {
+        writeString(out, cart.getCartId());
+        out.writeInt(cart.getItems().size());
+        for (Item item : cart.getItems()) {
+            writeString(out, item.getItemId());
+            out.writeInt(item.getQuantity());
+            out.writeFloat(item.getUnitPrice());
+        }
+    }
+
+    static CartItems readCart(DataInput in) throws IOException {
+        String cartId = readString(in);
+        int count = in.readInt();
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(readString(in), in.readInt(), in.readFloat()));
+        }
+        return new CartItems(cartId, items);
+    }
+
+    // ---- inner types -----------------------------------------------------
+
+    /**
+     * Writes a value of a specific type.
+     */
+    @FunctionalInterface
+    interface Writer<V> {
+        void write(DataOutput out, V value) throws IOException;
+    }
+
+    /**
+     * Reads a value of a specific type.
+     */
+    @FunctionalInterface
+    interface Reader<V> {
+        V read(DataInput in) throws IOException;
+    }
+
+    /**
+     * The encoding of a specific type.
+     */
+    private static class Codec<V> {
+        private final Writer<V> writer;
+        private final Reader<V> reader;
+
+        Codec(Writer<V> writer, Reader<V> reader) {
+            this.writer = writer;
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * A {@link MarshallerSupplier} implementation that supplies
+     * instances of {@link BinaryMarshaller}.
+     */
+    @Dependent
+    @Named("carts-binary")
+    public static class Supplier implements MarshallerSupplier {
+        @Override
+        public <T> MethodDescriptor.Marshaller<T> get(Class<T> clazz) {
+            return new BinaryMarshaller<>(clazz);
+        }
+    }
+}
@@ -7,13 +7,24 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.carts;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import jakarta.json.bind.annotation.JsonbTransient;
 
+import com.tangosol.util.ValueExtractor;
+
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 
 /**
@@ -22,6 +33,19 @@ import org.eclipse.microprofile.openapi.annotations.media.Schema;
 @Data
 @Schema(description = "Customer's shopping cart")
 public class Cart implements Serializable {
+    /**
+     * The serialization version of carts stored before the totals were
+     * maintained, which must not change, so those carts can still be read.
+     */
+    @Serial
+    private static final long serialVersionUID = -414242969936090180L;
+
+    /**
+     * The extractor for the IDs of all items in a cart, which is indexed so
+     * that carts containing specific items can be found without a full scan.
+     */
+    public static final ValueExtractor<Cart, Set<String>> ITEM_IDS = Cart::getItemIds;
+
     /**
      * The ID of the customer this cart belongs to.
      */
@@ -34,6 +58,23 @@ public class Cart implements Serializable {
     @JsonbTransient
     private List<Item> items = new ArrayList<>();
 
+    /**
+     * The total quantity of all items in the cart, maintained on every mutation.
+     */
+    @Schema(description = "The total quantity of all items in the cart")
+    @Setter(AccessLevel.NONE)
+    private int itemCount;
+
+    /**
+     * The total price of all items in the cart in cents, maintained on every
+     * mutation; kept in whole cents so that no rounding errors build up over
+     * many changes.
+     */
+    @JsonbTransient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long totalCents;
+
     /**
      * Default constructor.
      */
@@ -64,12 +105,37 @@ public class Cart implements Serializable {
     }
 
     /**
-     * Set the items list.
+     * Return the total price of all items in the cart.
+     *
+     * @return the total price of all items in the cart
+     */
+    @Schema(description = "The total price of all items in the cart")
+    public float getTotal() {
+        return totalCents / 100f;
+    }
+
+    /**
+     * Return the IDs of all items in this cart.
+     *
+     * @return the IDs of all items in this cart
+     */
+    @JsonbTransient
+    public Set<String> getItemIds() {
+        Set<String> ids = new HashSet<>(items.size());
+        items.forEach(item -> ids.add(item.getItemId()));
+        return ids;
+    }
+
+    /**
+     * Replace the items in this cart with the specified items.
      *
      * @param items the list of items
      */
     public void setItems(List<Item> items) {
-        items.stream().map(item -> item.setCart(this)).forEach(this.items::add);
+        this.items = new ArrayList<>(items.size());
+        itemCount = 0;
+        totalCents = 0;
+        items.forEach(this::attach);
     }
 
     /**
@@ -89,8 +155,7 @@ public class Cart implements Serializable {
             return existing.incrementQuantity(item.getQuantity());
         }
         else {
-            items.add(item.setCart(this));
-            return item;
+            return attach(item);
         }
     }
 
@@ -107,8 +172,7 @@ public class Cart implements Serializable {
             return existing.setQuantity(item.getQuantity());
         }
         else {
-            items.add(item.setCart(this));
-            return item;
+            return attach(item);
         }
     }
 
@@ -123,6 +187,8 @@ public class Cart implements Serializable {
         Item item = getItem(itemId);
         if (item != null) {
             items.remove(item);
+            adjustTotals(-item.getQuantity(), -item.getQuantity() * cents(item.getUnitPrice()));
+            item.setCart(null);
         }
         return this;
     }
@@ -140,4 +206,71 @@ public class Cart implements Serializable {
         other.getItems().forEach(item -> add(new Item(item)));
         return this;
     }
+
+    /**
+     * Update the price per unit of the items in this cart.
+     *
+     * @param prices the new prices, keyed by item ID
+     *
+     * @return {@code true} if the price of any item in this cart has changed
+     */
+    public boolean updatePrices(Map<String, Float> prices) {
+        boolean changed = false;
+        for (Item item : items) {
+            Float price = prices.get(item.getItemId());
+            if (price != null && price != item.getUnitPrice()) {
+                item.setUnitPrice(price);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Adjust the item count and total of this cart.
+     * <p/>
+     * Called whenever an item in this cart is added, removed or changed, so that
+     * the totals never have to be recomputed by iterating over all items.
+     *
+     * @param quantityDelta the change in item quantity
+     * @param centsDelta    the change in total price, in cents
+     */
+    void adjustTotals(int quantityDelta, long centsDelta) {
+        itemCount += quantityDelta;
+        totalCents += centsDelta;
+    }
+
+    /**
+     * Convert the specified price to whole cents.
+     *
+     * @param price the price to convert
+     *
+     * @return the price in cents
+     */
+    static long cents(float price) {
+        return Math.round(price * 100d);
+    }
+
+    /**
+     * Read this cart, and compute its totals from its items, as carts stored
+     * before the totals were maintained don't have them.
+     *
+     * @param in the stream to read this cart from
+     *
+     * @throws IOException            if an I/O error occurs
+     * @throws ClassNotFoundException if the class of an item can't be found
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        setItems(items);
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private Item attach(Item item) {
+        items.add(item.setCart(this));
+        adjustTotals(item.getQuantity(), item.getQuantity() * cents(item.getUnitPrice()));
+        return item;
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
+
+import com.tangosol.net.NamedMap;
+
+import com.tangosol.util.Filters;
+import com.tangosol.util.InvocableMap;
+
+/**
+ * Queries and bulk operations across all shopping carts.
+ * <p>
+ * Carts containing a specific item are found using the index on
+ * {@link Cart#ITEM_IDS}, and all calculations are done by aggregators and
+ * entry processors on the storage members, so carts are never sent to this
+ * service.
+ */
+@ApplicationScoped
+@RepositoryMetrics
+public class CartAnalytics {
+    private final NamedMap<String, Cart> carts;
+
+    @Inject
+    CartAnalytics(@Name("carts") NamedMap<String, Cart> carts) {
+        this.carts = carts;
+    }
+
+    /**
+     * Return the statistics of all items in carts, ordered by total quantity,
+     * in descending order.
+     *
+     * @return the statistics of all items in carts
+     */
+    @SampledSpan
+    public List<ItemStats> getItemStats() {
+        Map<String, ItemStats> stats = carts.aggregate(new ItemStatsAggregator(null));
+        return stats.values().stream()
+                .sorted(Comparator.comparingLong(ItemStats::getQuantity).reversed()
+                                .thenComparing(ItemStats::getItemId))
+                .toList();
+    }
+
+    /**
+     * Return the statistics of the specified item.
+     *
+     * @param itemId the item ID
+     *
+     * @return the statistics of the specified item, which are empty
+     *         if no cart contains it
+     */
+    @SampledSpan
+    public ItemStats getItemStats(String itemId) {
+        Map<String, ItemStats> stats = carts.aggregate(Filters.contains(Cart.ITEM_IDS, itemId),
+                                                       new ItemStatsAggregator(Set.of(itemId)));
+        return stats.getOrDefault(itemId, new ItemStats(itemId, 0, 0));
+    }
+
+    /**
+     * Remove the specified item from all carts.
+     *
+     * @param itemId the item ID
+     *
+     * @return the statistics of the removed item
+     */
+    @SampledSpan
+    public ItemStats removeItem(String itemId) {
+        Map<String, Integer> results = carts.invokeAll(Filters.contains(Cart.ITEM_IDS, itemId),
+                                                       removeItemProcessor(itemId));
+        ItemStats stats = new ItemStats(itemId, 0, 0);
+        results.values().forEach(quantity -> {
+            if (quantity > 0) {
+                stats.add(1, quantity);
+            }
+        });
+        return stats;
+    }
+
+    /**
+     * Return an entry processor that removes an item from a cart.
+     *
+     * @param itemId the item ID
+     *
+     * @return the entry processor, which returns the removed quantity
+     */
+    static InvocableMap.EntryProcessor<String, Cart, Integer> removeItemProcessor(String itemId) {
+        return entry -> {
+            Cart cart = entry.isPresent() ? entry.getValue() : null;
+            Item item = cart == null ? null : cart.getItem(itemId);
+            if (item == null) {
+                return 0;
+            }
+            entry.setValue(cart.remove(itemId));
+            return item.getQuantity();
+        };
+    }
+}
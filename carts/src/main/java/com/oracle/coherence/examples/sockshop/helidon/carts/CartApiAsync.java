@@ -36,6 +36,17 @@ public interface CartApiAsync {
             @Parameter(name = "customerId", description = "Customer identifier")
             @PathParam("customerId") String customerId);
 
+    @GET
+    @Path("{customerId}/summary")
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Return the summary of customer's shopping cart",
+               description = "The summary contains only the item count and the total "
+                       + "price, and is intended for mini-cart widgets that don't need "
+                       + "the full list of items")
+    CompletionStage<CartSummary> getCartSummary(
+            @Parameter(name = "customerId", description = "Customer identifier")
+            @PathParam("customerId") String customerId);
+
     @DELETE
     @Path("{customerId}")
     @Operation(summary = "Delete customer's shopping cart")
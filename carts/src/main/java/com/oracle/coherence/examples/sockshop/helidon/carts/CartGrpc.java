@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import io.helidon.grpc.api.Grpc;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of the Carts Service gRPC API.
+ * <p>
+ * In addition to reading and clearing a cart, it allows the orders service
+ * to check out a cart, which returns its items and removes it in a single
+ * call, and to restore the items if the order could not be created.
+ */
+@ApplicationScoped
+@Grpc.GrpcService("CartGrpc")
+@Grpc.GrpcMarshaller("carts-binary")
+@Slf4j
+public class CartGrpc {
+    /**
+     * Cart repository to use.
+     */
+    @Inject
+    private CartRepositoryAsync carts;
+
+    @Grpc.Unary
+    public CartItems items(String cartId) {
+        return new CartItems(cartId, carts.getItems(cartId).toCompletableFuture().join());
+    }
+
+    @Grpc.Unary
+    public Boolean clear(String cartId) {
+        return carts.deleteCart(cartId).toCompletableFuture().join();
+    }
+
+    @Grpc.Unary
+    public CartItems checkout(String cartId) {
+        log.debug("Checking out cart: {}", cartId);
+        return new CartItems(cartId, carts.checkoutCart(cartId).toCompletableFuture().join());
+    }
+
+    @Grpc.Unary
+    public CartItems restore(CartItems cart) {
+        log.debug("Restoring cart: {}", cart);
+        return new CartItems(cart.getCartId(), carts.addItems(cart.getCartId(), cart.getItems()).toCompletableFuture().join());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.util.List;
+
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+
+/**
+ * REST API for {@code /cart-items} service.
+ */
+public interface CartItemsApi {
+    @GET
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Return the statistics of all items in shopping carts",
+               description = "The statistics contain the number of carts that contain "
+                       + "each item and its total quantity, ordered by total quantity")
+    @APIResponse(
+            responseCode = "200",
+            description = "The statistics of all items in shopping carts",
+            content = @Content(mediaType = APPLICATION_JSON,
+                               schema = @Schema(type = SchemaType.ARRAY,
+                                                implementation = ItemStats.class)
+            ))
+    List<ItemStats> getItemStats();
+
+    @GET
+    @Path("{itemId}")
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Return the statistics of an item in shopping carts")
+    ItemStats getItemStats(@Parameter(name = "itemId", description = "Item identifier")
+                           @PathParam("itemId") String itemId);
+
+    @DELETE
+    @Path("{itemId}")
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Remove an item from all shopping carts",
+               description = "Used to clean up carts when an item is no longer available")
+    @APIResponse(responseCode = "200",
+                 description = "The statistics of the removed item")
+    ItemStats removeItem(@Parameter(name = "itemId", description = "Item identifier")
+                         @PathParam("itemId") String itemId);
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Path;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of the Cart Items REST API.
+ */
+@ApplicationScoped
+@Path("/cart-items")
+@Slf4j
+public class CartItemsResource implements CartItemsApi {
+
+    @Inject
+    private CartAnalytics analytics;
+
+    @Override
+    public List<ItemStats> getItemStats() {
+        log.debug("Getting statistics of all items in carts");
+        return analytics.getItemStats();
+    }
+
+    @Override
+    public ItemStats getItemStats(String itemId) {
+        log.debug("Getting statistics of item: {}", itemId);
+        return analytics.getItemStats(itemId);
+    }
+
+    @Override
+    public ItemStats removeItem(String itemId) {
+        ItemStats stats = analytics.removeItem(itemId);
+        log.info("Removed item {} from {} carts", itemId, stats.getCarts());
+        return stats;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.cdi.PropertyExtractor;
+import com.oracle.coherence.cdi.SessionName;
+import com.oracle.coherence.cdi.events.MapName;
+import com.oracle.coherence.cdi.events.Updated;
+
+import com.tangosol.net.NamedMap;
+
+import com.tangosol.util.Filters;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.MapEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Propagates sock price changes to the items in open carts.
+ * <p>
+ * Updates to the {@code socks} map are transformed on the storage members
+ * into just the old and new price, so this service doesn't need the catalog's
+ * data model. Price changes are collected and applied on a background thread
+ * with a single {@code invokeAll} per batch, which uses an index on the item
+ * IDs in each cart to touch only the carts that contain the affected socks.
+ * Changes that arrive while a batch is being applied are coalesced into the
+ * next one, and only the latest price of each sock is applied.
+ * <p>
+ * The {@code socks} map belongs to the {@code Catalog} cache service, so it
+ * is observed through the {@link CatalogSession}. Prices are only kept in
+ * sync when the carts and catalog services run in the same Coherence cluster.
+ */
+@ApplicationScoped
+@Slf4j
+public class CartPriceSync {
+    private final NamedMap<String, Cart> carts;
+
+    private final NamedMap<String, ?> socks;
+
+    private final Map<String, Float> pending = new ConcurrentHashMap<>();
+
+    private final AtomicInteger changes = new AtomicInteger();
+
+    @Inject
+    CartPriceSync(@Name("carts") NamedMap<String, Cart> carts,
+                  @Name("socks") @SessionName(CatalogSession.NAME) NamedMap<String, ?> socks) {
+        this.carts = carts;
+        this.socks = socks;
+    }
+
+    /**
+     * Add the index on the item IDs in each cart when the application starts.
+     *
+     * @param event  the application startup event
+     */
+    void init(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        carts.addIndex(Cart.ITEM_IDS, false, null);
+        log.info("Observing price changes in the {} service", socks.getService().getInfo().getServiceName());
+    }
+
+    /**
+     * Schedule a price update when the price of a sock changes.
+     *
+     * @param event  the map event, with the old and new price of the sock as values
+     */
+    void onPriceChanged(@Observes @SessionName(CatalogSession.NAME) @MapName("socks") @Updated @PropertyExtractor("price") MapEvent<String, Float> event) {
+        Float price = event.getNewValue();
+        if (price == null || price.equals(event.getOldValue())) {
+            return;
+        }
+
+        pending.put(event.getKey(), price);
+        // only the first change starts a sync; the sync thread picks up
+        // any changes that arrive while it is running
+        if (changes.getAndIncrement() == 0) {
+            Thread.ofVirtual().name("cart-price-sync").start(this::sync);
+        }
+    }
+
+    /**
+     * Apply pending price changes, repeating until no changes arrived during
+     * the update.
+     */
+    private void sync() {
+        int seen;
+        do {
+            seen = changes.get();
+            Map<String, Float> prices = drain();
+            if (!prices.isEmpty()) {
+                try {
+                    long start = System.nanoTime();
+                    int updated = updatePrices(prices);
+                    log.debug("Updated prices of {} socks in {} carts in {} ms",
+                              prices.size(), updated, (System.nanoTime() - start) / 1_000_000);
+                }
+                catch (RuntimeException e) {
+                    log.warn("Failed to update prices of {} socks in carts", prices.size(), e);
+                }
+            }
+        }
+        while (!changes.compareAndSet(seen, 0));
+    }
+
+    /**
+     * Update the prices of the specified socks in all carts that contain them.
+     *
+     * @param prices  the new prices, keyed by sock ID
+     *
+     * @return the number of carts updated
+     */
+    int updatePrices(Map<String, Float> prices) {
+        Map<String, Boolean> results = carts.invokeAll(
+                Filters.containsAny(Cart.ITEM_IDS, new HashSet<>(prices.keySet())),
+                updatePricesProcessor(prices));
+        return (int) results.values().stream().filter(Boolean::booleanValue).count();
+    }
+
+    /**
+     * Remove and return all pending price changes.
+     *
+     * @return the pending price changes
+     */
+    private Map<String, Float> drain() {
+        Map<String, Float> prices = new HashMap<>();
+        pending.forEach((sockId, price) -> {
+            // a newer price that arrives concurrently stays pending for the next batch
+            if (pending.remove(sockId, price)) {
+                prices.put(sockId, price);
+            }
+        });
+        return prices;
+    }
+
+    /**
+     * Return an entry processor that updates the prices of the items in a cart.
+     *
+     * @param prices  the new prices, keyed by item ID
+     *
+     * @return the entry processor, which returns whether the cart was updated
+     */
+    static InvocableMap.EntryProcessor<String, Cart, Boolean> updatePricesProcessor(Map<String, Float> prices) {
+        return entry -> {
+            if (!entry.isPresent()) {
+                return false;
+            }
+            Cart cart = entry.getValue();
+            if (cart.updatePrices(prices)) {
+                entry.setValue(cart);
+                return true;
+            }
+            return false;
+        };
+    }
+}
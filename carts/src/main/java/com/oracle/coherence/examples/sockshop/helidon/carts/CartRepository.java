@@ -30,6 +30,18 @@ public interface CartRepository {
      */
     boolean deleteCart(String customerId);
 
+    /**
+     * Remove the cart associated with the specified customer, and return its items.
+     * <p/>
+     * This is done atomically, so the items returned are exactly the items
+     * that were in the cart when it was removed.
+     *
+     * @param customerId the customer to check out the cart for
+     *
+     * @return the items from the removed cart, which could be empty, but never {@code null}
+     */
+    List<Item> checkoutCart(String customerId);
+
     /**
      * Merge the source cart into the target cart, and remove the source cart.
      *
@@ -40,6 +52,15 @@ public interface CartRepository {
      */
     boolean mergeCarts(String targetId, String sourceId);
 
+    /**
+     * Return the summary of the cart associated with the specified customer.
+     *
+     * @param customerId the customer to get the cart summary for
+     *
+     * @return the summary of the customer's cart; empty if the cart doesn't exist
+     */
+    CartSummary getCartSummary(String customerId);
+
     /**
      * Return the item with the specified ID from the specified cart, if present.
      *
@@ -94,4 +115,14 @@ public interface CartRepository {
      * @param itemId the item to remove
      */
     void deleteItem(String cartId, String itemId);
+
+    /**
+     * Apply specified item operations to the cart atomically, in a single invocation.
+     *
+     * @param cartId     the cart to apply the operations to
+     * @param operations the operations to apply, in order
+     *
+     * @return the cart after all the operations were applied
+     */
+    Cart applyItemOperations(String cartId, List<ItemOperation> operations);
 }
@@ -7,7 +7,9 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.carts;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -31,6 +33,18 @@ public interface CartRepositoryAsync {
      */
     CompletionStage<Boolean> deleteCart(String customerId);
 
+    /**
+     * Remove the cart associated with the specified customer, and return its items.
+     * <p/>
+     * This is done atomically, so the items returned are exactly the items
+     * that were in the cart when it was removed.
+     *
+     * @param customerId the customer to check out the cart for
+     *
+     * @return the items from the removed cart, which could be empty, but never {@code null}
+     */
+    CompletionStage<List<Item>> checkoutCart(String customerId);
+
     /**
      * Merge the source cart into the target cart, and remove the source cart.
      *
@@ -41,6 +55,15 @@ public interface CartRepositoryAsync {
      */
     CompletionStage<Boolean> mergeCarts(String targetId, String sourceId);
 
+    /**
+     * Return the summary of the cart associated with the specified customer.
+     *
+     * @param customerId the customer to get the cart summary for
+     *
+     * @return the summary of the customer's cart; empty if the cart doesn't exist
+     */
+    CompletionStage<CartSummary> getCartSummary(String customerId);
+
     /**
      * Return the item with the specified ID from the specified cart, if present.
      *
@@ -95,4 +118,66 @@ public interface CartRepositoryAsync {
      * @param itemId the item to remove
      */
     CompletionStage<Void> deleteItem(String cartId, String itemId);
+
+    /**
+     * Apply specified item operations to the cart atomically, in a single invocation.
+     *
+     * @param cartId     the cart to apply the operations to
+     * @param operations the operations to apply, in order
+     *
+     * @return the cart after all the operations were applied
+     */
+    CompletionStage<Cart> applyItemOperations(String cartId, List<ItemOperation> operations);
+
+    // ---- bulk operations -------------------------------------------------
+
+    /**
+     * Get existing or create new carts for all specified customers.
+     *
+     * @param customerIds the customers to get or create the carts for
+     *
+     * @return a map of existing or newly created carts, keyed by customer ID
+     */
+    CompletionStage<Map<String, Cart>> getOrCreateCarts(Collection<String> customerIds);
+
+    /**
+     * Delete carts associated with the specified customers.
+     *
+     * @param customerIds the customers to delete the carts for
+     *
+     * @return a map of customer IDs to a flag specifying whether the cart existed
+     */
+    CompletionStage<Map<String, Boolean>> deleteCarts(Collection<String> customerIds);
+
+    /**
+     * Add specified items to the cart in a single invocation.
+     *
+     * @param cartId the cart to add the items to
+     * @param items  the items to add
+     *
+     * @return the added or updated items, in the order they were specified
+     *
+     * @see #addItem(String, Item)
+     */
+    CompletionStage<List<Item>> addItems(String cartId, Collection<Item> items);
+
+    /**
+     * Update specified items in the cart in a single invocation.
+     *
+     * @param cartId the cart to update the items in
+     * @param items  the items to update or add
+     *
+     * @return the added or updated items, in the order they were specified
+     *
+     * @see #updateItem(String, Item)
+     */
+    CompletionStage<List<Item>> updateItems(String cartId, Collection<Item> items);
+
+    /**
+     * Remove specified items from the cart in a single invocation.
+     *
+     * @param cartId  the cart to remove the items from
+     * @param itemIds the items to remove
+     */
+    CompletionStage<Void> deleteItems(String cartId, Collection<String> itemIds);
 }
@@ -27,16 +27,22 @@ public class CartResource implements CartApi {
 
     @Override
     public Cart getCart(String customerId) {
-        log.info("Getting cart for customer: " + customerId);
+        log.info("Getting cart for customer: {}", customerId);
         return carts.getOrCreateCart(customerId);
     }
 
+    @Override
+    public CartSummary getCartSummary(String customerId) {
+        log.debug("Getting cart summary for customer: {}", customerId);
+        return carts.getCartSummary(customerId);
+    }
+
     @Override
     public Response deleteCart(String customerId) {
-        log.info("Deleting cart for customer: " + customerId);
+        log.info("Deleting cart for customer: {}", customerId);
         boolean deleted = carts.deleteCart(customerId);
         if (!deleted) {
-            log.warn("Cart not found for customer: " + customerId);
+            log.warn("Cart not found for customer: {}", customerId);
         }
         return deleted ?
                 Response.accepted().build() :
@@ -45,10 +51,10 @@ public class CartResource implements CartApi {
 
     @Override
     public Response mergeCarts(String customerId, String sessionId) {
-        log.info("Merging carts for customer: " + customerId + ", session: " + sessionId);
+        log.info("Merging carts for customer: {}, session: {}", customerId, sessionId);
         boolean fMerged = carts.mergeCarts(customerId, sessionId);
         if (!fMerged) {
-            log.debug("No session cart to merge for customer: " + customerId + " (session: " + sessionId + ")");
+            log.debug("No session cart to merge for customer: {} (session: {})", customerId, sessionId);
         }
         return fMerged
                 ? Response.accepted().build()
@@ -57,7 +63,7 @@ public class CartResource implements CartApi {
 
     @Override
     public ItemsApi getItems(String customerId) {
-        log.info("Getting items for customer: " + customerId);
+        log.info("Getting items for customer: {}", customerId);
         return new ItemsResource(carts, customerId);
     }
 }
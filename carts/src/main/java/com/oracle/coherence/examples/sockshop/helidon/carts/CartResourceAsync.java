@@ -12,8 +12,12 @@ import java.util.concurrent.CompletionStage;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
 /**
  * Implementation of the Cart Service REST API.
  */
@@ -24,14 +28,29 @@ public class CartResourceAsync implements CartApiAsync {
     @Inject
     private CartRepositoryAsync carts;
 
+    /**
+     * The maximum time an async request is allowed to take, in milliseconds.
+     */
+    @Inject
+    @ConfigProperty(name = "carts.async.timeout", defaultValue = "5000")
+    long timeoutMillis;
+
+    @Context
+    private HttpHeaders headers;
+
     @Override
     public CompletionStage<Cart> getCart(String customerId) {
-        return carts.getOrCreateCart(customerId);
+        return deadline().apply(() -> carts.getOrCreateCart(customerId));
+    }
+
+    @Override
+    public CompletionStage<CartSummary> getCartSummary(String customerId) {
+        return deadline().apply(() -> carts.getCartSummary(customerId));
     }
 
     @Override
     public CompletionStage<Response> deleteCart(String customerId) {
-        return carts.deleteCart(customerId)
+        return deadline().apply(() -> carts.deleteCart(customerId))
                 .thenApply(deleted ->
                         deleted
                          ? Response.accepted().build()
@@ -40,7 +59,7 @@ public class CartResourceAsync implements CartApiAsync {
 
     @Override
     public CompletionStage<Response> mergeCarts(String customerId, String sessionId) {
-        return carts.mergeCarts(customerId, sessionId)
+        return deadline().apply(() -> carts.mergeCarts(customerId, sessionId))
                 .thenApply(fMerged ->
                        fMerged
                         ? Response.accepted().build()
@@ -49,6 +68,12 @@ public class CartResourceAsync implements CartApiAsync {
 
     @Override
     public ItemsApiAsync getItems(String customerId) {
-        return new ItemsResourceAsync(carts, customerId);
+        return new ItemsResourceAsync(carts, customerId, deadline());
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private Deadline deadline() {
+        return Deadline.of(headers.getHeaderString(Deadline.HEADER), timeoutMillis);
     }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.io.Serializable;
+
+import com.tangosol.util.ValueExtractor;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * A lightweight projection of a shopping cart, containing totals only.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Customer's shopping cart summary")
+public class CartSummary implements Serializable {
+    /**
+     * The extractor that creates a summary from a cart where the cart lives,
+     * so that only the summary is sent over the wire.
+     */
+    public static final ValueExtractor<Cart, CartSummary> EXTRACTOR = CartSummary::new;
+
+    /**
+     * The ID of the customer this cart belongs to.
+     */
+    @Schema(description = "Customer identifier")
+    private String customerId;
+
+    /**
+     * The total quantity of all items in the cart.
+     */
+    @Schema(description = "The total quantity of all items in the cart")
+    private int itemCount;
+
+    /**
+     * The total price of all items in the cart.
+     */
+    @Schema(description = "The total price of all items in the cart")
+    private float total;
+
+    /**
+     * Create a summary of the specified cart.
+     *
+     * @param cart the cart to summarize
+     */
+    public CartSummary(Cart cart) {
+        this(cart.getCustomerId(), cart.getItemCount(), cart.getTotal());
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+
+import com.oracle.coherence.cdi.ConfigUri;
+import com.oracle.coherence.cdi.Scope;
+import com.oracle.coherence.cdi.SessionInitializer;
+
+import com.tangosol.net.Coherence;
+
+/**
+ * The Coherence session used to access the catalog's caches.
+ * <p>
+ * Each Sock Shop service only runs its own cache service, so the maps
+ * injected by name are local to the {@code Carts} service. This session
+ * joins the {@code Catalog} cache service as a storage disabled member, so
+ * the carts service can see the catalog's {@code socks} map, as long as both
+ * services run in the same Coherence cluster. The session uses the default
+ * scope, so that its service names are not prefixed, and match the names of
+ * the catalog's own services.
+ */
+@ApplicationScoped
+@Named(CatalogSession.NAME)
+@Scope(Coherence.DEFAULT_SCOPE)
+@ConfigUri("catalog-cache-config.xml")
+public class CatalogSession implements SessionInitializer {
+    /**
+     * The name of the catalog session.
+     */
+    public static final String NAME = "catalog";
+}
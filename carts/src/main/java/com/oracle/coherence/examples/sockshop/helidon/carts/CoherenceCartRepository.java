@@ -7,16 +7,21 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.carts;
 
-import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Alternative;
 import jakarta.inject.Inject;
 
 import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
 
 import com.tangosol.net.NamedMap;
 
+import com.tangosol.util.Aggregators;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static jakarta.interceptor.Interceptor.Priority.APPLICATION;
@@ -26,6 +31,7 @@ import static jakarta.interceptor.Interceptor.Priority.APPLICATION;
  * that that uses Coherence as a backend data store.
  */
 @ApplicationScoped
+@RepositoryMetrics
 @Alternative
 @Priority(APPLICATION)
 public class CoherenceCartRepository implements CartRepository {
@@ -36,13 +42,13 @@ public class CoherenceCartRepository implements CartRepository {
         this.carts = carts;
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public Cart getOrCreateCart(String customerId) {
         return carts.computeIfAbsent(customerId, v -> new Cart(customerId));
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public boolean mergeCarts(String targetId, String sourceId) {
         final Cart source = carts.remove(sourceId);
@@ -59,25 +65,41 @@ public class CoherenceCartRepository implements CartRepository {
         return true;
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public boolean deleteCart(String customerId) {
         return null != carts.remove(customerId);
     }
 
-    @WithSpan
+    @SampledSpan
+    @Override
+    public List<Item> checkoutCart(String customerId) {
+        Cart cart = carts.remove(customerId);
+        return cart == null ? new ArrayList<>() : cart.getItems();
+    }
+
+    @SampledSpan
+    @Override
+    public CartSummary getCartSummary(String customerId) {
+        // aggregate rather than invoke, so that reading the summary doesn't lock the cart
+        CartSummary summary = carts.aggregate(Collections.singleton(customerId), Aggregators.reduce(CartSummary.EXTRACTOR))
+                .get(customerId);
+        return summary == null ? new CartSummary(customerId, 0, 0f) : summary;
+    }
+
+    @SampledSpan
     @Override
     public Item getItem(String cartId, String itemId) {
         return getOrCreateCart(cartId).getItem(itemId);
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public List<Item> getItems(String cartId) {
         return getOrCreateCart(cartId).getItems();
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public Item addItem(String cartId, Item item) {
         return carts.invoke(cartId, entry -> {
@@ -88,7 +110,7 @@ public class CoherenceCartRepository implements CartRepository {
         });
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public Item updateItem(String cartId, Item item) {
         return carts.invoke(cartId, entry -> {
@@ -99,7 +121,7 @@ public class CoherenceCartRepository implements CartRepository {
         });
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public void deleteItem(String cartId, String itemId) {
         carts.invoke(cartId, entry -> {
@@ -109,4 +131,16 @@ public class CoherenceCartRepository implements CartRepository {
             return null;
         });
     }
+
+    @SampledSpan
+    @Override
+    public Cart applyItemOperations(String cartId, List<ItemOperation> operations) {
+        List<ItemOperation> ops = new ArrayList<>(operations);
+        return carts.invoke(cartId, entry -> {
+            Cart cart = entry.getValue(new Cart(entry.getKey()));
+            ops.forEach(op -> op.apply(cart));
+            entry.setValue(cart);
+            return cart;
+        });
+    }
 }
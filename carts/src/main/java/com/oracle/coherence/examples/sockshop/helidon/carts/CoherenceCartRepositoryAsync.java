@@ -10,24 +10,32 @@ package com.oracle.coherence.examples.sockshop.helidon.carts;
 import static jakarta.interceptor.Interceptor.Priority.APPLICATION;
 
 import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
 import com.tangosol.net.AsyncNamedMap;
+import com.tangosol.util.Aggregators;
 
-import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Alternative;
 import jakarta.inject.Inject;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 /**
  * An implementation of {@link CartRepository} that that uses Coherence as a backend data
  * store.
  */
 @ApplicationScoped
+@RepositoryMetrics
 @Alternative
 @Priority(APPLICATION)
 public class CoherenceCartRepositoryAsync implements CartRepositoryAsync {
@@ -38,55 +46,54 @@ public class CoherenceCartRepositoryAsync implements CartRepositoryAsync {
         this.carts = carts;
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public CompletionStage<Boolean> deleteCart(String customerId) {
         return carts.remove(customerId).thenApply(Objects::nonNull);
     }
 
-    @WithSpan
+    @SampledSpan
+    @Override
+    public CompletionStage<List<Item>> checkoutCart(String customerId) {
+        return carts.remove(customerId)
+                .thenApply(cart -> cart == null ? new ArrayList<>() : cart.getItems());
+    }
+
+    @SampledSpan
     @Override
     public CompletionStage<Boolean> mergeCarts(String targetId, String sourceId) {
-        CompletableFuture<Boolean> future = new CompletableFuture<>();
-        carts.remove(sourceId)
-                .whenComplete((source, t1) -> {
-                    if (t1 != null) {
-                        future.completeExceptionally(t1);
-                    } else {
-                        if (source == null) {
-                            future.complete(false);
-                        } else {
-                            carts.invoke(targetId, entry -> {
-                                Cart cart = entry.getValue(new Cart(entry.getKey()));
-                                entry.setValue(cart.merge(source));
-                                return null;
-                            }).whenComplete((target, t2) -> {
-                                if (t2 != null) {
-                                    future.completeExceptionally(t2);
-                                } else {
-                                    future.complete(true);
-                                }
-                            });
-                        }
-                    }
-                });
-
-        return future;
-    }
-
-    @WithSpan
+        return carts.remove(sourceId)
+                .thenCompose(source -> source == null
+                        ? CompletableFuture.completedFuture(false)
+                        : carts.invoke(targetId, entry -> {
+                            Cart cart = entry.getValue(new Cart(entry.getKey()));
+                            entry.setValue(cart.merge(source));
+                            return null;
+                        }).thenApply(ignore -> true));
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<CartSummary> getCartSummary(String customerId) {
+        // aggregate rather than invoke, so that reading the summary doesn't lock the cart
+        return carts.aggregate(Collections.singleton(customerId), Aggregators.reduce(CartSummary.EXTRACTOR))
+                .thenApply(summaries -> summaries.get(customerId))
+                .thenApply(summary -> summary == null ? new CartSummary(customerId, 0, 0f) : summary);
+    }
+
+    @SampledSpan
     @Override
     public CompletionStage<Item> getItem(String cartId, String itemId) {
         return getOrCreateCart(cartId).thenApply(cart -> cart.getItem(itemId));
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public CompletionStage<List<Item>> getItems(String cartId) {
         return getOrCreateCart(cartId).thenApply(Cart::getItems);
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public CompletionStage<Item> addItem(String cartId, Item item) {
         return carts.invoke(cartId, entry -> {
@@ -97,7 +104,7 @@ public class CoherenceCartRepositoryAsync implements CartRepositoryAsync {
         });
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public CompletionStage<Item> updateItem(String cartId, Item item) {
         return carts.invoke(cartId, entry -> {
@@ -108,7 +115,7 @@ public class CoherenceCartRepositoryAsync implements CartRepositoryAsync {
         });
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public CompletionStage<Void> deleteItem(String cartId, String itemId) {
         return carts.invoke(cartId, entry -> {
@@ -119,9 +126,78 @@ public class CoherenceCartRepositoryAsync implements CartRepositoryAsync {
         }).thenAccept(cart -> {});
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public CompletionStage<Cart> getOrCreateCart(String customerId) {
         return carts.computeIfAbsent(customerId, v -> new Cart(customerId));
     }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<Cart> applyItemOperations(String cartId, List<ItemOperation> operations) {
+        List<ItemOperation> ops = new ArrayList<>(operations);
+        return carts.invoke(cartId, entry -> {
+            Cart cart = entry.getValue(new Cart(entry.getKey()));
+            ops.forEach(op -> op.apply(cart));
+            entry.setValue(cart);
+            return cart;
+        });
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<Map<String, Cart>> getOrCreateCarts(Collection<String> customerIds) {
+        return carts.invokeAll(new ArrayList<>(customerIds), entry -> {
+            if (!entry.isPresent()) {
+                entry.setValue(new Cart(entry.getKey()));
+            }
+            return entry.getValue();
+        });
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<Map<String, Boolean>> deleteCarts(Collection<String> customerIds) {
+        return carts.invokeAll(new ArrayList<>(customerIds), entry -> {
+            boolean fPresent = entry.isPresent();
+            entry.remove(false);
+            return fPresent;
+        });
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<List<Item>> addItems(String cartId, Collection<Item> items) {
+        List<Item> toAdd = new ArrayList<>(items);
+        return carts.invoke(cartId, entry -> {
+            Cart cart = entry.getValue(new Cart(entry.getKey()));
+            List<Item> newItems = toAdd.stream().map(cart::add).collect(Collectors.toList());
+            entry.setValue(cart);
+            return newItems;
+        });
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<List<Item>> updateItems(String cartId, Collection<Item> items) {
+        List<Item> toUpdate = new ArrayList<>(items);
+        return carts.invoke(cartId, entry -> {
+            Cart cart = entry.getValue(new Cart(entry.getKey()));
+            List<Item> newItems = toUpdate.stream().map(cart::update).collect(Collectors.toList());
+            entry.setValue(cart);
+            return newItems;
+        });
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<Void> deleteItems(String cartId, Collection<String> itemIds) {
+        List<String> toDelete = new ArrayList<>(itemIds);
+        return carts.invoke(cartId, entry -> {
+            Cart cart = entry.getValue(new Cart(entry.getKey()));
+            toDelete.forEach(cart::remove);
+            entry.setValue(cart);
+            return null;
+        }).thenAccept(cart -> {});
+    }
 }
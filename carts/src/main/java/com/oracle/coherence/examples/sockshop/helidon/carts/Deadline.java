@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * The point in time by which an async request has to complete.
+ * <p/>
+ * The deadline is derived from the {@value #HEADER} request header, which
+ * callers can use to propagate their own remaining time budget (in milliseconds),
+ * and is capped by the configured server-side timeout.
+ */
+final class Deadline {
+    /**
+     * The name of the request header carrying the caller's time budget in milliseconds.
+     */
+    static final String HEADER = "X-Request-Timeout";
+
+    /**
+     * The deadline, as a {@link System#nanoTime()} value.
+     */
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Create a deadline for the current request.
+     *
+     * @param header         the value of the {@value #HEADER} header; can be {@code null}
+     * @param timeoutMillis  the maximum time a request is allowed to take
+     *
+     * @return the deadline for the current request
+     */
+    static Deadline of(String header, long timeoutMillis) {
+        long millis = timeoutMillis;
+        if (header != null) {
+            try {
+                millis = Math.min(millis, Long.parseLong(header.trim()));
+            }
+            catch (NumberFormatException ignore) {
+                // fall back to the configured timeout
+            }
+        }
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * Return the number of milliseconds left until this deadline expires.
+     *
+     * @return the remaining time in milliseconds; zero or negative if expired
+     */
+    long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * Start the specified operation and bound it by this deadline.
+     * <p/>
+     * The operation is not started at all if the deadline has already expired,
+     * and the returned stage completes with a {@link TimeoutException} as soon
+     * as the deadline expires. Once started, the operation itself is never
+     * cut short, so all stages of a composed write still run to completion;
+     * only the caller stops waiting for it.
+     *
+     * @param operation  the operation to start
+     * @param <T>        the type of the operation result
+     *
+     * @return the stage bound by this deadline
+     */
+    <T> CompletionStage<T> apply(Supplier<? extends CompletionStage<T>> operation) {
+        long remaining = remainingMillis();
+        if (remaining <= 0) {
+            return CompletableFuture.failedFuture(new TimeoutException("Request deadline expired"));
+        }
+        // time out a copy, as timing out the operation's own future would
+        // also stop any of its stages that have yet to run
+        return operation.get().toCompletableFuture().copy().orTimeout(remaining, TimeUnit.MILLISECONDS);
+    }
+}
@@ -7,6 +7,7 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.carts;
 
+import java.io.Serial;
 import java.io.Serializable;
 
 import jakarta.json.bind.annotation.JsonbTransient;
@@ -22,6 +23,13 @@ import org.eclipse.microprofile.openapi.annotations.media.Schema;
 @Data
 @Schema(description = "Shopping cart item")
 public class Item implements Serializable {
+    /**
+     * The serialization version of items stored before the cart totals were
+     * maintained, which must not change, so those items can still be read.
+     */
+    @Serial
+    private static final long serialVersionUID = 602328888414950822L;
+
     /**
      * The item identifier.
      */
@@ -110,7 +118,27 @@ public class Item implements Serializable {
      * @return this item
      */
     public Item setQuantity(int quantity) {
+        int delta = quantity - this.quantity;
         this.quantity = quantity;
+        if (cart != null) {
+            cart.adjustTotals(delta, delta * Cart.cents(unitPrice));
+        }
+        return this;
+    }
+
+    /**
+     * Set the item's price per unit.
+     *
+     * @param unitPrice the new price per unit
+     *
+     * @return this item
+     */
+    public Item setUnitPrice(float unitPrice) {
+        long delta = Cart.cents(unitPrice) - Cart.cents(this.unitPrice);
+        this.unitPrice = unitPrice;
+        if (cart != null) {
+            cart.adjustTotals(0, delta * quantity);
+        }
         return this;
     }
 
@@ -122,7 +150,6 @@ public class Item implements Serializable {
      * @return this item
      */
     public Item incrementQuantity(int count) {
-        this.quantity += count;
-        return this;
+        return setQuantity(quantity + count);
     }
 }
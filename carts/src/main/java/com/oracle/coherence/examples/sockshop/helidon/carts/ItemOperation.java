@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.io.Serializable;
+
+import jakarta.json.bind.adapter.JsonbAdapter;
+import jakarta.json.bind.annotation.JsonbTypeAdapter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * A single item operation within a batch of shopping cart changes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Shopping cart item operation")
+public class ItemOperation implements Serializable {
+    /**
+     * The type of the operation; {@code null} if missing or unknown.
+     */
+    @Schema(description = "The type of the operation")
+    @JsonbTypeAdapter(TypeAdapter.class)
+    private Type type;
+
+    /**
+     * The item identifier.
+     */
+    @Schema(description = "The item identifier")
+    private String itemId;
+
+    /**
+     * The item quantity; ignored by {@link Type#DELETE} operations.
+     */
+    @Schema(description = "The item quantity")
+    private int quantity;
+
+    /**
+     * The item's price per unit; ignored by {@link Type#DELETE} operations.
+     */
+    @Schema(description = "The item's price per unit")
+    private float unitPrice;
+
+    /**
+     * Return {@code true} if this operation can be applied to a cart.
+     *
+     * @return {@code true} if this operation has a known type and an item
+     *         identifier
+     */
+    public boolean canApply() {
+        return type != null && itemId != null;
+    }
+
+    /**
+     * Apply this operation to the specified cart.
+     * <p/>
+     * The semantics of each operation type are the same as the semantics of
+     * the corresponding single item REST operation, including the default
+     * quantity of one for added items.
+     *
+     * @param cart the cart to apply this operation to
+     *
+     * @return the specified cart, to enable fluent API
+     */
+    public Cart apply(Cart cart) {
+        switch (type) {
+            case ADD:
+                cart.add(new Item(itemId, quantity == 0 ? 1 : quantity, unitPrice));
+                break;
+            case UPDATE:
+                cart.update(new Item(itemId, quantity, unitPrice));
+                break;
+            case DELETE:
+                cart.remove(itemId);
+                break;
+        }
+        return cart;
+    }
+
+    /**
+     * Item operation types.
+     */
+    public enum Type {
+        /**
+         * Add item to the cart, or increment its quantity if present.
+         */
+        ADD,
+
+        /**
+         * Replace item in the cart, or add it if it's not present.
+         */
+        UPDATE,
+
+        /**
+         * Remove item from the cart, if present.
+         */
+        DELETE
+    }
+
+    /**
+     * Maps operation types to and from JSON, reading unknown types as
+     * {@code null}, so they can be rejected as invalid operations instead
+     * of failing the whole request body.
+     */
+    public static class TypeAdapter implements JsonbAdapter<Type, String> {
+        @Override
+        public String adaptToJson(Type type) {
+            return type.name();
+        }
+
+        @Override
+        public Type adaptFromJson(String name) {
+            for (Type type : Type.values()) {
+                if (type.name().equals(name)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+}
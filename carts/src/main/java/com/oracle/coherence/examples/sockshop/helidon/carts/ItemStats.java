@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * Statistics of a single item across all shopping carts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Statistics of an item across all shopping carts")
+public class ItemStats implements Serializable {
+    /**
+     * The item identifier.
+     */
+    @Schema(description = "The item identifier")
+    private String itemId;
+
+    /**
+     * The number of carts that contain the item.
+     */
+    @Schema(description = "The number of carts that contain the item")
+    private int carts;
+
+    /**
+     * The total quantity of the item in all carts.
+     */
+    @Schema(description = "The total quantity of the item in all carts")
+    private long quantity;
+
+    /**
+     * Add the specified number of carts and quantity to this instance.
+     *
+     * @param carts    the number of carts to add
+     * @param quantity the quantity to add
+     *
+     * @return this instance
+     */
+    ItemStats add(int carts, long quantity) {
+        this.carts += carts;
+        this.quantity += quantity;
+        return this;
+    }
+}
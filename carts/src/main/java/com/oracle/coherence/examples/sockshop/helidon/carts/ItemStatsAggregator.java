@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.tangosol.util.InvocableMap;
+
+/**
+ * An aggregator that calculates the number of carts containing each item,
+ * and the total quantity of each item in all carts.
+ * <p>
+ * The aggregator runs in parallel on the storage members, so only the
+ * per-item statistics are sent over the wire, instead of the carts.
+ */
+public class ItemStatsAggregator
+        implements InvocableMap.StreamingAggregator<String, Cart, Map<String, ItemStats>, Map<String, ItemStats>>,
+                   Serializable {
+    /**
+     * The IDs of the items to calculate the statistics for,
+     * or {@code null} to calculate them for all items.
+     */
+    private final Set<String> itemIds;
+
+    /**
+     * The statistics calculated so far.
+     */
+    private transient Map<String, ItemStats> stats;
+
+    /**
+     * Construct ItemStatsAggregator instance.
+     *
+     * @param itemIds the IDs of the items to calculate the statistics for,
+     *                or {@code null} to calculate them for all items
+     */
+    public ItemStatsAggregator(Set<String> itemIds) {
+        this.itemIds = itemIds;
+    }
+
+    @Override
+    public InvocableMap.StreamingAggregator<String, Cart, Map<String, ItemStats>, Map<String, ItemStats>> supply() {
+        return new ItemStatsAggregator(itemIds);
+    }
+
+    @Override
+    public boolean accumulate(InvocableMap.Entry<? extends String, ? extends Cart> entry) {
+        for (Item item : entry.getValue().getItems()) {
+            String itemId = item.getItemId();
+            if (itemIds == null || itemIds.contains(itemId)) {
+                stats().computeIfAbsent(itemId, id -> new ItemStats(id, 0, 0))
+                        .add(1, item.getQuantity());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean combine(Map<String, ItemStats> partialResult) {
+        partialResult.forEach((itemId, partial) -> stats().merge(itemId, partial,
+                (total, other) -> total.add(other.getCarts(), other.getQuantity())));
+        return true;
+    }
+
+    @Override
+    public Map<String, ItemStats> getPartialResult() {
+        return stats();
+    }
+
+    @Override
+    public Map<String, ItemStats> finalizeResult() {
+        return stats();
+    }
+
+    @Override
+    public int characteristics() {
+        return PARALLEL | PRESENT_ONLY;
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private Map<String, ItemStats> stats() {
+        if (stats == null) {
+            stats = new HashMap<>();
+        }
+        return stats;
+    }
+}
@@ -91,4 +91,21 @@ public interface ItemsApi {
                        + "if it does")
     @APIResponse(responseCode = "202", description = "Regardless of whether the specified item exists in the cart")
     Response updateItem(@RequestBody(description = "Item to update") Item item);
+
+    @POST
+    @Path("batch")
+    @Consumes(APPLICATION_JSON)
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Apply a batch of item operations to the shopping cart",
+               description = "This operation will apply all specified item operations "
+                       + "to the shopping cart atomically, in the order they were "
+                       + "specified, and return the resulting list of items")
+    @APIResponse(
+            responseCode = "200",
+            description = "The list of products in the customer's shopping cart after the batch was applied",
+            content = @Content(mediaType = APPLICATION_JSON,
+                               schema = @Schema(type = SchemaType.ARRAY,
+                                                implementation = Item.class)
+            ))
+    List<Item> applyItemOperations(@RequestBody(description = "Item operations to apply") List<ItemOperation> operations);
 }
@@ -9,6 +9,7 @@ package com.oracle.coherence.examples.sockshop.helidon.carts;
 
 import java.util.List;
 
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 
@@ -61,4 +62,30 @@ public class ItemsResource implements ItemsApi {
         carts.updateItem(cartId, item);
         return Response.accepted().build();
     }
+
+    @Override
+    public List<Item> applyItemOperations(List<ItemOperation> operations) {
+        validate(operations);
+        return carts.applyItemOperations(cartId, operations).getItems();
+    }
+
+    /**
+     * Validate the specified item operations.
+     *
+     * @param operations the item operations to validate
+     *
+     * @throws BadRequestException if the operations are missing, or any of them
+     *         is missing its type or item identifier, or has an unknown type
+     */
+    static void validate(List<ItemOperation> operations) {
+        if (operations == null) {
+            throw new BadRequestException("Item operations are required.");
+        }
+        for (ItemOperation op : operations) {
+            if (op == null || !op.canApply()) {
+                throw new BadRequestException("Invalid item operation: " + op
+                        + ". Item operations require an itemId and a type of ADD, UPDATE or DELETE.");
+            }
+        }
+    }
 }
@@ -20,15 +20,17 @@ public class ItemsResourceAsync implements ItemsApiAsync {
 
     private final CartRepositoryAsync carts;
     private final String cartId;
+    private final Deadline deadline;
 
-    ItemsResourceAsync(CartRepositoryAsync carts, String cartId) {
+    ItemsResourceAsync(CartRepositoryAsync carts, String cartId, Deadline deadline) {
         this.carts = carts;
         this.cartId = cartId;
+        this.deadline = deadline;
     }
 
     @Override
     public CompletionStage<List<Item>> getItems() {
-        return carts.getItems(cartId);
+        return deadline.apply(() -> carts.getItems(cartId));
     }
 
     @Override
@@ -37,13 +39,13 @@ public class ItemsResourceAsync implements ItemsApiAsync {
             item.setQuantity(1);
         }
 
-        return carts.addItem(cartId, item)
+        return deadline.apply(() -> carts.addItem(cartId, item))
                     .thenApply(result -> Response.status(Status.CREATED).entity(result).build());
     }
 
     @Override
     public CompletionStage<Response> getItem(String itemId) {
-        return carts.getItem(cartId, itemId)
+        return deadline.apply(() -> carts.getItem(cartId, itemId))
                     .thenApply(item ->
                             item == null
                             ? Response.status(Status.NOT_FOUND).build()
@@ -52,13 +54,20 @@ public class ItemsResourceAsync implements ItemsApiAsync {
 
     @Override
     public CompletionStage<Response> deleteItem(String itemId) {
-        return carts.deleteItem(cartId, itemId)
+        return deadline.apply(() -> carts.deleteItem(cartId, itemId))
                 .thenApply(ignore -> Response.accepted().build());
     }
 
     @Override
     public CompletionStage<Response> updateItem(Item item) {
-        return carts.updateItem(cartId, item)
+        return deadline.apply(() -> carts.updateItem(cartId, item))
                 .thenApply(ignore -> Response.accepted().build());
     }
+
+    @Override
+    public CompletionStage<List<Item>> applyItemOperations(List<ItemOperation> operations) {
+        ItemsResource.validate(operations);
+        return deadline.apply(() -> carts.applyItemOperations(cartId, operations))
+                .thenApply(Cart::getItems);
+    }
 }
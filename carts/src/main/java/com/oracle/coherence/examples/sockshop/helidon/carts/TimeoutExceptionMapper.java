@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.util.concurrent.TimeoutException;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+import static jakarta.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
+
+/**
+ * Exception mapper for async requests that did not complete before their {@link Deadline}.
+ */
+@ApplicationScoped
+@Provider
+public class TimeoutExceptionMapper
+        implements ExceptionMapper<TimeoutException> {
+    @Override
+    public Response toResponse(TimeoutException exception)
+    {
+        return Response
+                .status(SERVICE_UNAVAILABLE)
+                .build();
+    }
+}
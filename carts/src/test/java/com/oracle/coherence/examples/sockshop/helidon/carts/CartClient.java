@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import io.helidon.grpc.api.Grpc;
+
+@Grpc.GrpcService("CartGrpc")
+@Grpc.GrpcMarshaller("carts-binary")
+public interface CartClient {
+    @Grpc.Unary
+    CartItems items(String cartId);
+
+    @Grpc.Unary
+    Boolean clear(String cartId);
+
+    @Grpc.Unary
+    CartItems checkout(String cartId);
+
+    @Grpc.Unary
+    CartItems restore(CartItems cart);
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import io.helidon.grpc.api.Grpc;
+
+import io.helidon.microprofile.grpc.client.GrpcClientCdiExtension;
+import io.helidon.microprofile.grpc.client.GrpcConfigurablePort;
+import io.helidon.microprofile.grpc.server.GrpcMpCdiExtension;
+
+import io.helidon.microprofile.testing.junit5.AddBean;
+import io.helidon.microprofile.testing.junit5.AddExtension;
+import io.helidon.microprofile.testing.junit5.HelidonTest;
+
+import jakarta.inject.Inject;
+
+import jakarta.ws.rs.client.WebTarget;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for {@link CartGrpc}.
+ */
+@HelidonTest
+@AddBean(CartClient.class)
+@AddExtension(GrpcMpCdiExtension.class)
+@AddExtension(GrpcClientCdiExtension.class)
+public class CartGrpcIT {
+    @BeforeAll
+    static void startServer() {
+        // disable global tracing so we can start server in multiple test suites
+        System.setProperty("tracing.global", "false");
+        System.setProperty("grpc.port", "0");
+    }
+
+    @Inject
+    private WebTarget target;
+
+    @Inject
+    @Grpc.GrpcProxy
+    private CartClient client;
+
+    @Inject
+    private CartRepository carts;
+
+    @BeforeEach
+    void setup() {
+        if (client instanceof GrpcConfigurablePort client) {
+            client.channelPort(target.getUri().getPort());
+        }
+        carts.deleteCart("C1");
+        carts.addItem("C1", new Item("X1", 5, 10f));
+        carts.addItem("C1", new Item("X2", 3, 5.99f));
+    }
+
+    @Test
+    void testItems() {
+        CartItems cart = client.items("C1");
+        assertThat(cart.getCartId(), is("C1"));
+        assertThat(cart.getItems(), hasSize(2));
+        assertThat(cart.getItems().get(0).getItemId(), is("X1"));
+        assertThat(cart.getItems().get(0).getQuantity(), is(5));
+        assertThat(cart.getItems().get(1).getUnitPrice(), is(5.99f));
+    }
+
+    @Test
+    void testClear() {
+        assertThat(client.clear("C1"), is(true));
+        assertThat(client.clear("C1"), is(false));
+        assertThat(carts.getCartSummary("C1").getItemCount(), is(0));
+    }
+
+    @Test
+    void testCheckoutAndRestore() {
+        CartItems cart = client.checkout("C1");
+        assertThat(cart.getItems(), hasSize(2));
+        assertThat(carts.getCartSummary("C1").getItemCount(), is(0));
+
+        // items added after the checkout are kept when the cart is restored
+        carts.addItem("C1", new Item("X1", 1, 10f));
+        client.restore(cart);
+        assertThat(carts.getItem("C1", "X1").getQuantity(), is(6));
+        assertThat(carts.getItem("C1", "X2").getQuantity(), is(3));
+    }
+}
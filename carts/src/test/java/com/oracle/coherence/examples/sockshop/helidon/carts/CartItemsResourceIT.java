@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import jakarta.enterprise.inject.spi.CDI;
+
+import io.helidon.microprofile.server.Server;
+
+import io.restassured.RestAssured;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.when;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Integration tests for {@link CartItemsResource}.
+ */
+public class CartItemsResourceIT {
+    private static Server SERVER;
+
+    private CartRepository carts;
+
+    /**
+     * This will start the application on ephemeral port to avoid port conflicts.
+     * We can discover the actual port by calling {@link io.helidon.microprofile.server.Server#port()} method afterwards.
+     */
+    @BeforeAll
+    static void startServer() {
+        // disable global tracing so we can start server in multiple test suites
+        System.setProperty("tracing.global", "false");
+        SERVER = Server.builder().port(0).build().start();
+    }
+
+    /**
+     * Stop the server, as we cannot have multiple servers started at the same time.
+     */
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop();
+    }
+
+    @BeforeEach
+    void setup() {
+        // Configure RestAssured to run tests against our application
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = SERVER.port();
+
+        carts = CDI.current().select(CartRepository.class).get();
+        carts.deleteCart("CI-1");
+        carts.deleteCart("CI-2");
+        carts.deleteCart("CI-3");
+
+        carts.addItem("CI-1", new Item("SKU-1", 5, 10f));
+        carts.addItem("CI-1", new Item("SKU-2", 2, 2.5f));
+        carts.addItem("CI-2", new Item("SKU-1", 1, 10f));
+        carts.addItem("CI-3", new Item("SKU-3", 4, 1f));
+    }
+
+    @Test
+    void testGetAllItemStats() {
+        when().
+                get("/cart-items").
+        then().
+                statusCode(200).
+                body("find { it.itemId == 'SKU-1' }.carts", is(2),
+                     "find { it.itemId == 'SKU-1' }.quantity", is(6),
+                     "find { it.itemId == 'SKU-3' }.quantity", is(4),
+                     "find { it.itemId == 'SKU-2' }.quantity", is(2));
+    }
+
+    @Test
+    void testGetItemStats() {
+        when().
+                get("/cart-items/{itemId}", "SKU-1").
+        then().
+                statusCode(200).
+                body("itemId", is("SKU-1"),
+                     "carts", is(2),
+                     "quantity", is(6));
+
+        when().
+                get("/cart-items/{itemId}", "SKU-4").
+        then().
+                statusCode(200).
+                body("carts", is(0),
+                     "quantity", is(0));
+    }
+
+    @Test
+    void testRemoveItem() {
+        when().
+                delete("/cart-items/{itemId}", "SKU-1").
+        then().
+                statusCode(200).
+                body("carts", is(2),
+                     "quantity", is(6));
+
+        assertThat(carts.getItem("CI-1", "SKU-1"), nullValue());
+        assertThat(carts.getItem("CI-2", "SKU-1"), nullValue());
+        assertThat(carts.getCartSummary("CI-1").getTotal(), is(5f));
+    }
+}
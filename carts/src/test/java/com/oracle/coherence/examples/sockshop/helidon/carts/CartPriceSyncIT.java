@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.enterprise.inject.spi.CDI;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedMap;
+
+import io.helidon.microprofile.server.Server;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for {@link CartPriceSync}.
+ * <p>
+ * The test JVM stores the catalog's {@code socks} map, and changes prices in
+ * it the same way the catalog service does, through the {@code Catalog}
+ * cache service.
+ */
+public class CartPriceSyncIT {
+    private static Server SERVER;
+
+    private CartRepository carts;
+
+    private NamedMap<String, Map<String, Serializable>> socks;
+
+    @BeforeAll
+    static void startServer() {
+        // disable global tracing so we can start server in multiple test suites
+        System.setProperty("tracing.global", "false");
+        // there is no catalog service in this cluster, so store its data here
+        System.setProperty("carts.catalog.localstorage", "true");
+        SERVER = Server.builder().port(0).build().start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop();
+        System.clearProperty("carts.catalog.localstorage");
+    }
+
+    @BeforeEach
+    void setup() {
+        carts = CDI.current().select(CartRepository.class).get();
+        carts.deleteCart("C1");
+        carts.deleteCart("C2");
+
+        socks = Coherence.getInstance().getSession(CatalogSession.NAME).getMap("socks");
+        socks.clear();
+    }
+
+    @Test
+    void testCatalogPriceChangeUpdatesCartTotal() throws InterruptedException {
+        socks.put("X1", sock("X1", 10f));
+        socks.put("X2", sock("X2", 5f));
+        carts.addItem("C1", new Item("X1", 2, 10f));
+        carts.addItem("C1", new Item("X2", 1, 5f));
+        carts.addItem("C2", new Item("X2", 3, 5f));
+
+        socks.put("X1", sock("X1", 12.5f));
+
+        assertThat(awaitTotal("C1", 30f), is(30f));
+        assertThat(carts.getItem("C1", "X1").getUnitPrice(), is(12.5f));
+        assertThat(carts.getCartSummary("C2").getTotal(), is(15f));
+    }
+
+    @Test
+    void testSocksMapIsOwnedByCatalogService() {
+        assertThat(socks.getService().getInfo().getServiceName(), is("Catalog"));
+        assertThat(Coherence.getInstance().getSession().getMap("carts").getService().getInfo().getServiceName(),
+                   is("Carts"));
+    }
+
+    private float awaitTotal(String cartId, float expected) throws InterruptedException {
+        long end = System.currentTimeMillis() + 10_000;
+        float total = carts.getCartSummary(cartId).getTotal();
+        while (total != expected && System.currentTimeMillis() < end) {
+            Thread.sleep(100);
+            total = carts.getCartSummary(cartId).getTotal();
+        }
+        return total;
+    }
+
+    private static Map<String, Serializable> sock(String id, float price) {
+        Map<String, Serializable> sock = new HashMap<>();
+        sock.put("id", id);
+        sock.put("price", price);
+        return sock;
+    }
+}
@@ -7,6 +7,13 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.carts;
 
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,6 +61,21 @@ public abstract class CartRepositoryTest {
         assertThat(carts.mergeCarts("C1", "C2"), is(false));
     }
 
+    @Test
+    void testCartCheckout() {
+        carts.addItem("C1", new Item("X1", 5, 10f));
+        carts.addItem("C1", new Item("X2", 3, 5.99f));
+
+        List<Item> items = carts.checkoutCart("C1");
+        assertThat(items.size(), is(2));
+        assertThat(items.get(0).getItemId(), is("X1"));
+        assertThat(items.get(1).getQuantity(), is(3));
+
+        // the cart should be gone, so the second checkout returns nothing
+        assertThat(carts.checkoutCart("C1").isEmpty(), is(true));
+        assertThat(carts.getCartSummary("C1").getItemCount(), is(0));
+    }
+
     @Test
     void testCartMerge() {
         carts.addItem("C1", new Item("X1", 5, 10f));
@@ -76,6 +98,40 @@ public abstract class CartRepositoryTest {
         assertThat(cart.getItem("X2").getQuantity(), is(6));
     }
 
+    @Test
+    void testConcurrentCartMerge() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            carts.deleteCart("C1");
+            carts.addItem("C1", new Item("X1", 5, 10f));
+            carts.addItem("C2", new Item("X1", 2, 10f));
+            carts.addItem("C2", new Item("X2", 3, 5.99f));
+
+            // merge the same source twice at the same time, as a retried login would
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Callable<Boolean> merge = () -> {
+                    start.await();
+                    return carts.mergeCarts("C1", "C2");
+                };
+                Future<Boolean> first = executor.submit(merge);
+                Future<Boolean> second = executor.submit(merge);
+                start.countDown();
+
+                // only one of them should merge the source cart
+                assertThat(first.get() ^ second.get(), is(true));
+            }
+            finally {
+                executor.shutdown();
+            }
+
+            Cart cart = carts.getOrCreateCart("C1");
+            assertThat(cart.getItem("X1").getQuantity(), is(7));
+            assertThat(cart.getItem("X2").getQuantity(), is(3));
+            assertThat(carts.mergeCarts("C1", "C2"), is(false));
+        }
+    }
+
     @Test
     void testItemAccess() {
         carts.addItem("C1", new Item("X1", 5, 10f));
@@ -92,4 +148,36 @@ public abstract class CartRepositoryTest {
         carts.deleteItem("C1", "X2");
         assertThat(carts.getItems("C1").size(), is(1));
     }
+
+    @Test
+    void testItemOperations() {
+        carts.addItem("C1", new Item("X1", 5, 10f));
+
+        Cart cart = carts.applyItemOperations("C1", List.of(
+                new ItemOperation(ItemOperation.Type.ADD, "X1", 2, 10f),
+                new ItemOperation(ItemOperation.Type.ADD, "X2", 0, 5.99f),
+                new ItemOperation(ItemOperation.Type.ADD, "X3", 1, 20f),
+                new ItemOperation(ItemOperation.Type.UPDATE, "X3", 4, 20f),
+                new ItemOperation(ItemOperation.Type.DELETE, "X2", 0, 0f)));
+
+        assertThat(cart.getItems().size(), is(2));
+        assertThat(cart.getItem("X1").getQuantity(), is(7));
+        assertThat(cart.getItem("X3").getQuantity(), is(4));
+        assertThat(carts.getItems("C1").size(), is(2));
+    }
+
+    @Test
+    void testCartSummary() {
+        CartSummary empty = carts.getCartSummary("C1");
+        assertThat(empty.getCustomerId(), is("C1"));
+        assertThat(empty.getItemCount(), is(0));
+
+        carts.addItem("C1", new Item("X1", 5, 10f));
+        carts.addItem("C1", new Item("X2", 2, 2.5f));
+        carts.updateItem("C1", new Item("X1", 3, 10f));
+
+        CartSummary summary = carts.getCartSummary("C1");
+        assertThat(summary.getItemCount(), is(5));
+        assertThat(summary.getTotal(), is(35f));
+    }
 }
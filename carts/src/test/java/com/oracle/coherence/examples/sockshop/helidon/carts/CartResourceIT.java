@@ -25,6 +25,7 @@ import static io.restassured.RestAssured.when;
 import static io.restassured.http.ContentType.JSON;
 
 import static jakarta.ws.rs.core.Response.Status.ACCEPTED;
+import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
 import static jakarta.ws.rs.core.Response.Status.CREATED;
 import static jakarta.ws.rs.core.Response.Status.NOT_FOUND;
 import static jakarta.ws.rs.core.Response.Status.OK;
@@ -94,6 +95,20 @@ public class CartResourceIT {
                      "items", nullValue());
     }
 
+    @Test
+    void testGetCartSummary() {
+        carts.addItem("C1", new Item("X1", 5, 10f));
+        carts.addItem("C1", new Item("X2", 2, 2.5f));
+
+        when().
+                get("/{cartId}/summary", "C1").
+        then().
+                statusCode(OK.getStatusCode()).
+                body("customerId", is("C1"),
+                     "itemCount", is(7),
+                     "total", is(55f));
+    }
+
     @Test
     void testDeleteCart() {
         carts.addItem("C1", new Item("X1", 5, 10f));
@@ -247,4 +262,55 @@ public class CartResourceIT {
         assertThat(carts.getItems("C1").size(), is(1));
         assertThat(carts.getItem("C1", "X1"), nullValue());
     }
+
+    @Test
+    void testApplyItemOperations() {
+        carts.addItem("C1", new Item("X1", 5, 10f));
+
+        given().
+                contentType(JSON).
+                body("[{\"type\":\"ADD\",\"itemId\":\"X1\",\"quantity\":2,\"unitPrice\":10.0},"
+                     + "{\"type\":\"ADD\",\"itemId\":\"X2\",\"quantity\":3,\"unitPrice\":17.0},"
+                     + "{\"type\":\"DELETE\",\"itemId\":\"X3\"}]").
+        when().
+                post("/{cartId}/items/batch", "C1").
+        then().
+                statusCode(OK.getStatusCode()).
+                body("itemId", hasItems("X1", "X2"));
+
+        assertThat(carts.getItems("C1").size(), is(2));
+        assertThat(carts.getItem("C1", "X1").getQuantity(), is(7));
+    }
+
+    @Test
+    void testApplyItemOperationsWithMissingType() {
+        carts.addItem("C1", new Item("X1", 5, 10f));
+
+        given().
+                contentType(JSON).
+                body("[{\"type\":\"ADD\",\"itemId\":\"X2\",\"quantity\":3,\"unitPrice\":17.0},"
+                     + "{\"itemId\":\"X1\"}]").
+        when().
+                post("/{cartId}/items/batch", "C1").
+        then().
+                statusCode(BAD_REQUEST.getStatusCode());
+
+        // none of the operations should've been applied
+        assertThat(carts.getItems("C1").size(), is(1));
+    }
+
+    @Test
+    void testApplyItemOperationsWithInvalidType() {
+        carts.addItem("C1", new Item("X1", 5, 10f));
+
+        given().
+                contentType(JSON).
+                body("[{\"type\":\"REPLACE\",\"itemId\":\"X1\",\"quantity\":2,\"unitPrice\":10.0}]").
+        when().
+                post("/{cartId}/items/batch", "C1").
+        then().
+                statusCode(BAD_REQUEST.getStatusCode());
+
+        assertThat(carts.getItem("C1", "X1").getQuantity(), is(5));
+    }
 }
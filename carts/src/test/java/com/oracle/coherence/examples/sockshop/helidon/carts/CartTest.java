@@ -7,6 +7,14 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.carts;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -99,4 +107,119 @@ class CartTest {
         assertThat(cart.getItem("X2").getQuantity(), is(6));
         assertThat(cart.getItem("X3"), is(t2));
     }
+
+    @Test
+    void testTotals() {
+        Cart cart = new Cart("123");
+        assertThat(cart.getItemCount(), is(0));
+        assertThat(cart.getTotal(), is(0f));
+
+        cart.add(new Item("X1", 5, 10f));
+        cart.add(new Item("X2", 2, 2.5f));
+        assertThat(cart.getItemCount(), is(7));
+        assertThat(cart.getTotal(), is(55f));
+
+        cart.add(new Item("X1", 1, 10f));
+        cart.update(new Item("X2", 4, 2.5f));
+        assertThat(cart.getItemCount(), is(10));
+        assertThat(cart.getTotal(), is(70f));
+
+        cart.getItem("X2").setUnitPrice(5f);
+        assertThat(cart.getTotal(), is(80f));
+
+        cart.remove("X1");
+        assertThat(cart.getItemCount(), is(4));
+        assertThat(cart.getTotal(), is(20f));
+    }
+
+    @Test
+    void testTotalsDoNotDrift() {
+        Cart cart = new Cart("123");
+        cart.add(new Item("X1", 1, 0.1f));
+        for (int i = 0; i < 10_000; i++) {
+            cart.add(new Item("X2", 3, 0.7f));
+            cart.getItem("X2").setUnitPrice(0.3f);
+            cart.remove("X2");
+        }
+        assertThat(cart.getItemCount(), is(1));
+        assertThat(cart.getTotal(), is(0.1f));
+    }
+
+    @Test
+    void testItemIds() {
+        Cart cart = new Cart("123");
+        assertThat(cart.getItemIds(), is(empty()));
+
+        cart.add(new Item("X1", 5, 10f));
+        cart.add(new Item("X2", 2, 2.5f));
+        assertThat(cart.getItemIds(), containsInAnyOrder("X1", "X2"));
+    }
+
+    @Test
+    void testUpdatePrices() {
+        Cart cart = new Cart("123");
+        cart.add(new Item("X1", 5, 10f));
+        cart.add(new Item("X2", 2, 2.5f));
+
+        assertThat(cart.updatePrices(Map.of("X1", 12f, "X3", 1f)), is(true));
+        assertThat(cart.getItem("X1").getUnitPrice(), is(12f));
+        assertThat(cart.getItem("X2").getUnitPrice(), is(2.5f));
+        assertThat(cart.getItemCount(), is(7));
+        assertThat(cart.getTotal(), is(65f));
+
+        assertThat(cart.updatePrices(Map.of("X1", 12f, "X3", 2f)), is(false));
+        assertThat(cart.getTotal(), is(65f));
+    }
+
+    @Test
+    void testSetItemsReplacesItems() {
+        Cart cart = new Cart("123");
+        cart.add(new Item("X1", 5, 10f));
+
+        cart.setItems(List.of(new Item("X2", 2, 2.5f), new Item("X3", 1, 4f)));
+        assertThat(cart.getItems(), hasSize(2));
+        assertThat(cart.getItem("X1"), is(nullValue()));
+        assertThat(cart.getItem("X2").getCart(), is(cart));
+        assertThat(cart.getItemCount(), is(3));
+        assertThat(cart.getTotal(), is(9f));
+    }
+
+    @Test
+    void testReadCartStoredWithoutTotals() throws Exception {
+        // serialized by the Cart class that didn't maintain the totals
+        Cart cart;
+        try (InputStream in = CartTest.class.getResourceAsStream("/legacy-cart.ser")) {
+            cart = (Cart) new ObjectInputStream(in).readObject();
+        }
+
+        assertThat(cart.getCustomerId(), is("legacy"));
+        assertThat(cart.getItems(), hasSize(2));
+        assertThat(cart.getItem("X1").getCart(), is(sameInstance(cart)));
+        assertThat(cart.getItemCount(), is(3));
+        assertThat(cart.getTotal(), is(24.25f));
+
+        cart.remove("X1");
+        assertThat(cart.getItemCount(), is(1));
+        assertThat(cart.getTotal(), is(3.25f));
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        Cart cart = new Cart("123");
+        cart.add(new Item("X1", 5, 10f));
+        cart.add(new Item("X2", 2, 2.5f));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(cart);
+        }
+        Cart copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (Cart) in.readObject();
+        }
+
+        assertThat(copy, is(cart));
+        assertThat(copy.getItemCount(), is(7));
+        assertThat(copy.getTotal(), is(55f));
+    }
 }
@@ -7,13 +7,21 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.carts;
 
+import java.util.List;
+import java.util.Map;
+
 import jakarta.enterprise.inject.spi.CDI;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 
 import io.helidon.microprofile.server.Server;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
 /**
  * Tests for Coherence repository implementation.
  */
@@ -44,4 +52,39 @@ class CoherenceCartRepositoryAsyncIT extends CartRepositoryTest {
         CartRepositoryAsync cartsAsync = CDI.current().select(CartRepositoryAsync.class).get();
         return new SyncCartRepository(cartsAsync);
     }
+
+    @Test
+    void testBulkItemOperations() {
+        CartRepositoryAsync carts = CDI.current().select(CartRepositoryAsync.class).get();
+        carts.deleteCart("C3").toCompletableFuture().join();
+
+        List<Item> added = carts.addItems("C3", List.of(new Item("X1", 1, 10f),
+                                                        new Item("X2", 2, 5f),
+                                                        new Item("X1", 2, 10f)))
+                .toCompletableFuture().join();
+        assertThat(added.size(), is(3));
+        assertThat(added.get(2).getQuantity(), is(3));
+
+        carts.updateItems("C3", List.of(new Item("X2", 7, 5f))).toCompletableFuture().join();
+        assertThat(carts.getItem("C3", "X2").toCompletableFuture().join().getQuantity(), is(7));
+
+        carts.deleteItems("C3", List.of("X1", "X2")).toCompletableFuture().join();
+        assertThat(carts.getItems("C3").toCompletableFuture().join().size(), is(0));
+    }
+
+    @Test
+    void testBulkCartOperations() {
+        CartRepositoryAsync carts = CDI.current().select(CartRepositoryAsync.class).get();
+        carts.deleteCarts(List.of("C3", "C4")).toCompletableFuture().join();
+
+        Map<String, Cart> created = carts.getOrCreateCarts(List.of("C3", "C4")).toCompletableFuture().join();
+        assertThat(created.get("C3").getCustomerId(), is("C3"));
+        assertThat(created.get("C4").getCustomerId(), is("C4"));
+
+        Map<String, Boolean> deleted = carts.deleteCarts(List.of("C3", "FOO")).toCompletableFuture().join();
+        assertThat(deleted.get("C3"), is(true));
+        assertThat(deleted.get("FOO"), is(false));
+        assertThat(carts.deleteCart("C4").toCompletableFuture().join(), is(true));
+        assertThat(carts.getItem("C3", "X1").toCompletableFuture().join(), is(nullValue()));
+    }
 }
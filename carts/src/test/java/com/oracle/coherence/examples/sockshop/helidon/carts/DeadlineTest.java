@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.carts;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link Deadline} and {@link TimeoutExceptionMapper}.
+ */
+class DeadlineTest {
+    @Test
+    void testHeaderCapsTimeout() {
+        assertThat(Deadline.of("100", 5000).remainingMillis() <= 100, is(true));
+        assertThat(Deadline.of("10000", 5000).remainingMillis() <= 5000, is(true));
+        assertThat(Deadline.of("foo", 5000).remainingMillis() > 100, is(true));
+    }
+
+    @Test
+    void testOperationCompletesBeforeDeadline() {
+        CompletionStage<String> result = Deadline.of(null, 5000)
+                .apply(() -> CompletableFuture.completedFuture("done"));
+
+        assertThat(result.toCompletableFuture().join(), is("done"));
+    }
+
+    @Test
+    void testExpiredDeadlineDoesNotStartOperation() {
+        AtomicBoolean started = new AtomicBoolean();
+        CompletionStage<String> result = Deadline.of("0", 5000).apply(() -> {
+            started.set(true);
+            return CompletableFuture.completedFuture("done");
+        });
+
+        CompletionException e = assertThrows(CompletionException.class, () -> result.toCompletableFuture().join());
+        assertThat(e.getCause(), is(instanceOf(TimeoutException.class)));
+        assertThat(started.get(), is(false));
+    }
+
+    @Test
+    void testOperationTimesOut() {
+        CompletionStage<String> result = Deadline.of("50", 5000).apply(CompletableFuture::new);
+
+        CompletionException e = assertThrows(CompletionException.class, () -> result.toCompletableFuture().join());
+        assertThat(e.getCause(), is(instanceOf(TimeoutException.class)));
+    }
+
+    @Test
+    void testComposedOperationCompletesAfterTimeout() {
+        // a two step write, where the second step can only start once the
+        // first one completes, which is after the deadline has expired
+        CompletableFuture<Void> firstStep = new CompletableFuture<>();
+        AtomicBoolean secondStepRan = new AtomicBoolean();
+        CompletableFuture<Boolean> operation = firstStep.thenCompose(ignore -> {
+            secondStepRan.set(true);
+            return CompletableFuture.completedFuture(true);
+        });
+
+        CompletionStage<Boolean> result = Deadline.of("50", 5000).apply(() -> operation);
+
+        CompletionException e = assertThrows(CompletionException.class, () -> result.toCompletableFuture().join());
+        assertThat(e.getCause(), is(instanceOf(TimeoutException.class)));
+
+        firstStep.complete(null);
+        assertThat(operation.join(), is(true));
+        assertThat(secondStepRan.get(), is(true));
+    }
+
+    @Test
+    void testTimeoutMapsToServiceUnavailable() {
+        Response response = new TimeoutExceptionMapper().toResponse(new TimeoutException());
+        assertThat(response.getStatus(), is(Response.Status.SERVICE_UNAVAILABLE.getStatusCode()));
+    }
+}
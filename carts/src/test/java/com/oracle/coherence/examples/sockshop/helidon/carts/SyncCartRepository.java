@@ -30,11 +30,21 @@ public class SyncCartRepository implements CartRepository {
         return carts.deleteCart(customerId).toCompletableFuture().join();
     }
 
+    @Override
+    public List<Item> checkoutCart(String customerId) {
+        return carts.checkoutCart(customerId).toCompletableFuture().join();
+    }
+
     @Override
     public boolean mergeCarts(String targetId, String sourceId) {
         return carts.mergeCarts(targetId, sourceId).toCompletableFuture().join();
     }
 
+    @Override
+    public CartSummary getCartSummary(String customerId) {
+        return carts.getCartSummary(customerId).toCompletableFuture().join();
+    }
+
     @Override
     public Item getItem(String cartId, String itemId) {
         return carts.getItem(cartId, itemId).toCompletableFuture().join();
@@ -59,4 +69,9 @@ public class SyncCartRepository implements CartRepository {
     public void deleteItem(String cartId, String itemId) {
         carts.deleteItem(cartId, itemId).toCompletableFuture().join();
     }
+
+    @Override
+    public Cart applyItemOperations(String cartId, List<ItemOperation> operations) {
+        return carts.applyItemOperations(cartId, operations).toCompletableFuture().join();
+    }
 }
@@ -7,8 +7,6 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.catalog;
 
-import java.util.Collection;
-
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
@@ -18,6 +16,9 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Response;
 
 import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
@@ -31,7 +32,9 @@ public interface CatalogApi {
     @GET
     @Produces(APPLICATION_JSON)
     @Operation(summary = "Return the socks that match the specified query parameters")
-    Collection<? extends Sock> getSocks(@Parameter(description = "tag identifiers")
+    @APIResponse(responseCode = "200", description = "the socks that match the query",
+                 content = @Content(schema = @Schema(type = SchemaType.ARRAY, implementation = Sock.class)))
+    Response getSocks(@Parameter(description = "tag identifiers")
            @QueryParam("tags") String tags,
            @Parameter(name = "order", description = "order identifier")
            @QueryParam("order") @DefaultValue("price") String order,
@@ -44,8 +47,29 @@ public interface CatalogApi {
     @Path("size")
     @Produces(APPLICATION_JSON)
     @Operation(summary = "Return sock count for the specified tag identifiers")
-    CatalogResource.Count getSockCount(@Parameter(description = "tag identifiers")
-                                       @QueryParam("tags") String tags);
+    @APIResponse(responseCode = "200", description = "the number of socks that match the query",
+                 content = @Content(schema = @Schema(implementation = CatalogResource.Count.class)))
+    Response getSockCount(@Parameter(description = "tag identifiers")
+                          @QueryParam("tags") String tags);
+
+    @GET
+    @Path("search")
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Search the socks by text, tags and price, with tag and price range facets")
+    SearchResult search(@Parameter(description = "text that every result must contain in its name or description")
+                        @QueryParam("q") String text,
+                        @Parameter(description = "tag identifiers")
+                        @QueryParam("tags") String tags,
+                        @Parameter(description = "inclusive minimum price")
+                        @QueryParam("minPrice") Float minPrice,
+                        @Parameter(description = "inclusive maximum price")
+                        @QueryParam("maxPrice") Float maxPrice,
+                        @Parameter(name = "order", description = "order identifier")
+                        @QueryParam("order") @DefaultValue("price") String order,
+                        @Parameter(description = "page number")
+                        @QueryParam("page") @DefaultValue("1") int pageNum,
+                        @Parameter(description = "page size")
+                        @QueryParam("size") @DefaultValue("10") int pageSize);
 
     @GET
     @Path("{id}")
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A repository interface that should be implemented by
+ * the various async data store integrations.
+ */
+public interface CatalogRepositoryAsync {
+    /**
+     * Return socks from the catalog based on the specified criteria.
+     *
+     * @param tags     a comma-separated list of tags; can be {@code null}
+     * @param order    the name of the property to order the results by;
+     *                 can be {@code price} or {@code name}
+     * @param pageNum  the page of results to return
+     * @param pageSize the maximum number of results to return
+     *
+     * @return a collection of {@code Sock}s based on the specified criteria
+     */
+    CompletionStage<Collection<Sock>> getSocks(String tags, String order, int pageNum, int pageSize);
+
+    /**
+     * Return a {@code Sock} with the specified identifier.
+     *
+     * @param sockId the sock identifier
+     *
+     * @return a {@code Sock} with the specified identifier
+     */
+    CompletionStage<Sock> getSock(String sockId);
+
+    /**
+     * Return the number of socks in the catalog based on the specified criteria.
+     *
+     * @param tags a comma-separated list of tags; can be {@code null}
+     *
+     * @return the number of socks in the catalog for the specified criteria
+     */
+    CompletionStage<Long> getSockCount(String tags);
+
+    /**
+     * Return all tags from the catalog.
+     *
+     * @return all tags from the catalog
+     */
+    CompletionStage<Set<String>> getTags();
+}
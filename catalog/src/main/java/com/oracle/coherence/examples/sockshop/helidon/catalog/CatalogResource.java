@@ -8,7 +8,6 @@
 package com.oracle.coherence.examples.sockshop.helidon.catalog;
 
 import java.io.InputStream;
-import java.util.Collection;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -17,6 +16,10 @@ import jakarta.ws.rs.core.Response;
 
 import lombok.extern.slf4j.Slf4j;
 
+import static com.oracle.coherence.examples.sockshop.helidon.catalog.CatalogResponseCache.sizeKey;
+import static com.oracle.coherence.examples.sockshop.helidon.catalog.CatalogResponseCache.sockKey;
+import static com.oracle.coherence.examples.sockshop.helidon.catalog.CatalogResponseCache.socksKey;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static jakarta.ws.rs.core.Response.Status.NOT_FOUND;
 
 /**
@@ -30,23 +33,37 @@ public class CatalogResource implements CatalogApi{
     @Inject
     private CatalogRepository catalog;
 
+    @Inject
+    private CatalogResponseCache cache;
+
+    @Inject
+    private CatalogSearch search;
+
+    @Override
+    public Response getSocks(String tags, String order, int pageNum, int pageSize) {
+        log.info("CatalogResource.getSocks: size={}", pageSize);
+        byte[] json = cache.get(socksKey(tags, order, pageNum, pageSize),
+                                () -> catalog.getSocks(tags, order, pageNum, pageSize));
+        return Response.ok(json, APPLICATION_JSON_TYPE).build();
+    }
+
     @Override
-    public Collection<? extends Sock> getSocks(String tags, String order, int pageNum, int pageSize) {
-        log.info("CatalogResource.getSocks: size=" + pageSize);
-        return catalog.getSocks(tags, order, pageNum, pageSize);
+    public Response getSockCount(String tags) {
+        byte[] json = cache.get(sizeKey(tags), () -> new Count(catalog.getSockCount(tags)));
+        return Response.ok(json, APPLICATION_JSON_TYPE).build();
     }
 
     @Override
-    public Count getSockCount(String tags) {
-        return new Count(catalog.getSockCount(tags));
+    public SearchResult search(String text, String tags, Float minPrice, Float maxPrice, String order, int pageNum, int pageSize) {
+        return search.search(text, tags, minPrice, maxPrice, order, pageNum, pageSize);
     }
 
     @Override
     public Response getSock(String sockId) {
-        Sock sock = catalog.getSock(sockId);
-        return sock == null
+        byte[] json = cache.get(sockKey(sockId), () -> catalog.getSock(sockId));
+        return json == null
                 ? Response.status(NOT_FOUND).build()
-                : Response.ok(sock).build();
+                : Response.ok(json, APPLICATION_JSON_TYPE).build();
     }
 
     @Override
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import static jakarta.ws.rs.core.Response.Status.NOT_FOUND;
+
+/**
+ * Implementation of the Catalog Service {@code /catalogue} API.
+ */
+@ApplicationScoped
+@Path("/catalogue-async")
+public class CatalogResourceAsync implements CatalogApiAsync {
+
+    @Inject
+    private CatalogRepositoryAsync catalog;
+
+    @Override
+    public CompletionStage<Collection<Sock>> getSocks(String tags, String order, int pageNum, int pageSize) {
+        return catalog.getSocks(tags, order, pageNum, pageSize);
+    }
+
+    @Override
+    public CompletionStage<CatalogResource.Count> getSockCount(String tags) {
+        return catalog.getSockCount(tags).thenApply(CatalogResource.Count::new);
+    }
+
+    @Override
+    public CompletionStage<Response> getSock(String sockId) {
+        return catalog.getSock(sockId)
+                .thenApply(sock ->
+                        sock == null
+                        ? Response.status(NOT_FOUND).build()
+                        : Response.ok(sock).build());
+    }
+}
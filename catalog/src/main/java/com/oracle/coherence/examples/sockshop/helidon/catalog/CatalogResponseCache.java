@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+
+import com.oracle.coherence.cdi.events.MapName;
+
+import com.tangosol.util.MapEvent;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * A cache of serialized catalog responses.
+ * <p>
+ * The catalog is small and changes rarely, so the same {@link Sock}s end up
+ * being serialized by JSON-B over and over again. This cache keeps the UTF-8
+ * JSON for each distinct query, so that repeated requests can be written to
+ * the output as they are.
+ * <p>
+ * The whole cache is invalidated whenever the {@code socks} map changes. The
+ * response for a query that was running while the map changed is returned,
+ * but it is not cached, so a stale response can't outlive the change.
+ */
+@ApplicationScoped
+public class CatalogResponseCache {
+    /**
+     * The cache key for all tags.
+     */
+    static final String TAGS_KEY = "tags";
+
+    private final Map<String, byte[]> responses = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Jsonb jsonb = JsonbBuilder.create();
+
+    private final int maxEntries;
+
+    @Inject
+    public CatalogResponseCache(@ConfigProperty(name = "catalog.cache.max-entries", defaultValue = "1024") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Return the JSON response for the specified key, serializing and caching
+     * the value returned by the supplier if there is no cached response.
+     *
+     * @param key       the key that uniquely identifies the query
+     * @param supplier  the supplier of the value to serialize
+     *
+     * @return the UTF-8 JSON response, or {@code null} if the supplier
+     *         returned {@code null}
+     */
+    public byte[] get(String key, Supplier<?> supplier) {
+        byte[] json = responses.get(key);
+        if (json == null) {
+            long current = generation.get();
+            Object value = supplier.get();
+            if (value == null) {
+                return null;
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+            jsonb.toJson(value, out);
+            json = out.toByteArray();
+
+            // a generation change means the map was modified while the query
+            // was running; the next request will serialize it again
+            if (responses.size() < maxEntries && generation.get() == current) {
+                responses.put(key, json);
+                if (generation.get() != current) {
+                    responses.remove(key, json);
+                }
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Return the number of cached responses.
+     *
+     * @return the number of cached responses
+     */
+    public int size() {
+        return responses.size();
+    }
+
+    /**
+     * Discard all cached responses.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        responses.clear();
+    }
+
+    /**
+     * Discard all cached responses when a sock is inserted, updated or removed.
+     *
+     * @param event  the map event
+     */
+    void onSockChanged(@Observes @MapName("socks") MapEvent<String, Sock> event) {
+        clear();
+    }
+
+    /**
+     * Return the cache key for a page of socks.
+     *
+     * @param tags      a comma-separated list of tags; can be {@code null}
+     * @param order     the name of the property to order the results by
+     * @param pageNum   the page of results to return
+     * @param pageSize  the maximum number of results to return
+     *
+     * @return the cache key for a page of socks
+     */
+    static String socksKey(String tags, String order, int pageNum, int pageSize) {
+        return "socks?tags=" + tags + "&order=" + order + "&page=" + pageNum + "&size=" + pageSize;
+    }
+
+    /**
+     * Return the cache key for a single sock.
+     *
+     * @param sockId  the sock identifier
+     *
+     * @return the cache key for a single sock
+     */
+    static String sockKey(String sockId) {
+        return "sock/" + sockId;
+    }
+
+    /**
+     * Return the cache key for a sock count.
+     *
+     * @param tags  a comma-separated list of tags; can be {@code null}
+     *
+     * @return the cache key for a sock count
+     */
+    static String sizeKey(String tags) {
+        return "size?tags=" + tags;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.cdi.events.MapName;
+
+import com.tangosol.net.NamedMap;
+
+import com.tangosol.util.MapEvent;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Full-text and faceted search over the {@code socks} map.
+ * <p>
+ * Queries are answered from a local {@link SearchIndex}, so they never leave
+ * this JVM. The index is rebuilt on a background thread whenever the
+ * {@code socks} map changes. Changes that arrive while a rebuild is running are
+ * coalesced into a single follow-up rebuild, so bulk loads don't cause a
+ * rebuild per entry. Queries keep using the previous index until the new one
+ * is ready.
+ */
+@ApplicationScoped
+@Slf4j
+public class CatalogSearch {
+    private final NamedMap<String, Sock> socks;
+
+    private final CoherenceCatalogRepository repository;
+
+    private final float[] priceBounds;
+
+    private final AtomicInteger changes = new AtomicInteger();
+
+    private volatile SearchIndex index;
+
+    @Inject
+    public CatalogSearch(@Name("socks") NamedMap<String, Sock> socks,
+                         CoherenceCatalogRepository repository,
+                         @ConfigProperty(name = "catalog.search.price-ranges", defaultValue = "10,15,20,50") List<Float> priceBounds) {
+        this.socks = socks;
+        this.repository = repository;
+        this.priceBounds = new float[priceBounds.size()];
+        for (int i = 0; i < this.priceBounds.length; i++) {
+            this.priceBounds[i] = priceBounds.get(i);
+        }
+    }
+
+    /**
+     * Build the initial index.
+     */
+    @PostConstruct
+    void init() {
+        // the repository loads the catalog when it is first used,
+        // which may not have happened yet
+        repository.loadData();
+        index = SearchIndex.build(socks.values(), priceBounds);
+    }
+
+    /**
+     * Search the catalog.
+     *
+     * @param text      the text to search for; every token must appear in
+     *                  either the name or description of a sock; can be {@code null}
+     * @param tags      a comma-separated list of tags, any of which a sock must
+     *                  have; can be {@code null}
+     * @param minPrice  the inclusive minimum price; can be {@code null}
+     * @param maxPrice  the inclusive maximum price; can be {@code null}
+     * @param order     the name of the property to order the results by;
+     *                  can be {@code price} or {@code name}
+     * @param pageNum   the page of results to return
+     * @param pageSize  the maximum number of results to return
+     *
+     * @return the search result
+     */
+    public SearchResult search(String text, String tags, Float minPrice, Float maxPrice, String order, int pageNum, int pageSize) {
+        return index.search(text, tags, minPrice, maxPrice, order, pageNum, pageSize);
+    }
+
+    /**
+     * Schedule an index rebuild when a sock is inserted, updated or removed.
+     *
+     * @param event  the map event
+     */
+    void onSockChanged(@Observes @MapName("socks") MapEvent<String, Sock> event) {
+        // only the first change starts a rebuild; the rebuild thread picks up
+        // any changes that arrive while it is running
+        if (changes.getAndIncrement() == 0) {
+            Thread.ofVirtual().name("catalog-search-index").start(this::rebuild);
+        }
+    }
+
+    /**
+     * Rebuild the index, repeating until no changes arrived during the rebuild.
+     */
+    private void rebuild() {
+        int seen;
+        do {
+            seen = changes.get();
+            try {
+                long start = System.nanoTime();
+                SearchIndex rebuilt = SearchIndex.build(socks.values(), priceBounds);
+                index = rebuilt;
+                log.debug("Rebuilt catalog search index of {} socks in {} ms",
+                          rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+            }
+            catch (RuntimeException e) {
+                log.warn("Failed to rebuild catalog search index", e);
+            }
+        }
+        while (!changes.compareAndSet(seen, 0));
+    }
+}
@@ -7,7 +7,6 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.catalog;
 
-import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.ParameterizedType;
@@ -29,12 +28,15 @@ import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 
 import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
 
 import com.tangosol.net.NamedMap;
 
 import com.tangosol.util.Aggregators;
 import com.tangosol.util.Filter;
 import com.tangosol.util.Filters;
+import com.tangosol.util.ValueExtractor;
 import com.tangosol.util.comparator.ExtractorComparator;
 import com.tangosol.util.extractor.UniversalExtractor;
 import com.tangosol.util.filter.AlwaysFilter;
@@ -47,44 +49,43 @@ import lombok.extern.slf4j.Slf4j;
  * that that uses Coherence as a backend data store.
  */
 @ApplicationScoped
+@RepositoryMetrics
 @Slf4j
 public class CoherenceCatalogRepository implements CatalogRepository {
     private NamedMap<String, Sock> socks;
-    private static Comparator<Sock> PRICE_COMPARATOR = new ExtractorComparator<>(new UniversalExtractor<Sock, Float>("price"));
-    private static Comparator<Sock> NAME_COMPARATOR  = new ExtractorComparator<>(new UniversalExtractor<Sock, String>("name"));
+    static final ValueExtractor<Sock, Float>  PRICE_EXTRACTOR  = new UniversalExtractor<>("price");
+    static final ValueExtractor<Sock, String> NAME_EXTRACTOR   = new UniversalExtractor<>("name");
+    static final Comparator<Sock>             PRICE_COMPARATOR = new ExtractorComparator<>(PRICE_EXTRACTOR);
+    static final Comparator<Sock>             NAME_COMPARATOR  = new ExtractorComparator<>(NAME_EXTRACTOR);
 
     @Inject
     public CoherenceCatalogRepository(@Name("socks") NamedMap<String, Sock> socks) {
         this.socks = socks;
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public Collection<? extends Sock> getSocks(String tags, String order, int pageNum, int pageSize) {
-        Comparator<Sock> comparator = "price".equals(order)
-                ? PRICE_COMPARATOR
-                : "name".equals(order)
-                        ? NAME_COMPARATOR
-                        : null;
+        Comparator<Sock> comparator = createComparator(order);
 
         LimitFilter<Sock> filter = new LimitFilter<>(createTagsFilter(tags), pageSize);
         filter.setPage(pageNum -1);
         return socks.values(filter, comparator);
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public Sock getSock(String sockId) {
         return socks.get(sockId);
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public long getSockCount(String tags) {
         return socks.aggregate(createTagsFilter(tags), Aggregators.count());
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public Set<String> getTags() {
         Collection<Sock> result = socks.values();
@@ -104,7 +105,7 @@ public class CoherenceCatalogRepository implements CatalogRepository {
     /**
      * Load test data into this repository.
      */
-    @WithSpan
+    @SampledSpan
     public CatalogRepository loadData() {
         if (socks.isEmpty()) {
             loadSocksFromJson(Sock.class)
@@ -121,7 +122,7 @@ public class CoherenceCatalogRepository implements CatalogRepository {
      * @param <T>     the type to load data as
      * @return a list of socks
      */
-    @WithSpan
+    @SampledSpan
     protected <T extends Sock> List<T> loadSocksFromJson(Class<T> asClass) {
         Jsonb jsonb = JsonbBuilder.create();
         try (InputStream in = getClass().getClassLoader().getResourceAsStream("data.json")) {
@@ -150,7 +151,46 @@ public class CoherenceCatalogRepository implements CatalogRepository {
         }
     }
 
-    private Filter<Sock> createTagsFilter(String tags) {
+    /**
+     * Return the comparator to order the results by.
+     *
+     * @param order the name of the property to order the results by
+     *
+     * @return the comparator for the specified property, or {@code null}
+     *         if the results should not be ordered
+     */
+    static Comparator<Sock> createComparator(String order) {
+        return "price".equals(order)
+                ? PRICE_COMPARATOR
+                : "name".equals(order)
+                        ? NAME_COMPARATOR
+                        : null;
+    }
+
+    /**
+     * Return the extractor for the property to order the results by.
+     *
+     * @param order the name of the property to order the results by
+     *
+     * @return the extractor for the specified property, or {@code null}
+     *         if the results should not be ordered
+     */
+    static ValueExtractor<Sock, ?> createOrderExtractor(String order) {
+        return "price".equals(order)
+                ? PRICE_EXTRACTOR
+                : "name".equals(order)
+                        ? NAME_EXTRACTOR
+                        : null;
+    }
+
+    /**
+     * Return the filter for the specified tags.
+     *
+     * @param tags a comma-separated list of tags; can be {@code null}
+     *
+     * @return the filter for the specified tags
+     */
+    static Filter<Sock> createTagsFilter(String tags) {
         Filter<Sock> filter = AlwaysFilter.INSTANCE();
         if (tags != null && !"".equals(tags)) {
             String[] aTags = tags.split(",");
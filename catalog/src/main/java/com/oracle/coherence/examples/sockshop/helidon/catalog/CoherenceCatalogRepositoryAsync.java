@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
+
+import com.tangosol.net.AsyncNamedMap;
+
+import com.tangosol.util.Aggregators;
+import com.tangosol.util.Filter;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.filter.AlwaysFilter;
+
+import static com.oracle.coherence.examples.sockshop.helidon.catalog.CoherenceCatalogRepository.createOrderExtractor;
+import static com.oracle.coherence.examples.sockshop.helidon.catalog.CoherenceCatalogRepository.createTagsFilter;
+
+/**
+ * An implementation of {@link CatalogRepositoryAsync}
+ * that that uses Coherence as a backend data store.
+ */
+@ApplicationScoped
+@RepositoryMetrics
+public class CoherenceCatalogRepositoryAsync implements CatalogRepositoryAsync {
+    /**
+     * Orders entries by their (comparable) value.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Map.Entry<String, ?>> BY_VALUE =
+            Comparator.comparing(entry -> (Comparable) entry.getValue(), Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    protected final AsyncNamedMap<String, Sock> socks;
+
+    /**
+     * The sync repository, used to load the test data.
+     */
+    private final CoherenceCatalogRepository catalog;
+
+    @Inject
+    public CoherenceCatalogRepositoryAsync(@Name("socks") AsyncNamedMap<String, Sock> socks,
+                                           CoherenceCatalogRepository catalog) {
+        this.socks = socks;
+        this.catalog = catalog;
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<Collection<Sock>> getSocks(String tags, String order, int pageNum, int pageSize) {
+        // LimitFilter is not supported by the async API, so only the keys
+        // and sort values of the matching socks are returned to sort and cut
+        // the page, and then just the socks on that page are fetched
+        return sortedKeys(createTagsFilter(tags), createOrderExtractor(order))
+                .thenCompose(keys -> {
+                    List<String> page = keys.stream()
+                            .skip((long) (pageNum - 1) * pageSize)
+                            .limit(pageSize)
+                            .collect(Collectors.toList());
+                    return socks.getAll(page)
+                            .thenApply(values -> page.stream()
+                                    .map(values::get)
+                                    .filter(Objects::nonNull)
+                                    .collect(Collectors.toList()));
+                });
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<Sock> getSock(String sockId) {
+        return socks.get(sockId);
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<Long> getSockCount(String tags) {
+        return socks.aggregate(createTagsFilter(tags), Aggregators.count())
+                .thenApply(count -> (long) count);
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<Set<String>> getTags() {
+        return socks.values(AlwaysFilter.INSTANCE())
+                .thenApply(values -> values.stream()
+                        .flatMap(sock -> sock.getTag().stream())
+                        .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Initialize this repository.
+     */
+    @PostConstruct
+    void init() {
+        catalog.loadData();
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    /**
+     * Return the keys of the socks that match the specified filter, sorted
+     * by the value of the specified extractor, and then by key.
+     *
+     * @param filter     the filter to match socks with
+     * @param extractor  the extractor for the property to order the results
+     *                   by, or {@code null} to order them by key only
+     *
+     * @return the sorted keys of the matching socks
+     */
+    private CompletionStage<List<String>> sortedKeys(Filter<Sock> filter, ValueExtractor<Sock, ?> extractor) {
+        if (extractor == null) {
+            return socks.keySet(filter)
+                    .thenApply(keys -> keys.stream().sorted().collect(Collectors.toList()));
+        }
+        return socks.aggregate(filter, Aggregators.reduce(extractor))
+                .thenApply(values -> values.entrySet().stream()
+                        .sorted(BY_VALUE.thenComparing(Map.Entry::getKey))
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,425 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
+
+import com.tangosol.net.NamedMap;
+
+import com.tangosol.util.Filters;
+import com.tangosol.util.InvocableMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * An implementation of {@link InventoryRepository}
+ * that that uses Coherence as a backend data store.
+ * <p>
+ * The stock of each sock is split evenly across a number of stripes in the
+ * {@code stock} map, and reservations take stock from the stripes using entry
+ * processors. Each reservation starts at a random stripe and moves on to the
+ * next one only if the stripe doesn't have enough stock, so concurrent buyers
+ * of the same sock are spread across different entries, rather than waiting
+ * for the lock on a single one. The stock taken from each stripe is recorded
+ * in the {@code reservations} map, so that it can be returned to the same
+ * stripes when the reservation is released.
+ * <p>
+ * A reservation is recorded as pending before any stock is taken, and each
+ * allocation is added to it as soon as its stock is taken. If a member fails
+ * between taking stock from a stripe and recording it, or between removing an
+ * allocation and returning its stock, at most that one allocation is lost,
+ * which can never oversell a sock.
+ * <p>
+ * A reservation is removed when it is released, or committed once its order
+ * has shipped. Every {@code inventory.cleanup-interval-millis}, each member
+ * also returns the stock of reservations that are still pending after
+ * {@code inventory.pending-timeout-millis}, which were abandoned by a failed
+ * member, and removes confirmed reservations that were neither committed nor
+ * released within {@code inventory.confirmed-timeout-millis}, without
+ * returning their stock, so the {@code reservations} map can't grow forever.
+ */
+@ApplicationScoped
+@RepositoryMetrics
+@Slf4j
+public class CoherenceInventoryRepository implements InventoryRepository {
+    protected final NamedMap<StockKey, Integer> stock;
+
+    protected final NamedMap<String, Reservation> reservations;
+
+    private final NamedMap<String, Sock> socks;
+
+    private final CoherenceCatalogRepository catalog;
+
+    private final int stripes;
+
+    private final long pendingTimeoutMillis;
+
+    private final long confirmedTimeoutMillis;
+
+    private final long cleanupIntervalMillis;
+
+    private ScheduledExecutorService cleanup;
+
+    @Inject
+    public CoherenceInventoryRepository(@Name("stock") NamedMap<StockKey, Integer> stock,
+                                        @Name("reservations") NamedMap<String, Reservation> reservations,
+                                        @Name("socks") NamedMap<String, Sock> socks,
+                                        CoherenceCatalogRepository catalog,
+                                        @ConfigProperty(name = "inventory.stripes", defaultValue = "8") int stripes,
+                                        @ConfigProperty(name = "inventory.pending-timeout-millis", defaultValue = "60000") long pendingTimeoutMillis,
+                                        @ConfigProperty(name = "inventory.confirmed-timeout-millis", defaultValue = "86400000") long confirmedTimeoutMillis,
+                                        @ConfigProperty(name = "inventory.cleanup-interval-millis", defaultValue = "30000") long cleanupIntervalMillis) {
+        this.stock = stock;
+        this.reservations = reservations;
+        this.socks = socks;
+        this.catalog = catalog;
+        this.stripes = Math.max(1, stripes);
+        this.pendingTimeoutMillis = pendingTimeoutMillis;
+        this.confirmedTimeoutMillis = confirmedTimeoutMillis;
+        this.cleanupIntervalMillis = cleanupIntervalMillis;
+    }
+
+    @SampledSpan
+    @Override
+    public int getStock(String sockId) {
+        return stock.getAll(stockKeys(sockId)).values().stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    @SampledSpan
+    @Override
+    public void setStock(String sockId, int count) {
+        stock.putAll(split(sockId, count));
+    }
+
+    @SampledSpan
+    @Override
+    public Reservation reserve(String orderId, List<StockItem> items) {
+        // record the reservation before taking any stock, so that stock taken
+        // by a member that fails part way through can be found and returned
+        Reservation existing = reservations.putIfAbsent(orderId, Reservation.pending(orderId));
+        if (existing != null) {
+            // a reservation that is still pending is being made by a concurrent
+            // request for the same order, which has yet to succeed or fail
+            return existing.isConfirmed() ? existing : null;
+        }
+
+        for (StockItem item : items) {
+            int remaining = item.getQuantity();
+            int first = ThreadLocalRandom.current().nextInt(stripes);
+            for (int i = 0; i < stripes && remaining > 0; i++) {
+                int stripe = (first + i) % stripes;
+                int taken = stock.invoke(new StockKey(item.getItemId(), stripe), take(remaining));
+                if (taken > 0) {
+                    Reservation.Allocation allocation = new Reservation.Allocation(item.getItemId(), stripe, taken);
+                    if (!reservations.invoke(orderId, record(allocation))) {
+                        // the pending reservation was released concurrently
+                        restore(allocation);
+                        return null;
+                    }
+                    remaining -= taken;
+                }
+            }
+            if (remaining > 0) {
+                release(orderId);
+                return null;
+            }
+        }
+
+        return reservations.invoke(orderId, confirm());
+    }
+
+    @SampledSpan
+    @Override
+    public boolean release(String orderId) {
+        if (!reservations.containsKey(orderId)) {
+            return false;
+        }
+
+        // each allocation is removed from the reservation before its stock is
+        // returned, so concurrent releases never return the same stock twice
+        Reservation.Allocation allocation;
+        while ((allocation = reservations.invoke(orderId, removeAllocation())) != null) {
+            restore(allocation);
+        }
+        return reservations.remove(orderId) != null;
+    }
+
+    @SampledSpan
+    @Override
+    public boolean commit(String orderId) {
+        return reservations.invoke(orderId, removeConfirmed());
+    }
+
+    /**
+     * Return the stock taken for reservations that are still pending after
+     * the configured timeout, which can only happen if the member that was
+     * making them failed.
+     *
+     * @return the number of abandoned reservations that were released
+     */
+    @SampledSpan
+    public int releaseAbandoned() {
+        long cutoff = System.currentTimeMillis() - pendingTimeoutMillis;
+        Set<String> abandoned = reservations.keySet(Filters.equal(Reservation::getStatus, Reservation.Status.PENDING)
+                                                            .and(Filters.less(Reservation::getCreated, cutoff)));
+        int released = 0;
+        for (String orderId : abandoned) {
+            if (release(orderId)) {
+                log.warn("Released abandoned stock reservation for order {}", orderId);
+                released++;
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Remove confirmed reservations that were neither committed nor released
+     * within the configured timeout, without returning their stock, as their
+     * orders may have shipped.
+     *
+     * @return the number of expired reservations that were removed
+     */
+    @SampledSpan
+    public int removeExpired() {
+        long cutoff = System.currentTimeMillis() - confirmedTimeoutMillis;
+        Map<String, Boolean> removed = reservations.invokeAll(
+                Filters.equal(Reservation::getStatus, Reservation.Status.CONFIRMED)
+                        .and(Filters.less(Reservation::getCreated, cutoff)),
+                removeConfirmed());
+        removed.forEach((orderId, expired) -> {
+            if (expired) {
+                log.warn("Removed expired stock reservation for order {}", orderId);
+            }
+        });
+        return (int) removed.values().stream().filter(Boolean::booleanValue).count();
+    }
+
+    /**
+     * Initialize this repository on startup, and start cleaning up abandoned
+     * and expired reservations periodically.
+     *
+     * @param event the event fired when the application scope is initialized
+     */
+    void init(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        loadData();
+        cleanup = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inventory-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        cleanup.scheduleWithFixedDelay(this::cleanUp, 0, cleanupIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop cleaning up reservations.
+     */
+    @PreDestroy
+    void close() {
+        if (cleanup != null) {
+            cleanup.shutdownNow();
+        }
+    }
+
+    /**
+     * Release abandoned reservations and remove expired ones.
+     */
+    private void cleanUp() {
+        try {
+            releaseAbandoned();
+            removeExpired();
+        }
+        catch (RuntimeException e) {
+            // keep the cleanup scheduled, it is retried on the next run
+            log.warn("Failed to clean up stock reservations: {}", e.toString());
+        }
+    }
+
+    /**
+     * Load the initial stock of every sock from the catalog.
+     */
+    @SampledSpan
+    public InventoryRepository loadData() {
+        if (stock.isEmpty()) {
+            // the catalog is loaded when it is first used, which may not have happened yet
+            catalog.loadData();
+            Map<StockKey, Integer> initial = new HashMap<>();
+            socks.values().forEach(sock -> initial.putAll(split(sock.getId(), sock.getCount())));
+            stock.putAll(initial);
+        }
+        return this;
+    }
+
+    /**
+     * Return stock taken by a reservation to the stripe it was taken from.
+     *
+     * @param allocation the stock taken from a stripe
+     */
+    private void restore(Reservation.Allocation allocation) {
+        stock.invoke(allocation.stockKey(), add(allocation.getQuantity()));
+    }
+
+    /**
+     * Return the keys of all stripes of the stock of the specified sock.
+     *
+     * @param sockId the sock identifier
+     *
+     * @return the keys of all stripes of the stock of the specified sock
+     */
+    private List<StockKey> stockKeys(String sockId) {
+        List<StockKey> keys = new ArrayList<>(stripes);
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            keys.add(new StockKey(sockId, stripe));
+        }
+        return keys;
+    }
+
+    /**
+     * Split the stock of the specified sock evenly across all stripes.
+     *
+     * @param sockId the sock identifier
+     * @param count  the stock to split
+     *
+     * @return the stock of each stripe
+     */
+    private Map<StockKey, Integer> split(String sockId, int count) {
+        Map<StockKey, Integer> split = new HashMap<>();
+        int total = Math.max(0, count);
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            split.put(new StockKey(sockId, stripe), total / stripes + (stripe < total % stripes ? 1 : 0));
+        }
+        return split;
+    }
+
+    /**
+     * Return an entry processor that takes up to the specified quantity from
+     * a stock stripe.
+     *
+     * @param quantity the quantity to take
+     *
+     * @return the entry processor, which returns the quantity actually taken
+     */
+    static InvocableMap.EntryProcessor<StockKey, Integer, Integer> take(int quantity) {
+        return entry -> {
+            int available = entry.isPresent() ? entry.getValue() : 0;
+            int taken = Math.min(available, quantity);
+            if (taken > 0) {
+                entry.setValue(available - taken);
+            }
+            return taken;
+        };
+    }
+
+    /**
+     * Return an entry processor that adds an allocation to a pending reservation.
+     *
+     * @param allocation the allocation to add
+     *
+     * @return the entry processor, which returns {@code false} if the
+     *         reservation no longer exists
+     */
+    static InvocableMap.EntryProcessor<String, Reservation, Boolean> record(Reservation.Allocation allocation) {
+        return entry -> {
+            if (!entry.isPresent()) {
+                return false;
+            }
+            Reservation reservation = entry.getValue();
+            reservation.getAllocations().add(allocation);
+            entry.setValue(reservation);
+            return true;
+        };
+    }
+
+    /**
+     * Return an entry processor that confirms a pending reservation.
+     *
+     * @return the entry processor, which returns the confirmed reservation,
+     *         or {@code null} if the reservation no longer exists
+     */
+    static InvocableMap.EntryProcessor<String, Reservation, Reservation> confirm() {
+        return entry -> {
+            if (!entry.isPresent()) {
+                return null;
+            }
+            Reservation reservation = entry.getValue();
+            reservation.setStatus(Reservation.Status.CONFIRMED);
+            entry.setValue(reservation);
+            return reservation;
+        };
+    }
+
+    /**
+     * Return an entry processor that removes an allocation from a reservation.
+     *
+     * @return the entry processor, which returns the removed allocation, or
+     *         {@code null} if the reservation has no allocations left
+     */
+    static InvocableMap.EntryProcessor<String, Reservation, Reservation.Allocation> removeAllocation() {
+        return entry -> {
+            if (!entry.isPresent() || entry.getValue().getAllocations().isEmpty()) {
+                return null;
+            }
+            Reservation reservation = entry.getValue();
+            Reservation.Allocation allocation = reservation.getAllocations().remove(reservation.getAllocations().size() - 1);
+            entry.setValue(reservation);
+            return allocation;
+        };
+    }
+
+    /**
+     * Return an entry processor that removes a confirmed reservation.
+     *
+     * @return the entry processor, which returns {@code true} if the
+     *         reservation was confirmed and has been removed
+     */
+    static InvocableMap.EntryProcessor<String, Reservation, Boolean> removeConfirmed() {
+        return entry -> {
+            if (!entry.isPresent() || !entry.getValue().isConfirmed()) {
+                return false;
+            }
+            entry.remove(false);
+            return true;
+        };
+    }
+
+    /**
+     * Return an entry processor that adds the specified quantity to a stock stripe.
+     *
+     * @param quantity the quantity to add
+     *
+     * @return the entry processor, which returns the new stock of the stripe
+     */
+    static InvocableMap.EntryProcessor<StockKey, Integer, Integer> add(int quantity) {
+        return entry -> {
+            int stock = (entry.isPresent() ? entry.getValue() : 0) + quantity;
+            entry.setValue(stock);
+            return stock;
+        };
+    }
+}
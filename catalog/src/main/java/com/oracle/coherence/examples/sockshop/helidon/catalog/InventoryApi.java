@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.List;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+
+/**
+ * REST API for {@code /inventory} service.
+ */
+public interface InventoryApi {
+    @GET
+    @Path("{id}")
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Return the available stock of the specified sock")
+    InventoryResource.Stock getStock(@Parameter(description = "sock identifier")
+                                     @PathParam("id") String sockId);
+
+    @PUT
+    @Path("{id}")
+    @Consumes(APPLICATION_JSON)
+    @Operation(summary = "Set the available stock of the specified sock")
+    @APIResponse(responseCode = "204", description = "if the stock was set")
+    void setStock(@Parameter(description = "sock identifier")
+                  @PathParam("id") String sockId,
+                  @RequestBody(description = "the available stock")
+                  InventoryResource.Stock stock);
+
+    @PUT
+    @Path("reservations/{orderId}")
+    @Consumes(APPLICATION_JSON)
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Reserve stock for the specified order")
+    @APIResponses({
+          @APIResponse(responseCode = "200", description = "if the stock was reserved"),
+          @APIResponse(responseCode = "409", description = "if there is not enough stock")
+    })
+    Response reserve(@Parameter(description = "order identifier")
+                     @PathParam("orderId") String orderId,
+                     @RequestBody(description = "the socks and quantities to reserve")
+                     List<StockItem> items);
+
+    @DELETE
+    @Path("reservations/{orderId}")
+    @Operation(summary = "Release the stock reserved for the specified order")
+    @APIResponses({
+          @APIResponse(responseCode = "204", description = "if the stock was released"),
+          @APIResponse(responseCode = "404", description = "if there is no reservation for the order")
+    })
+    Response release(@Parameter(description = "order identifier")
+                     @PathParam("orderId") String orderId);
+
+    @POST
+    @Path("reservations/{orderId}/commit")
+    @Operation(summary = "Commit the stock reserved for the specified order, once it has shipped")
+    @APIResponses({
+          @APIResponse(responseCode = "204", description = "if the reservation was committed"),
+          @APIResponse(responseCode = "404", description = "if there is no confirmed reservation for the order")
+    })
+    Response commit(@Parameter(description = "order identifier")
+                    @PathParam("orderId") String orderId);
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.List;
+
+/**
+ * A repository interface that should be implemented by
+ * the various inventory data store integrations.
+ */
+public interface InventoryRepository {
+    /**
+     * Return the available stock of the specified sock.
+     *
+     * @param sockId the sock identifier
+     *
+     * @return the available stock of the specified sock
+     */
+    int getStock(String sockId);
+
+    /**
+     * Set the available stock of the specified sock.
+     *
+     * @param sockId the sock identifier
+     * @param count  the available stock
+     */
+    void setStock(String sockId, int count);
+
+    /**
+     * Reserve stock for the specified order.
+     * <p>
+     * Either all items are reserved, or none of them are. Reserving stock for
+     * an order that already has a reservation returns the existing reservation.
+     *
+     * @param orderId the order identifier
+     * @param items   the socks and quantities to reserve
+     *
+     * @return the reservation, or {@code null} if there is not enough stock
+     *         for one or more of the items
+     */
+    Reservation reserve(String orderId, List<StockItem> items);
+
+    /**
+     * Release the stock reserved for the specified order.
+     *
+     * @param orderId the order identifier
+     *
+     * @return {@code true} if the stock was released, or {@code false}
+     *         if there was no reservation for the order
+     */
+    boolean release(String orderId);
+
+    /**
+     * Commit the stock reserved for the specified order, once the order has
+     * shipped, so that the stock is never returned and the reservation is
+     * no longer kept.
+     *
+     * @param orderId the order identifier
+     *
+     * @return {@code true} if the reservation was committed, or {@code false}
+     *         if there was no confirmed reservation for the order
+     */
+    boolean commit(String orderId);
+}
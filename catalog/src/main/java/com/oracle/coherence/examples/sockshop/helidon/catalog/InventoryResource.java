@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static jakarta.ws.rs.core.Response.Status.CONFLICT;
+import static jakarta.ws.rs.core.Response.Status.NOT_FOUND;
+
+/**
+ * Implementation of the Catalog Service {@code /inventory} API.
+ */
+@ApplicationScoped
+@Path("/inventory")
+@Slf4j
+public class InventoryResource implements InventoryApi {
+
+    @Inject
+    private InventoryRepository inventory;
+
+    @Override
+    public Stock getStock(String sockId) {
+        return new Stock(inventory.getStock(sockId));
+    }
+
+    @Override
+    public void setStock(String sockId, Stock stock) {
+        inventory.setStock(sockId, stock.count);
+    }
+
+    @Override
+    public Response reserve(String orderId, List<StockItem> items) {
+        Reservation reservation = inventory.reserve(orderId, items);
+        if (reservation == null) {
+            log.info("Not enough stock for order {}", orderId);
+            return Response.status(CONFLICT)
+                    .entity(Collections.singletonMap("message", "Not enough stock for order " + orderId))
+                    .type(MediaType.APPLICATION_JSON)
+                    .build();
+        }
+        return Response.ok(reservation).build();
+    }
+
+    @Override
+    public Response release(String orderId) {
+        return inventory.release(orderId)
+                ? Response.noContent().build()
+                : Response.status(NOT_FOUND).build();
+    }
+
+    @Override
+    public Response commit(String orderId) {
+        return inventory.commit(orderId)
+                ? Response.noContent().build()
+                : Response.status(NOT_FOUND).build();
+    }
+
+    public static class Stock {
+        public int count;
+
+        public Stock() {
+        }
+
+        public Stock(int count) {
+            this.count = count;
+        }
+    }
+}
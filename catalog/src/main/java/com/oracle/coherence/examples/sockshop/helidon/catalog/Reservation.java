@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * The stock reserved for an order.
+ * <p/>
+ * A reservation is recorded as {@link Status#PENDING} before any stock is
+ * taken for it, and each allocation is added to it as soon as the stock is
+ * taken, so a reservation that was never confirmed because its member failed
+ * can be found and its stock returned.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Reservation implements Serializable {
+    /**
+     * The order identifier.
+     */
+    @Schema(description = "The order identifier")
+    private String orderId;
+
+    /**
+     * The status of the reservation.
+     */
+    @Schema(description = "The status of the reservation")
+    private Status status;
+
+    /**
+     * The time the reservation was created, in milliseconds since the epoch.
+     */
+    @Schema(description = "The time the reservation was created")
+    private long created;
+
+    /**
+     * The stock taken from each stripe.
+     */
+    @Schema(description = "The stock taken from each stripe")
+    private List<Allocation> allocations;
+
+    /**
+     * Create a pending reservation for the specified order.
+     *
+     * @param orderId the order identifier
+     *
+     * @return a pending reservation without any allocations
+     */
+    static Reservation pending(String orderId) {
+        return new Reservation(orderId, Status.PENDING, System.currentTimeMillis(), new ArrayList<>());
+    }
+
+    /**
+     * Return {@code true} if all stock for this reservation has been taken.
+     *
+     * @return {@code true} if this reservation is confirmed
+     */
+    boolean isConfirmed() {
+        return status == Status.CONFIRMED;
+    }
+
+    /**
+     * Reservation statuses.
+     */
+    public enum Status {
+        /**
+         * Stock is still being taken for the reservation.
+         */
+        PENDING,
+
+        /**
+         * All stock for the reservation has been taken.
+         */
+        CONFIRMED
+    }
+
+    /**
+     * The quantity of a sock taken from a single stock stripe.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Allocation implements Serializable {
+        /**
+         * The sock identifier.
+         */
+        @Schema(description = "The sock identifier")
+        private String sockId;
+
+        /**
+         * The stripe the stock was taken from.
+         */
+        @Schema(description = "The stripe the stock was taken from")
+        private int stripe;
+
+        /**
+         * The quantity taken.
+         */
+        @Schema(description = "The quantity taken")
+        private int quantity;
+
+        /**
+         * Return the key of the stripe the stock was taken from.
+         *
+         * @return the key of the stripe the stock was taken from
+         */
+        StockKey stockKey() {
+            return new StockKey(sockId, stripe);
+        }
+    }
+}
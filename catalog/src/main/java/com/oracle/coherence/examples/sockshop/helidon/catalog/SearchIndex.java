@@ -0,0 +1,555 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable, in-memory search index over a snapshot of the catalog.
+ * <p>
+ * Each sock is assigned a document number, and the index maps every token of
+ * sock names and descriptions, and every tag, to the sorted list of documents
+ * that contain it. Queries are evaluated as bit sets over the document numbers.
+ * Tokens and tags that occur in a large fraction of the catalog also keep a
+ * precomputed bit set, so that matching and facet counting for them costs one
+ * operation per 64 socks instead of one per sock.
+ */
+final class SearchIndex {
+    /**
+     * The minimum number of documents per bit set word for which a
+     * {@link DocSet} keeps a precomputed bit set.
+     */
+    private static final int DENSITY = 4;
+
+    /**
+     * The socks, by document number.
+     */
+    private final Sock[] socks;
+
+    /**
+     * The number of words in a bit set over all documents.
+     */
+    private final int words;
+
+    /**
+     * The document numbers, ordered by price.
+     */
+    private final int[] byPrice;
+
+    /**
+     * The position of each document in {@link #byPrice}.
+     */
+    private final int[] priceRank;
+
+    /**
+     * The prices of the socks, in {@link #byPrice} order.
+     */
+    private final float[] sortedPrices;
+
+    /**
+     * The document numbers, ordered by name.
+     */
+    private final int[] byName;
+
+    /**
+     * The position of each document in {@link #byName}.
+     */
+    private final int[] nameRank;
+
+    /**
+     * The documents that contain each name or description token.
+     */
+    private final Map<String, DocSet> tokens;
+
+    /**
+     * The documents that have each tag, ordered by tag.
+     */
+    private final Map<String, DocSet> tags;
+
+    /**
+     * The lower bounds of the price ranges, with the first one always zero.
+     */
+    private final float[] bounds;
+
+    /**
+     * The documents in each price range.
+     */
+    private final long[][] ranges;
+
+    private SearchIndex(Sock[] socks, float[] bounds) {
+        int count = socks.length;
+        this.socks  = socks;
+        this.words  = (count + 63) >>> 6;
+        this.bounds = bounds;
+
+        byPrice = IntStream.range(0, count).boxed()
+                .sorted(Comparator.comparingDouble(doc -> socks[doc].getPrice()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        byName = IntStream.range(0, count).boxed()
+                .sorted(Comparator.comparing(doc -> socks[doc].getName(), Comparator.nullsLast(Comparator.naturalOrder())))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        priceRank = ranks(byPrice);
+        nameRank  = ranks(byName);
+
+        sortedPrices = new float[count];
+        for (int i = 0; i < count; i++) {
+            sortedPrices[i] = socks[byPrice[i]].getPrice();
+        }
+
+        ranges = new long[bounds.length][words];
+        Map<String, Postings> tokenPostings = new HashMap<>();
+        Map<String, Postings> tagPostings   = new TreeMap<>();
+        for (int doc = 0; doc < count; doc++) {
+            Sock sock = socks[doc];
+            Set<String> docTokens = tokenize(sock.getName());
+            docTokens.addAll(tokenize(sock.getDescription()));
+            for (String token : docTokens) {
+                tokenPostings.computeIfAbsent(token, t -> new Postings()).add(doc);
+            }
+            if (sock.getTag() != null) {
+                for (String tag : sock.getTag()) {
+                    tagPostings.computeIfAbsent(tag, t -> new Postings()).add(doc);
+                }
+            }
+            set(ranges[range(sock.getPrice())], doc);
+        }
+
+        tokens = new HashMap<>(tokenPostings.size() * 2);
+        tokenPostings.forEach((token, postings) -> tokens.put(token, new DocSet(postings.toArray(), words)));
+        tags = new TreeMap<>();
+        tagPostings.forEach((tag, postings) -> tags.put(tag, new DocSet(postings.toArray(), words)));
+    }
+
+    /**
+     * Build an index over the specified socks.
+     *
+     * @param values  the socks to index
+     * @param bounds  the lower bounds of the price ranges to count socks in;
+     *                a range starting at zero is always included
+     *
+     * @return the index
+     */
+    static SearchIndex build(Collection<? extends Sock> values, float[] bounds) {
+        Sock[] socks = values.stream()
+                .sorted(Comparator.comparing(Sock::getId))
+                .toArray(Sock[]::new);
+
+        double[] positive = IntStream.range(0, bounds.length)
+                .mapToDouble(i -> bounds[i])
+                .filter(bound -> bound > 0)
+                .sorted()
+                .distinct()
+                .toArray();
+        float[] sorted = new float[positive.length + 1];
+        for (int i = 0; i < positive.length; i++) {
+            sorted[i + 1] = (float) positive[i];
+        }
+        return new SearchIndex(socks, sorted);
+    }
+
+    /**
+     * Return the number of indexed socks.
+     *
+     * @return the number of indexed socks
+     */
+    int size() {
+        return socks.length;
+    }
+
+    /**
+     * Search the index.
+     *
+     * @param text      the text to search for; every token must appear in
+     *                  either the name or description of a sock; can be {@code null}
+     * @param tags      a comma-separated list of tags, any of which a sock must
+     *                  have; can be {@code null}
+     * @param minPrice  the inclusive minimum price; can be {@code null}
+     * @param maxPrice  the inclusive maximum price; can be {@code null}
+     * @param order     the name of the property to order the results by;
+     *                  can be {@code price} or {@code name}
+     * @param pageNum   the page of results to return
+     * @param pageSize  the maximum number of results to return
+     *
+     * @return the search result
+     */
+    SearchResult search(String text, String tags, Float minPrice, Float maxPrice, String order, int pageNum, int pageSize) {
+        long[] textMatches  = matchText(text);
+        long[] tagMatches   = matchTags(tags);
+        long[] priceMatches = matchPrice(minPrice, maxPrice);
+
+        // each facet is counted over the socks that match all other criteria,
+        // so that selecting a tag or a price range doesn't hide the alternatives
+        long[] tagBase   = and(textMatches, priceMatches);
+        long[] priceBase = and(textMatches, tagMatches);
+        long[] matches   = and(tagBase, tagMatches);
+
+        int size = cardinality(matches);
+        return new SearchResult(size,
+                                page(matches, size, order, pageNum, pageSize),
+                                tagFacets(tagBase),
+                                priceFacets(priceBase));
+    }
+
+    /**
+     * Return the distinct, lower case tokens of the specified text.
+     *
+     * @param text  the text to tokenize
+     *
+     * @return the distinct tokens of the specified text
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text != null) {
+            String lower = text.toLowerCase(Locale.ROOT);
+            int start = -1;
+            for (int i = 0, len = lower.length(); i <= len; i++) {
+                boolean tokenChar = i < len && Character.isLetterOrDigit(lower.charAt(i));
+                if (tokenChar && start < 0) {
+                    start = i;
+                }
+                else if (!tokenChar && start >= 0) {
+                    tokens.add(lower.substring(start, i));
+                    start = -1;
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private long[] matchText(String text) {
+        Set<String> queryTokens = tokenize(text);
+        if (queryTokens.isEmpty()) {
+            return all();
+        }
+
+        // start from the rarest token so that the intersection shrinks quickly
+        List<DocSet> postings = new ArrayList<>(queryTokens.size());
+        for (String token : queryTokens) {
+            DocSet docs = tokens.get(token);
+            if (docs == null) {
+                return new long[words];
+            }
+            postings.add(docs);
+        }
+        postings.sort(Comparator.comparingInt(DocSet::size));
+
+        long[] result = new long[words];
+        postings.get(0).or(result);
+        for (int i = 1; i < postings.size(); i++) {
+            postings.get(i).and(result);
+        }
+        return result;
+    }
+
+    private long[] matchTags(String tagList) {
+        if (tagList == null || tagList.isEmpty()) {
+            return all();
+        }
+
+        long[] result = new long[words];
+        for (String tag : tagList.split(",")) {
+            DocSet docs = tags.get(tag);
+            if (docs != null) {
+                docs.or(result);
+            }
+        }
+        return result;
+    }
+
+    private long[] matchPrice(Float minPrice, Float maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return all();
+        }
+
+        int from = minPrice == null ? 0 : lowerBound(minPrice);
+        int to   = maxPrice == null ? sortedPrices.length : upperBound(maxPrice);
+
+        long[] result = new long[words];
+        for (int i = from; i < to; i++) {
+            set(result, byPrice[i]);
+        }
+        return result;
+    }
+
+    private List<Sock> page(long[] matches, int size, String order, int pageNum, int pageSize) {
+        int skip  = (int) Math.min(size, (long) Math.max(0, pageNum - 1) * Math.max(0, pageSize));
+        int limit = Math.max(0, Math.min(pageSize, size - skip));
+        List<Sock> page = new ArrayList<>(limit);
+        if (limit == 0) {
+            return page;
+        }
+
+        int[] ordered = "price".equals(order)
+                ? byPrice
+                : "name".equals(order)
+                        ? byName
+                        : null;
+
+        if (ordered == null) {
+            // document order
+            int skipped = 0;
+            for (int i = 0; i < words && page.size() < limit; i++) {
+                for (long word = matches[i]; word != 0 && page.size() < limit; word &= word - 1) {
+                    if (skipped++ >= skip) {
+                        page.add(socks[(i << 6) + Long.numberOfTrailingZeros(word)]);
+                    }
+                }
+            }
+        }
+        else if (size < socks.length / 16) {
+            // few matches, so sort them by their position in the order
+            int[] rank = ordered == byPrice ? priceRank : nameRank;
+            int[] positions = new int[size];
+            int n = 0;
+            for (int i = 0; i < words; i++) {
+                for (long word = matches[i]; word != 0; word &= word - 1) {
+                    positions[n++] = rank[(i << 6) + Long.numberOfTrailingZeros(word)];
+                }
+            }
+            Arrays.sort(positions);
+            for (int i = skip; i < skip + limit; i++) {
+                page.add(socks[ordered[positions[i]]]);
+            }
+        }
+        else {
+            // many matches, so the page is found early in the order
+            int skipped = 0;
+            for (int i = 0; i < ordered.length && page.size() < limit; i++) {
+                int doc = ordered[i];
+                if (get(matches, doc) && skipped++ >= skip) {
+                    page.add(socks[doc]);
+                }
+            }
+        }
+        return page;
+    }
+
+    private Map<String, Long> tagFacets(long[] base) {
+        Map<String, Long> facets = new TreeMap<>();
+        tags.forEach((tag, docs) -> {
+            long count = docs.count(base);
+            if (count > 0) {
+                facets.put(tag, count);
+            }
+        });
+        return facets;
+    }
+
+    private List<SearchResult.PriceRange> priceFacets(long[] base) {
+        List<SearchResult.PriceRange> facets = new ArrayList<>(bounds.length);
+        for (int i = 0; i < bounds.length; i++) {
+            Float to = i + 1 < bounds.length ? bounds[i + 1] : null;
+            facets.add(new SearchResult.PriceRange(bounds[i], to, countAnd(ranges[i], base)));
+        }
+        return facets;
+    }
+
+    private int range(float price) {
+        int range = 0;
+        while (range + 1 < bounds.length && price >= bounds[range + 1]) {
+            range++;
+        }
+        return range;
+    }
+
+    private int lowerBound(float price) {
+        int low = 0;
+        int high = sortedPrices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedPrices[mid] < price) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(float price) {
+        int low = 0;
+        int high = sortedPrices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedPrices[mid] <= price) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private long[] all() {
+        long[] all = new long[words];
+        Arrays.fill(all, -1L);
+        if ((socks.length & 63) != 0) {
+            all[words - 1] = (1L << socks.length) - 1;
+        }
+        return all;
+    }
+
+    private static int[] ranks(int[] ordered) {
+        int[] rank = new int[ordered.length];
+        for (int i = 0; i < ordered.length; i++) {
+            rank[ordered[i]] = i;
+        }
+        return rank;
+    }
+
+    private static void set(long[] bits, int doc) {
+        bits[doc >>> 6] |= 1L << doc;
+    }
+
+    private static boolean get(long[] bits, int doc) {
+        return (bits[doc >>> 6] & (1L << doc)) != 0;
+    }
+
+    private static long[] and(long[] a, long[] b) {
+        long[] result = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            result[i] = a[i] & b[i];
+        }
+        return result;
+    }
+
+    private static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static long countAnd(long[] a, long[] b) {
+        long count = 0;
+        for (int i = 0; i < a.length; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    /**
+     * The documents that contain a token or have a tag.
+     */
+    private static final class DocSet {
+        /**
+         * The sorted document numbers.
+         */
+        private final int[] docs;
+
+        /**
+         * The document numbers as a bit set, or {@code null} if the set
+         * is too sparse for a bit set to pay off.
+         */
+        private final long[] bits;
+
+        DocSet(int[] docs, int words) {
+            this.docs = docs;
+            if (docs.length >= words * DENSITY) {
+                bits = new long[words];
+                for (int doc : docs) {
+                    set(bits, doc);
+                }
+            }
+            else {
+                bits = null;
+            }
+        }
+
+        int size() {
+            return docs.length;
+        }
+
+        /**
+         * Add the documents in this set to the specified bit set.
+         */
+        void or(long[] target) {
+            if (bits == null) {
+                for (int doc : docs) {
+                    set(target, doc);
+                }
+            }
+            else {
+                for (int i = 0; i < target.length; i++) {
+                    target[i] |= bits[i];
+                }
+            }
+        }
+
+        /**
+         * Remove the documents that are not in this set from the specified bit set.
+         */
+        void and(long[] target) {
+            long[] other = bits;
+            if (other == null) {
+                other = new long[target.length];
+                for (int doc : docs) {
+                    if (get(target, doc)) {
+                        set(other, doc);
+                    }
+                }
+            }
+            for (int i = 0; i < target.length; i++) {
+                target[i] &= other[i];
+            }
+        }
+
+        /**
+         * Return the number of documents in this set that are also in the
+         * specified bit set.
+         */
+        long count(long[] base) {
+            if (bits != null) {
+                return countAnd(bits, base);
+            }
+            long count = 0;
+            for (int doc : docs) {
+                if (get(base, doc)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * A growable, sorted list of document numbers.
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(docs, size);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * The result of a catalog search.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResult {
+    /**
+     * The total number of socks that match the query.
+     */
+    @Schema(description = "The total number of socks that match the query")
+    public long size;
+
+    /**
+     * The requested page of matching socks.
+     */
+    @Schema(description = "The requested page of matching socks")
+    public List<Sock> socks;
+
+    /**
+     * The number of matching socks for each tag, ignoring the tags filter.
+     */
+    @Schema(description = "The number of matching socks for each tag, ignoring the tags filter")
+    public Map<String, Long> tags;
+
+    /**
+     * The number of matching socks in each price range, ignoring the price filter.
+     */
+    @Schema(description = "The number of matching socks in each price range, ignoring the price filter")
+    public List<PriceRange> prices;
+
+    /**
+     * A price range facet.
+     */
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceRange {
+        /**
+         * The inclusive lower bound of the range.
+         */
+        @Schema(description = "The inclusive lower bound of the range")
+        public float from;
+
+        /**
+         * The exclusive upper bound of the range; {@code null} for the last range.
+         */
+        @Schema(description = "The exclusive upper bound of the range, or null for the last range")
+        public Float to;
+
+        /**
+         * The number of matching socks in the range.
+         */
+        @Schema(description = "The number of matching socks in the range")
+        public long count;
+    }
+}
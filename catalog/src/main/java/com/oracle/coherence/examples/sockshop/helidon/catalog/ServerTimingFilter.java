@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.Locale;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.ConstrainedTo;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Filter that reports the time spent processing each request in a
+ * {@code Server-Timing} response header.
+ * <p/>
+ * This allows clients, such as the orders service, to tell the time spent
+ * in this service apart from the time spent establishing connections and
+ * on the network.
+ */
+@ApplicationScoped
+@Provider
+@PreMatching
+@ConstrainedTo(RuntimeType.SERVER)
+public class ServerTimingFilter
+        implements ContainerRequestFilter, ContainerResponseFilter {
+    private static final String START = ServerTimingFilter.class.getName() + ".start";
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        requestContext.setProperty(START, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (requestContext.getProperty(START) instanceof Long start) {
+            double millis = (System.nanoTime() - start) / 1e6;
+            responseContext.getHeaders().add("Server-Timing", String.format(Locale.ROOT, "app;dur=%.3f", millis));
+        }
+    }
+}
@@ -11,7 +11,10 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.Set;
 
+import jakarta.json.bind.annotation.JsonbTransient;
+
 import lombok.Data;
+import lombok.Getter;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 
 @Data
@@ -47,9 +50,13 @@ public class Sock implements Serializable {
     private float price;
 
     /**
-     * Product count.
+     * The initial stock of the product, only read when the catalog is loaded.
+     * <p>
+     * The available stock is kept by the {@link InventoryRepository}, so this
+     * count is not returned by the API, as it would not reflect reservations.
      */
-    @Schema(description = "Product count")
+    @Schema(description = "The initial stock of the product", writeOnly = true)
+    @Getter(onMethod_ = @JsonbTransient)
     private int count;
 
     /**
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * The quantity of a sock to reserve.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockItem {
+    /**
+     * The sock identifier.
+     */
+    @Schema(description = "The sock identifier")
+    private String itemId;
+
+    /**
+     * The quantity to reserve.
+     */
+    @Schema(description = "The quantity to reserve")
+    private int quantity;
+}
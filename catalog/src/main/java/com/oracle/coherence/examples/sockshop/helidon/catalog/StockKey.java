@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The key of a single stripe of the stock of a sock.
+ * <p>
+ * The stock of each sock is split across a number of stripes, so that
+ * concurrent reservations for the same sock lock different entries.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockKey implements Serializable {
+    /**
+     * The sock identifier.
+     */
+    private String sockId;
+
+    /**
+     * The stripe number.
+     */
+    private int stripe;
+
+    @Override
+    public String toString() {
+        return sockId + "#" + stripe;
+    }
+}
@@ -8,14 +8,24 @@
 package com.oracle.coherence.examples.sockshop.helidon.catalog;
 
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 
 import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 
 /**
  * REST API for {@code /catalog} service.
  */
 public interface TagApi {
     @GET
+    @Produces(APPLICATION_JSON)
     @Operation(summary = "Return all tags")
-    TagsResource.Tags getTags();
+    @APIResponse(responseCode = "200", description = "all tags",
+                 content = @Content(schema = @Schema(implementation = TagsResource.Tags.class)))
+    Response getTags();
 }
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.concurrent.CompletionStage;
+
+import jakarta.ws.rs.GET;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+
+/**
+ * Async REST API for {@code /tags} service.
+ */
+public interface TagApiAsync {
+    @GET
+    @Operation(summary = "Return all tags")
+    CompletionStage<TagsResource.Tags> getTags();
+}
@@ -12,6 +12,9 @@ import java.util.Set;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 
 /**
  * Implementation of the Catalog Service {@code /tags} API.
@@ -23,9 +26,13 @@ public class TagsResource implements TagApi {
     @Inject
     private CatalogRepository catalog;
 
+    @Inject
+    private CatalogResponseCache cache;
+
     @Override
-    public Tags getTags() {
-        return new Tags(catalog.getTags());
+    public Response getTags() {
+        byte[] json = cache.get(CatalogResponseCache.TAGS_KEY, () -> new Tags(catalog.getTags()));
+        return Response.ok(json, APPLICATION_JSON_TYPE).build();
     }
 
     public static class Tags {
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Path;
+
+/**
+ * Implementation of the Catalog Service {@code /tags} API.
+ */
+@ApplicationScoped
+@Path("/tags-async")
+public class TagsResourceAsync implements TagApiAsync {
+
+    @Inject
+    private CatalogRepositoryAsync catalog;
+
+    @Override
+    public CompletionStage<TagsResource.Tags> getTags() {
+        return catalog.getTags().thenApply(TagsResource.Tags::new);
+    }
+}
@@ -80,6 +80,28 @@ public class CatalogResourceIT {
                 body("name", contains("Crossed", "Figueroa", "Holy"));
     }
 
+    @Test
+    void testSearch() {
+        when().
+                get("/catalogue/search?q=messiah").
+        then().
+                statusCode(200).
+                body("size", is(1),
+                     "socks.name", contains("Holy"));
+    }
+
+    @Test
+    void testSearchFacets() {
+        when().
+                get("/catalogue/search?tags=sport&order=name").
+        then().
+                statusCode(200).
+                body("size", is(1),
+                     "socks.name", contains("SuperSport XL"),
+                     "tags.formal", is(5),
+                     "prices.count.sum()", is(1));
+    }
+
     @Test
     void testGetById() {
         when().
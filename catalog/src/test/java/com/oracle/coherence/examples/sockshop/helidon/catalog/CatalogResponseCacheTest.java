@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for CatalogResponseCache class.
+ */
+class CatalogResponseCacheTest {
+
+    @Test
+    void testResponseIsSerializedOnce() {
+        CatalogResponseCache cache = new CatalogResponseCache(16);
+        AtomicInteger calls = new AtomicInteger();
+
+        byte[] first = cache.get(CatalogResponseCache.sizeKey("blue"), () -> {
+            calls.incrementAndGet();
+            return new CatalogResource.Count(3);
+        });
+        byte[] second = cache.get(CatalogResponseCache.sizeKey("blue"), () -> {
+            calls.incrementAndGet();
+            return new CatalogResource.Count(3);
+        });
+
+        assertThat(new String(first, StandardCharsets.UTF_8), is("{\"size\":3}"));
+        assertThat(second, sameInstance(first));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void testMissingValueIsNotCached() {
+        CatalogResponseCache cache = new CatalogResponseCache(16);
+
+        assertThat(cache.get(CatalogResponseCache.sockKey("bad_ID"), () -> null), is(nullValue()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void testClearInvalidatesResponses() {
+        CatalogResponseCache cache = new CatalogResponseCache(16);
+        cache.get(CatalogResponseCache.sizeKey(null), () -> new CatalogResource.Count(9));
+
+        cache.clear();
+        byte[] json = cache.get(CatalogResponseCache.sizeKey(null), () -> new CatalogResource.Count(10));
+
+        assertThat(new String(json, StandardCharsets.UTF_8), is("{\"size\":10}"));
+    }
+
+    @Test
+    void testResponseIsNotCachedWhenClearedDuringQuery() {
+        CatalogResponseCache cache = new CatalogResponseCache(16);
+
+        cache.get(CatalogResponseCache.sizeKey(null), () -> {
+            cache.clear();
+            return new CatalogResource.Count(9);
+        });
+
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void testMaxEntries() {
+        CatalogResponseCache cache = new CatalogResponseCache(2);
+
+        cache.get(CatalogResponseCache.sizeKey("blue"), () -> new CatalogResource.Count(3));
+        cache.get(CatalogResponseCache.sizeKey("brown"), () -> new CatalogResource.Count(3));
+        byte[] json = cache.get(CatalogResponseCache.sizeKey("red"), () -> new CatalogResource.Count(1));
+
+        assertThat(new String(json, StandardCharsets.UTF_8), is("{\"size\":1}"));
+        assertThat(cache.size(), is(2));
+    }
+}
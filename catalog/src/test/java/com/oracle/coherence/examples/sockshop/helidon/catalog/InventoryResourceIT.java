@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.enterprise.inject.spi.CDI;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedMap;
+import com.tangosol.net.Session;
+
+import io.helidon.microprofile.server.Server;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for {@link InventoryResource}.
+ */
+public class InventoryResourceIT {
+    private static final String NERD_LEG = "a0a4f044-b040-410d-8ead-4de0446aec7e";
+
+    private static Server SERVER;
+
+    /**
+     * This will start the application on ephemeral port to avoid port conflicts.
+     * We can discover the actual port by calling {@link io.helidon.microprofile.server.Server#port()} method afterwards.
+     */
+    @BeforeAll
+    static void startServer() {
+        // disable global tracing so we can start server in multiple test suites
+        System.setProperty("tracing.global", "false");
+        // clean up abandoned and expired reservations quickly
+        System.setProperty("inventory.cleanup-interval-millis", "200");
+        SERVER = Server.builder().port(0).build().start();
+    }
+
+    /**
+     * Stop the server, as we cannot have multiple servers started at the same time.
+     */
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop();
+    }
+
+    @BeforeEach
+    void setup() {
+        // Configure RestAssured to run tests against our application
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = SERVER.port();
+
+        setStock(NERD_LEG, 10);
+    }
+
+    @Test
+    void testGetStock() {
+        when().
+                get("/inventory/{id}", NERD_LEG).
+        then().
+                statusCode(200).
+                body("count", is(10));
+    }
+
+    @Test
+    void testReserveAndRelease() {
+        reserve("order-1", 7).
+                statusCode(200).
+                body("orderId", is("order-1"),
+                     "allocations.quantity.sum()", is(7));
+        assertStock(NERD_LEG, 3);
+
+        // not enough stock left, and nothing is taken
+        reserve("order-2", 5).statusCode(409);
+        assertStock(NERD_LEG, 3);
+
+        when().
+                delete("/inventory/reservations/{orderId}", "order-1").
+        then().
+                statusCode(204);
+        assertStock(NERD_LEG, 10);
+
+        when().
+                delete("/inventory/reservations/{orderId}", "order-1").
+        then().
+                statusCode(404);
+        assertStock(NERD_LEG, 10);
+    }
+
+    @Test
+    void testReserveIsIdempotent() {
+        reserve("order-3", 4).statusCode(200);
+        reserve("order-3", 4).statusCode(200);
+        assertStock(NERD_LEG, 6);
+
+        when().delete("/inventory/reservations/{orderId}", "order-3");
+    }
+
+    @Test
+    void testReserveAllStripes() {
+        reserve("order-4", 10).statusCode(200);
+        assertStock(NERD_LEG, 0);
+
+        when().delete("/inventory/reservations/{orderId}", "order-4");
+    }
+
+    @Test
+    void testCommit() {
+        reserve("order-7", 4).statusCode(200);
+        assertStock(NERD_LEG, 6);
+
+        when().
+                post("/inventory/reservations/{orderId}/commit", "order-7").
+        then().
+                statusCode(204);
+
+        // the order has shipped, so its stock is never returned
+        when().
+                delete("/inventory/reservations/{orderId}", "order-7").
+        then().
+                statusCode(404);
+        assertStock(NERD_LEG, 6);
+
+        when().
+                post("/inventory/reservations/{orderId}/commit", "order-7").
+        then().
+                statusCode(404);
+    }
+
+    @Test
+    void testReleaseAbandonedReservation() {
+        Session session = Coherence.getInstance().getSession();
+        NamedMap<StockKey, Integer> stock = session.getMap("stock");
+        NamedMap<String, Reservation> reservations = session.getMap("reservations");
+
+        // a pending reservation that is still recent is left alone
+        reservations.put("order-6", Reservation.pending("order-6"));
+
+        // a member took 2 socks from stripe 0 and failed before confirming the reservation
+        assertThat(stock.invoke(new StockKey(NERD_LEG, 0), CoherenceInventoryRepository.take(4)), is(2));
+        Reservation abandoned = new Reservation("order-5", Reservation.Status.PENDING, 0L,
+                new ArrayList<>(List.of(new Reservation.Allocation(NERD_LEG, 0, 2))));
+        reservations.put("order-5", abandoned);
+
+        // the periodic cleanup returns the stock of the abandoned reservation
+        Eventually.assertDeferred(() -> reservations.containsKey("order-5"), is(false));
+        assertStock(NERD_LEG, 10);
+        assertThat(reservations.containsKey("order-6"), is(true));
+
+        // the reservation is in progress, so it can't be returned yet
+        reserve("order-6", 1).statusCode(409);
+        CDI.current().select(CoherenceInventoryRepository.class).get().release("order-6");
+    }
+
+    @Test
+    void testRemoveExpiredReservation() {
+        NamedMap<String, Reservation> reservations = Coherence.getInstance().getSession().getMap("reservations");
+
+        // a confirmed reservation whose order was never committed or released
+        Reservation expired = new Reservation("order-8", Reservation.Status.CONFIRMED, 0L,
+                new ArrayList<>(List.of(new Reservation.Allocation(NERD_LEG, 0, 2))));
+        reservations.put("order-8", expired);
+        reserve("order-9", 3).statusCode(200);
+
+        // the expired reservation is removed without returning its stock
+        Eventually.assertDeferred(() -> reservations.containsKey("order-8"), is(false));
+        assertStock(NERD_LEG, 7);
+        assertThat(reservations.containsKey("order-9"), is(true));
+
+        when().delete("/inventory/reservations/{orderId}", "order-9");
+    }
+
+    private static void setStock(String sockId, int count) {
+        given().
+                body(new InventoryResource.Stock(count)).
+                contentType(ContentType.JSON).
+        when().
+                put("/inventory/{id}", sockId).
+        then().
+                statusCode(204);
+    }
+
+    private static void assertStock(String sockId, int count) {
+        when().
+                get("/inventory/{id}", sockId).
+        then().
+                statusCode(200).
+                body("count", is(count));
+    }
+
+    private static ValidatableResponse reserve(String orderId, int quantity) {
+        return given().
+                body(List.of(new StockItem(NERD_LEG, quantity))).
+                contentType(ContentType.JSON).
+                accept(ContentType.JSON).
+        when().
+                put("/inventory/reservations/{orderId}", orderId).
+        then();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.hasKey;
+
+/**
+ * Unit tests for SearchIndex class.
+ */
+class SearchIndexTest {
+    private static final SearchIndex INDEX = SearchIndex.build(List.of(
+            sock("1", "Classic", "Keep it simple.", 12f, "brown", "formal"),
+            sock("2", "SuperSport XL", "Ready for action. Be ready to smash that next bug!", 15f, "sport", "formal", "blue"),
+            sock("3", "Cat socks", "consequat amet cupidatat minim laborum tempor elit", 15f, "brown", "formal", "green"),
+            sock("4", "Holy", "Socks fit for a Messiah.", 99.99f, "action", "magic"),
+            sock("5", "YouTube.sock", "We were not paid to put this sock on.", 10.99f, "geek", "formal")),
+            new float[] {20, 10, 15});
+
+    @Test
+    void testTextSearch() {
+        SearchResult result = INDEX.search("READY action", null, null, null, "price", 1, 10);
+
+        assertThat(result.size, is(1L));
+        assertThat(names(result), contains("SuperSport XL"));
+    }
+
+    @Test
+    void testTextSearchMatchesNameTokens() {
+        SearchResult result = INDEX.search("sock", null, null, null, "name", 1, 10);
+
+        assertThat(names(result), contains("YouTube.sock"));
+    }
+
+    @Test
+    void testUnknownTokenMatchesNothing() {
+        SearchResult result = INDEX.search("ready unknown", null, null, null, "price", 1, 10);
+
+        assertThat(result.size, is(0L));
+        assertThat(result.tags.isEmpty(), is(true));
+    }
+
+    @Test
+    void testTagsAndPriceFilter() {
+        SearchResult result = INDEX.search(null, "formal", 11f, 15f, "name", 1, 10);
+
+        assertThat(names(result), contains("Cat socks", "Classic", "SuperSport XL"));
+    }
+
+    @Test
+    void testTagFacetsIgnoreTagFilter() {
+        SearchResult result = INDEX.search(null, "sport", 11f, 20f, "price", 1, 10);
+
+        assertThat(result.size, is(1L));
+        assertThat(result.tags, hasEntry("formal", 3L));
+        assertThat(result.tags, hasEntry("brown", 2L));
+        assertThat(result.tags, not(hasKey("magic")));
+    }
+
+    @Test
+    void testPriceFacetsIgnorePriceFilter() {
+        SearchResult result = INDEX.search(null, "formal", 100f, null, "price", 1, 10);
+
+        assertThat(result.size, is(0L));
+        assertThat(result.prices.size(), is(4));
+        assertThat(range(result.prices.get(0)), is("0.0-10.0:0"));
+        assertThat(range(result.prices.get(1)), is("10.0-15.0:2"));
+        assertThat(range(result.prices.get(2)), is("15.0-20.0:2"));
+        assertThat(range(result.prices.get(3)), is("20.0-null:0"));
+    }
+
+    @Test
+    void testPaging() {
+        SearchResult result = INDEX.search(null, null, null, null, "price", 2, 2);
+
+        assertThat(result.size, is(5L));
+        assertThat(names(result), contains("SuperSport XL", "Cat socks"));
+    }
+
+    private static List<String> names(SearchResult result) {
+        return result.socks.stream().map(Sock::getName).toList();
+    }
+
+    private static String range(SearchResult.PriceRange range) {
+        return range.from + "-" + range.to + ":" + range.count;
+    }
+
+    private static Sock sock(String id, String name, String description, float price, String... tags) {
+        Sock sock = new Sock();
+        sock.setId(id);
+        sock.setName(name);
+        sock.setDescription(description);
+        sock.setPrice(price);
+        sock.setTag(Set.of(tags));
+        return sock;
+    }
+}
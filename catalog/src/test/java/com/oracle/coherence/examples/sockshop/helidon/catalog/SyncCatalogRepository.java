@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.catalog;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Helper class that blocks on async repository calls, allowing
+ * us to reuse the tests for both sync and async repository implementations.
+ */
+public class SyncCatalogRepository implements CatalogRepository {
+    private CatalogRepositoryAsync catalog;
+
+    public SyncCatalogRepository(CatalogRepositoryAsync catalog) {
+        this.catalog = catalog;
+    }
+
+    @Override
+    public Collection<? extends Sock> getSocks(String tags, String order, int pageNum, int pageSize) {
+        return catalog.getSocks(tags, order, pageNum, pageSize).toCompletableFuture().join();
+    }
+
+    @Override
+    public Sock getSock(String sockId) {
+        return catalog.getSock(sockId).toCompletableFuture().join();
+    }
+
+    @Override
+    public long getSockCount(String tags) {
+        return catalog.getSockCount(tags).toCompletableFuture().join();
+    }
+
+    @Override
+    public Set<String> getTags() {
+        return catalog.getTags().toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.grpc.MethodDescriptor;
+
+import io.helidon.grpc.api.Grpc;
+import io.helidon.grpc.core.MarshallerSupplier;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of a gRPC {@link MethodDescriptor.Marshaller} that
+ * uses the compact binary encoding of the Users and Carts service gRPC APIs.
+ * <p>
+ * Those services write the same fields in the same order from their own
+ * classes. The Users service also sends the address and card identifiers,
+ * which are read and discarded here, as orders don't keep them.
+ *
+ * @param <T> the type of value to be marshalled
+ */
+@Grpc.GrpcMarshaller
+public class BinaryMarshaller<T> implements MethodDescriptor.Marshaller<T> {
+    private static final Map<Class<?>, Codec<?>> CODECS = Map.of(
+            String.class, new Codec<String>(BinaryMarshaller::writeString, BinaryMarshaller::readString),
+            Boolean.class, new Codec<Boolean>(DataOutput::writeBoolean, DataInput::readBoolean),
+            Customer.class, new Codec<Customer>(BinaryMarshaller::writeCustomer, BinaryMarshaller::readCustomer),
+            Address.class, new Codec<Address>(BinaryMarshaller::writeAddress, BinaryMarshaller::readAddress),
+            Card.class, new Codec<Card>(BinaryMarshaller::writeCard, BinaryMarshaller::readCard),
+            UserDetailsRequest.class, new Codec<UserDetailsRequest>(BinaryMarshaller::writeRequest, BinaryMarshaller::readRequest),
+            UserDetails.class, new Codec<UserDetails>(BinaryMarshaller::writeDetails, BinaryMarshaller::readDetails),
+            CartItems.class, new Codec<CartItems>(BinaryMarshaller::writeCart, BinaryMarshaller::readCart));
+
+    private final Codec<T> codec;
+
+    /**
+     * Construct {@code BinaryMarshaller} instance.
+     *
+     * @param clazz the type of object to marshall
+     */
+    @SuppressWarnings("unchecked")
+    BinaryMarshaller(Class<T> clazz) {
+        codec = (Codec<T>) CODECS.get(clazz);
+        if (codec == null) {
+            throw new IllegalArgumentException("No binary encoding for " + clazz.getName());
+        }
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try {
+            codec.writer.write(new DataOutputStream(bytes), value);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    @Override
+    public T parse(InputStream in) {
+        try {
+            return codec.reader.read(new DataInputStream(in));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    static void writeCustomer(DataOutput out, Customer customer) throws IOException {
+        writeString(out, customer.getId());
+        writeString(out, customer.getFirstName());
+        writeString(out, customer.getLastName());
+        writeString(out, customer.getEmail());
+    }
+
+    static Customer readCustomer(DataInput in) throws IOException {
+        return new Customer(readString(in), readString(in), readString(in), readString(in));
+    }
+
+    static void writeAddress(DataOutput out, Address address) throws IOException {
+        writeString(out, null);
+        writeString(out, address.getNumber());
+        writeString(out, address.getStreet());
+        writeString(out, address.getCity());
+        writeString(out, address.getPostcode());
+        writeString(out, address.getCountry());
+    }
+
+    static Address readAddress(DataInput in) throws IOException {
+        readString(in);
+        return new Address(readString(in), readString(in), readString(in), readString(in), readString(in));
+    }
+
+    static void writeCard(DataOutput out, Card card) throws IOException {
+        writeString(out, null);
+        writeString(out, card.getLongNum());
+        writeString(out, card.getExpires());
+        writeString(out, card.getCcv());
+    }
+
+    static Card readCard(DataInput in) throws IOException {
+        readString(in);
+        return new Card(readString(in), readString(in), readString(in));
+    }
+
+    static void writeRequest(DataOutput out, UserDetailsRequest request) throws IOException {
+        writeString(out, request.getCustomerId());
+        writeString(out, request.getAddressId());
+        writeString(out, request.getCardId());
+    }
+
+    static UserDetailsRequest readRequest(DataInput in) throws IOException {
+        return new UserDetailsRequest(readString(in), readString(in), readString(in));
+    }
+
+    static void writeDetails(DataOutput out, UserDetails details) throws IOException {
+        writeNullable(out, details.getCustomer(), BinaryMarshaller::writeCustomer);
+        writeNullable(out, details.getAddress(), BinaryMarshaller::writeAddress);
+        writeNullable(out, details.getCard(), BinaryMarshaller::writeCard);
+    }
+
+    static UserDetails readDetails(DataInput in) throws IOException {
+        return new UserDetails(readNullable(in, BinaryMarshaller::readCustomer),
+                               readNullable(in, BinaryMarshaller::readAddress),
+                               readNullable(in, BinaryMarshaller::readCard));
+    }
+
+    static void writeCart(DataOutput out, CartItems cart) throws IOException {
+        writeString(out, cart.getCartId());
+        out.writeInt(cart.getItems().size());
+        for (Item item : cart.getItems()) {
+            writeString(out, item.getItemId());
+            out.writeInt(item.getQuantity());
+            out.writeFloat(item.getUnitPrice());
+        }
+    }
+
+    static CartItems readCart(DataInput in) throws IOException {
+        String cartId = readString(in);
+        int count = in.readInt();
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(readString(in), in.readInt(), in.readFloat()));
+        }
+        return new CartItems(cartId, items);
+    }
+
+    private static <V> void writeNullable(DataOutput out, V value, Writer<V> writer) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writer.write(out, value);
+        }
+    }
+
+    private static <V> V readNullable(DataInput in, Reader<V> reader) throws IOException {
+        return in.readBoolean() ? reader.read(in) : null;
+    }
+
+    // ---- inner types -----------------------------------------------------
+
+    /**
+     * Writes a value of a specific type.
+     */
+    @FunctionalInterface
+    interface Writer<V> {
+        void write(DataOutput out, V value) throws IOException;
+    }
+
+    /**
+     * Reads a value of a specific type.
+     */
+    @FunctionalInterface
+    interface Reader<V> {
+        V read(DataInput in) throws IOException;
+    }
+
+    /**
+     * The encoding of a specific type.
+     */
+    private static class Codec<V> {
+        private final Writer<V> writer;
+        private final Reader<V> reader;
+
+        Codec(Writer<V> writer, Reader<V> reader) {
+            this.writer = writer;
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * A {@link MarshallerSupplier} implementation that supplies
+     * instances of {@link BinaryMarshaller}.
+     * <p>
+     * It is named differently from the suppliers of the Users and Carts
+     * services, so all of them can be deployed into the same application,
+     * as they are by the benchmarks.
+     */
+    @Dependent
+    @Named("orders-binary")
+    public static class Supplier implements MarshallerSupplier {
+        @Override
+        public <T> MethodDescriptor.Marshaller<T> get(Class<T> clazz) {
+            return new BinaryMarshaller<>(clazz);
+        }
+    }
+}
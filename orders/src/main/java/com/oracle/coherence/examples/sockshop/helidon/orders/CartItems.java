@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The items in a customer's cart, as exchanged with the Carts service.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartItems {
+    /**
+     * The cart identifier.
+     */
+    private String cartId;
+
+    /**
+     * The items in the cart.
+     */
+    private List<Item> items = new ArrayList<>();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,20 +7,16 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.orders;
 
-import java.util.List;
+import java.util.concurrent.CompletionStage;
 
-import jakarta.ws.rs.Consumes;
-import jakarta.ws.rs.Path;
-import jakarta.ws.rs.PathParam;
-import jakarta.ws.rs.GET;
-import jakarta.ws.rs.core.MediaType;
-
-import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import io.helidon.grpc.api.Grpc;
 
 /**
- * Client-side interface for Carts REST service.
+ * Client-side interface for Carts gRPC service.
  */
-@RegisterRestClient(baseUri = "http://carts/")
+@Grpc.GrpcService("CartGrpc")
+@Grpc.GrpcChannel("carts")
+@Grpc.GrpcMarshaller("orders-binary")
 public interface CartsClient {
    /**
     * Get cart items.
@@ -29,8 +25,57 @@ public interface CartsClient {
     *
     * @return cart items from the specified cart
     */
-   @Path("/carts/{cartId}/items")
-   @GET
-   @Consumes(MediaType.APPLICATION_JSON)
-   public List<Item> cart(@PathParam("cartId") String cartId);
+   @Grpc.Unary
+   CartItems items(String cartId);
+
+   /**
+    * Delete the cart.
+    *
+    * @param cartId  cart identifier
+    *
+    * @return {@code true} if the cart existed
+    */
+   @Grpc.Unary
+   Boolean clear(String cartId);
+
+   /**
+    * Remove the cart and return its items, in a single operation.
+    *
+    * @param cartId  cart identifier
+    *
+    * @return cart items from the removed cart
+    */
+   @Grpc.Unary
+   CartItems checkout(String cartId);
+
+   /**
+    * Remove the cart and return its items asynchronously.
+    *
+    * @param cartId  cart identifier
+    *
+    * @return cart items from the removed cart
+    */
+   @Grpc.Unary("checkout")
+   CompletionStage<CartItems> checkoutAsync(String cartId);
+
+   /**
+    * Add the items of a checked out cart back to it, if the order
+    * could not be created.
+    *
+    * @param cart  the checked out cart items
+    *
+    * @return the restored cart items
+    */
+   @Grpc.Unary
+   CartItems restore(CartItems cart);
+
+   /**
+    * Add the items of a checked out cart back to it asynchronously.
+    *
+    * @param cart  the checked out cart items
+    *
+    * @return the restored cart items
+    */
+   @Grpc.Unary("restore")
+   CompletionStage<CartItems> restoreAsync(CartItems cart);
 }
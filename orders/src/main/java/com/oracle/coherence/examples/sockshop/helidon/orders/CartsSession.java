@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+
+import com.oracle.coherence.cdi.ConfigUri;
+import com.oracle.coherence.cdi.Scope;
+import com.oracle.coherence.cdi.SessionInitializer;
+
+import com.tangosol.net.Coherence;
+
+/**
+ * The Coherence session used by {@link CoLocatedCartsClient} to access
+ * the carts map of the carts service.
+ * <p/>
+ * The maps injected by name are local to the {@code Orders} cache service.
+ * This session joins the {@code Carts} cache service as a storage disabled
+ * member instead, using the default scope, so that the service name matches
+ * the one started by the carts service. The service is only started when
+ * {@link CoLocatedCartsClient} is first used.
+ */
+@ApplicationScoped
+@Named(CartsSession.NAME)
+@Scope(Coherence.DEFAULT_SCOPE)
+@ConfigUri("carts-cache-config.xml")
+public class CartsSession implements SessionInitializer {
+    /**
+     * The name of the carts session.
+     */
+    public static final String NAME = "carts";
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.helidon.grpc.api.Grpc;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+/**
+ * Fault tolerant access to the services used to check out and process orders.
+ * <p/>
+ * Each call is isolated by a bulkhead, so a slow service can only tie up a
+ * bounded number of order threads, and protected by a circuit breaker, so
+ * calls fail fast while the service is degraded instead of piling up. The
+ * limits can be tuned using the standard MicroProfile Fault Tolerance config
+ * properties, such as {@code <class>/userDetails/Bulkhead/value}, where
+ * {@code <class>} is the fully qualified name of this class, and the state of
+ * each bulkhead and circuit breaker is published as {@code ft.*} metrics.
+ * <p/>
+ * Checking out a cart, authorizing a payment and shipping an order change
+ * state, so they are never retried or hedged, and giving up on them doesn't
+ * undo them. They are bounded by the deadlines configured by
+ * {@code checkout.timeout.carts-millis}, {@code checkout.timeout.payment-millis}
+ * and {@code checkout.timeout.shipping-millis} instead of {@code @Timeout},
+ * so that a call that completes after its deadline is still seen: a cart
+ * checked out too late is restored, and a payment or shipment made too late
+ * is logged, so it can be reconciled with the failed order. Such calls are
+ * counted by the {@code checkout.late.results} counter.
+ * <p/>
+ * User details lookups are read-only, so they are bounded by a timeout, and
+ * can also be hedged by setting {@code checkout.hedge.users-delay-millis}: if
+ * a lookup doesn't complete within that time, a second one is sent and
+ * whichever completes first is used. Hedged requests are counted by the
+ * {@code checkout.hedged.requests} counter.
+ * <p/>
+ * When orders is deployed into the same Coherence cluster as the users and
+ * carts services, setting {@code checkout.co-located} to {@code true} replaces
+ * the users and carts gRPC clients with {@link CoLocatedUsersClient} and
+ * {@link CoLocatedCartsClient}, which read their caches directly.
+ */
+@Slf4j
+@ApplicationScoped
+public class CheckoutClients {
+    @Inject
+    @Grpc.GrpcProxy
+    protected CartsClient cartsService;
+
+    @Inject
+    @Grpc.GrpcProxy
+    protected UsersClient usersService;
+
+    @Inject
+    @Grpc.GrpcProxy
+    protected PaymentClient paymentService;
+
+    @Inject
+    @Grpc.GrpcProxy
+    protected ShippingClient shippingService;
+
+    @Inject
+    protected Instance<CoLocatedUsersClient> coLocatedUsers;
+
+    @Inject
+    protected Instance<CoLocatedCartsClient> coLocatedCarts;
+
+    private final long hedgeDelayMillis;
+
+    private final long cartsTimeoutMillis;
+
+    private final long paymentTimeoutMillis;
+
+    private final long shippingTimeoutMillis;
+
+    private final boolean coLocated;
+
+    private final Counter hedged;
+
+    private final Counter lateResults;
+
+    @Inject
+    public CheckoutClients(@ConfigProperty(name = "checkout.hedge.users-delay-millis", defaultValue = "0") long hedgeDelayMillis,
+                           @ConfigProperty(name = "checkout.timeout.carts-millis", defaultValue = "5000") long cartsTimeoutMillis,
+                           @ConfigProperty(name = "checkout.timeout.payment-millis", defaultValue = "5000") long paymentTimeoutMillis,
+                           @ConfigProperty(name = "checkout.timeout.shipping-millis", defaultValue = "5000") long shippingTimeoutMillis,
+                           @ConfigProperty(name = "checkout.co-located", defaultValue = "false") boolean coLocated,
+                           MetricRegistry registry) {
+        this.hedgeDelayMillis = hedgeDelayMillis;
+        this.cartsTimeoutMillis = cartsTimeoutMillis;
+        this.paymentTimeoutMillis = paymentTimeoutMillis;
+        this.shippingTimeoutMillis = shippingTimeoutMillis;
+        this.coLocated = coLocated;
+        this.hedged = registry.counter("checkout.hedged.requests");
+        this.lateResults = registry.counter("checkout.late.results");
+    }
+
+    @PostConstruct
+    void init() {
+        if (coLocated) {
+            log.info("Accessing users and carts caches directly");
+            usersService = coLocatedUsers.get();
+            cartsService = coLocatedCarts.get();
+        }
+    }
+
+    // ---- carts -----------------------------------------------------------
+
+    @Bulkhead(32)
+    @CircuitBreaker(requestVolumeThreshold = 20, failureRatio = 0.5, delay = 5000)
+    public CartItems checkoutCart(String cartId) {
+        return join(checkoutWithDeadline(cartId));
+    }
+
+    @Asynchronous
+    @Bulkhead(32)
+    @CircuitBreaker(requestVolumeThreshold = 20, failureRatio = 0.5, delay = 5000)
+    public CompletionStage<CartItems> checkoutCartAsync(String cartId) {
+        return checkoutWithDeadline(cartId);
+    }
+
+    /**
+     * Check out the specified cart, and restore it if the checkout completes
+     * after its deadline, as the order has failed by then.
+     *
+     * @param cartId the cart to check out
+     *
+     * @return the checked out cart items
+     */
+    private CompletableFuture<CartItems> checkoutWithDeadline(String cartId) {
+        return withDeadline(cartsService.checkoutAsync(cartId), cartsTimeoutMillis, cart -> {
+            log.warn("Cart {} was checked out after its deadline, restoring it", cartId);
+            restoreCart(cart);
+        });
+    }
+
+    /**
+     * Add the items of a checked out cart back to it, without failing if
+     * that is not possible, as the order has failed already.
+     *
+     * @param cart the checked out cart items
+     */
+    public void restoreCart(CartItems cart) {
+        try {
+            cartsService.restoreAsync(cart).whenComplete((restored, e) -> {
+                if (e != null) {
+                    log.warn("Failed to restore cart {}: {}", cart.getCartId(), e.toString());
+                }
+            });
+        }
+        catch (RuntimeException e) {
+            log.warn("Failed to restore cart {}: {}", cart.getCartId(), e.toString());
+        }
+    }
+
+    // ---- users -----------------------------------------------------------
+
+    @Bulkhead(32)
+    @Timeout(2000)
+    @CircuitBreaker(requestVolumeThreshold = 20, failureRatio = 0.5, delay = 5000)
+    public UserDetails userDetails(UserDetailsRequest request) {
+        if (hedgeDelayMillis <= 0) {
+            return usersService.details(request);
+        }
+        return join(hedge(() -> usersService.detailsAsync(request)));
+    }
+
+    @Asynchronous
+    @Bulkhead(32)
+    @Timeout(2000)
+    @CircuitBreaker(requestVolumeThreshold = 20, failureRatio = 0.5, delay = 5000)
+    public CompletionStage<UserDetails> userDetailsAsync(UserDetailsRequest request) {
+        return hedgeDelayMillis <= 0
+               ? usersService.detailsAsync(request)
+               : hedge(() -> usersService.detailsAsync(request));
+    }
+
+    // ---- payment and shipping --------------------------------------------
+
+    @Bulkhead(16)
+    @CircuitBreaker(requestVolumeThreshold = 20, failureRatio = 0.5, delay = 5000)
+    public Payment authorize(PaymentRequest request) {
+        return join(withDeadline(paymentService.authorizeAsync(request), paymentTimeoutMillis, payment ->
+                log.warn("Payment for order {} completed after its deadline: {}", request.getOrderId(), payment)));
+    }
+
+    @Bulkhead(16)
+    @CircuitBreaker(requestVolumeThreshold = 20, failureRatio = 0.5, delay = 5000)
+    public Shipment ship(ShippingRequest request) {
+        return join(withDeadline(shippingService.shipAsync(request), shippingTimeoutMillis, shipment ->
+                log.warn("Shipment for order {} created after its deadline: {}", request.getOrderId(), shipment)));
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    /**
+     * Wait for the specified state-changing call to complete within the
+     * specified time, and pass its result to the specified handler if it
+     * completes after that, so the change it made can be undone or recorded.
+     *
+     * @param call          the call in progress
+     * @param timeoutMillis the time to wait for the call to complete
+     * @param lateResult    the handler for a result that arrives too late
+     * @param <T>           the type of the call result
+     *
+     * @return the result of the call, or a {@link TimeoutException} if it
+     *         didn't complete in time
+     */
+    private <T> CompletableFuture<T> withDeadline(CompletionStage<T> call, long timeoutMillis, Consumer<T> lateResult) {
+        CompletableFuture<T> future = call.toCompletableFuture();
+        return future.copy()
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(e -> {
+                    if (e instanceof CompletionException && e.getCause() != null) {
+                        return CompletableFuture.failedFuture(e.getCause());
+                    }
+                    if (e instanceof java.util.concurrent.TimeoutException) {
+                        future.thenAccept(result -> {
+                            lateResults.inc();
+                            lateResult.accept(result);
+                        });
+                        return CompletableFuture.failedFuture(new TimeoutException("No result after " + timeoutMillis + " ms"));
+                    }
+                    return CompletableFuture.failedFuture(e);
+                });
+    }
+
+    /**
+     * Wait for the specified call to complete, and throw its failure, if any,
+     * without the {@link CompletionException} wrapper.
+     *
+     * @param call the call in progress
+     * @param <T>  the type of the call result
+     *
+     * @return the result of the call
+     */
+    private static <T> T join(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        }
+        catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Make the specified idempotent call, and make it again if the first
+     * call doesn't complete within the hedge delay.
+     *
+     * @param call the call to make
+     * @param <T>  the type of the call result
+     *
+     * @return the result of the first successful call, or the failure of the
+     *         last call if none of them succeeded
+     */
+    private <T> CompletableFuture<T> hedge(Supplier<CompletionStage<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        BiConsumer<T, Throwable> complete = (value, e) -> {
+            if (e == null) {
+                result.complete(value);
+            }
+            else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            }
+        };
+
+        call.get().whenComplete(complete);
+        CompletableFuture.delayedExecutor(hedgeDelayMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            if (!result.isDone()) {
+                pending.incrementAndGet();
+                hedged.inc();
+                call.get().whenComplete(complete);
+            }
+        });
+        return result;
+    }
+}
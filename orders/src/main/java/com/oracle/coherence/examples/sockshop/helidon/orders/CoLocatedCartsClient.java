@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import io.helidon.grpc.api.Grpc;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.cdi.SessionName;
+
+import com.tangosol.net.NamedMap;
+
+import com.tangosol.util.Extractors;
+import com.tangosol.util.Processors;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.extractor.ChainedExtractor;
+import com.tangosol.util.extractor.UniversalExtractor;
+
+/**
+ * An implementation of {@link CartsClient} that reads carts directly from
+ * the cache of the Carts service, for deployments where orders is a member
+ * of the same Coherence cluster.
+ * <p/>
+ * The cache holds the Carts service's own classes, which orders doesn't
+ * have, so carts are only accessed using the extractors and processors
+ * built into Coherence, which return the plain field values of each item.
+ * <p/>
+ * The cache belongs to the {@code Carts} cache service, so it is accessed
+ * through the {@link CartsSession}. Like {@link CoLocatedUsersClient}, this
+ * client only reads it: clearing, checking out and restoring a cart change
+ * the Carts service's data, so they are still delegated to the Carts service.
+ */
+@ApplicationScoped
+public class CoLocatedCartsClient implements CartsClient {
+    private static final ValueExtractor<Object, List<List<?>>> ITEMS = new ChainedExtractor<>(
+            new UniversalExtractor<>("items"),
+            Extractors.fromCollection(Extractors.multi("itemId", "quantity", "unitPrice")));
+
+    private final NamedMap<String, Object> carts;
+
+    private final CartsClient remote;
+
+    @Inject
+    CoLocatedCartsClient(@Name("carts") @SessionName(CartsSession.NAME) NamedMap<String, Object> carts,
+                         @Grpc.GrpcProxy CartsClient remote) {
+        this.carts = carts;
+        this.remote = remote;
+    }
+
+    @Override
+    public CartItems items(String cartId) {
+        return new CartItems(cartId, items(carts.invoke(cartId, Processors.extract(ITEMS))));
+    }
+
+    @Override
+    public Boolean clear(String cartId) {
+        return remote.clear(cartId);
+    }
+
+    @Override
+    public CartItems checkout(String cartId) {
+        return remote.checkout(cartId);
+    }
+
+    @Override
+    public CompletionStage<CartItems> checkoutAsync(String cartId) {
+        return remote.checkoutAsync(cartId);
+    }
+
+    @Override
+    public CartItems restore(CartItems cart) {
+        return remote.restore(cart);
+    }
+
+    @Override
+    public CompletionStage<CartItems> restoreAsync(CartItems cart) {
+        return remote.restoreAsync(cart);
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    /**
+     * Convert the extracted field values of cart items into order items.
+     *
+     * @param values the {@code itemId}, {@code quantity} and {@code unitPrice}
+     *               of each item, or {@code null} if the cart doesn't exist
+     *
+     * @return the order items
+     */
+    @SuppressWarnings("unchecked")
+    static List<Item> items(Object values) {
+        List<Item> items = new ArrayList<>();
+        if (values != null) {
+            for (List<?> fields : (List<List<?>>) values) {
+                items.add(new Item((String) fields.get(0),
+                                   ((Number) fields.get(1)).intValue(),
+                                   ((Number) fields.get(2)).floatValue()));
+            }
+        }
+        return items;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.cdi.SessionName;
+
+import com.tangosol.net.NamedMap;
+
+import com.tangosol.util.Aggregators;
+import com.tangosol.util.Extractors;
+import com.tangosol.util.Filter;
+import com.tangosol.util.Filters;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.extractor.ChainedExtractor;
+import com.tangosol.util.extractor.KeyExtractor;
+import com.tangosol.util.extractor.UniversalExtractor;
+import com.tangosol.util.filter.KeyAssociatedFilter;
+
+/**
+ * An implementation of {@link UsersClient} that reads customers, addresses
+ * and cards directly from the caches of the Users service, for deployments
+ * where orders is a member of the same Coherence cluster.
+ * <p/>
+ * The caches hold the Users service's own classes, which orders doesn't
+ * have, so they are only accessed using the extractors and aggregators
+ * built into Coherence, which run on the storage members and return plain
+ * field values. Card numbers are masked on the storage members as well.
+ * <p/>
+ * The caches belong to the {@code Users} cache service, so they are accessed
+ * through the {@link UsersSession}. This client only reads them.
+ */
+@ApplicationScoped
+public class CoLocatedUsersClient implements UsersClient {
+    private static final ValueExtractor<Object, List<?>> CUSTOMER =
+            Extractors.multi("username", "firstName", "lastName", "email");
+
+    private static final ValueExtractor<Object, List<?>> ADDRESS =
+            Extractors.multi("number", "street", "city", "postcode", "country");
+
+    @SuppressWarnings("unchecked")
+    private static final ValueExtractor<Object, List<?>> CARD = Extractors.multi(
+            new ChainedExtractor<>(new UniversalExtractor<>("masked()"), new UniversalExtractor<>("longNum")),
+            new UniversalExtractor<>("expires"),
+            new UniversalExtractor<>("ccv"));
+
+    private final NamedMap<String, Object> users;
+    private final NamedMap<Object, Object> addresses;
+    private final NamedMap<Object, Object> cards;
+
+    @Inject
+    CoLocatedUsersClient(@Name("users") @SessionName(UsersSession.NAME) NamedMap<String, Object> users,
+                         @Name("addresses") @SessionName(UsersSession.NAME) NamedMap<Object, Object> addresses,
+                         @Name("cards") @SessionName(UsersSession.NAME) NamedMap<Object, Object> cards) {
+        this.users = users;
+        this.addresses = addresses;
+        this.cards = cards;
+    }
+
+    @Override
+    public Address address(String addressId) {
+        return address(addresses.aggregate(ownedBy(addressId, "addressId"), Aggregators.distinctValues(ADDRESS)));
+    }
+
+    @Override
+    public Card card(String cardId) {
+        return card(cards.aggregate(ownedBy(cardId, "cardId"), Aggregators.distinctValues(CARD)));
+    }
+
+    @Override
+    public Customer customer(String customerId) {
+        return customer(customerId, users.aggregate(Set.of(customerId), Aggregators.distinctValues(CUSTOMER)));
+    }
+
+    @Override
+    public UserDetails details(UserDetailsRequest request) {
+        return new UserDetails(customer(request.getCustomerId()),
+                               address(request.getAddressId()),
+                               card(request.getCardId()));
+    }
+
+    @Override
+    public CompletionStage<UserDetails> detailsAsync(UserDetailsRequest request) {
+        // all three lookups run concurrently, without blocking a thread
+        String customerId = request.getCustomerId();
+        CompletableFuture<Customer> customer = users.async()
+                .aggregate(Set.of(customerId), Aggregators.distinctValues(CUSTOMER))
+                .thenApply(values -> customer(customerId, values));
+        CompletableFuture<Address> address = addresses.async()
+                .aggregate(ownedBy(request.getAddressId(), "addressId"), Aggregators.distinctValues(ADDRESS))
+                .thenApply(values -> address(values));
+        CompletableFuture<Card> card = cards.async()
+                .aggregate(ownedBy(request.getCardId(), "cardId"), Aggregators.distinctValues(CARD))
+                .thenApply(values -> card(values));
+
+        return CompletableFuture.allOf(customer, address, card)
+                .thenApply(ignore -> new UserDetails(customer.join(), address.join(), card.join()));
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    /**
+     * Return a filter for the address or card with the specified identifier,
+     * which only targets the partition that owns the customer's data.
+     * <p/>
+     * The keys are matched by their {@code user} and {@code id} properties,
+     * as the key classes themselves are not available to orders.
+     *
+     * @param id       the identifier, in the {@code user:id} format
+     * @param property the name of the key property holding the id
+     *
+     * @return the filter for the address or card
+     */
+    static Filter<?> ownedBy(String id, String property) {
+        int separator = id.indexOf(':');
+        String user = separator < 0 ? id : id.substring(0, separator);
+        String key  = separator < 0 ? null : id.substring(separator + 1);
+
+        Filter<?> filter = Filters.equal(new KeyExtractor<>(new UniversalExtractor<>("user")), user)
+                .and(Filters.equal(new KeyExtractor<>(new UniversalExtractor<>(property)), key));
+        return new KeyAssociatedFilter<>(filter, user);
+    }
+
+    private static Address address(Set<? extends List<?>> values) {
+        List<?> fields = first(values);
+        return fields == null
+               ? new Address()
+               : new Address((String) fields.get(0), (String) fields.get(1), (String) fields.get(2),
+                             (String) fields.get(3), (String) fields.get(4));
+    }
+
+    private static Card card(Set<? extends List<?>> values) {
+        List<?> fields = first(values);
+        return fields == null
+               ? new Card()
+               : new Card((String) fields.get(0), (String) fields.get(1), (String) fields.get(2));
+    }
+
+    private static Customer customer(String customerId, Set<? extends List<?>> values) {
+        List<?> fields = first(values);
+        return fields == null
+               ? new Customer(customerId, null, null, null)
+               : new Customer((String) fields.get(0), (String) fields.get(1), (String) fields.get(2),
+                              (String) fields.get(3));
+    }
+
+    private static List<?> first(Set<? extends List<?>> values) {
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+}
@@ -7,7 +7,6 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.orders;
 
-import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -15,6 +14,8 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
 import com.tangosol.net.NamedMap;
 import com.tangosol.util.Filters;
 
@@ -23,6 +24,7 @@ import com.tangosol.util.Filters;
  * that that uses Coherence as a backend data store.
  */
 @ApplicationScoped
+@RepositoryMetrics
 public class CoherenceOrderRepository implements OrderRepository {
     protected NamedMap<String, Order> orders;
 
@@ -31,20 +33,20 @@ public class CoherenceOrderRepository implements OrderRepository {
         this.orders = orders;
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public Collection<? extends Order> findOrdersByCustomer(String customerId) {
         Collection<Order> customerOrders = orders.values(Filters.equal(o -> ((Order) o).getCustomer().getId(), customerId), null);
         return customerOrders.isEmpty() ? Collections.EMPTY_LIST : customerOrders;
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public Order get(String orderId) {
         return orders.get(orderId);
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public void saveOrder(Order order) {
         orders.put(order.getOrderId(), order);
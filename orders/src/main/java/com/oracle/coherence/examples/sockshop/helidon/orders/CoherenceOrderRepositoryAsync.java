@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
+import com.tangosol.net.AsyncNamedMap;
+import com.tangosol.util.Filters;
+
+/**
+ * An implementation of {@link OrderRepositoryAsync}
+ * that that uses Coherence as a backend data store.
+ */
+@ApplicationScoped
+@RepositoryMetrics
+public class CoherenceOrderRepositoryAsync implements OrderRepositoryAsync {
+    protected final AsyncNamedMap<String, Order> orders;
+
+    @Inject
+    public CoherenceOrderRepositoryAsync(@Name("orders") AsyncNamedMap<String, Order> orders) {
+        this.orders = orders;
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<Collection<Order>> findOrdersByCustomer(String customerId) {
+        return orders.values(Filters.equal(o -> ((Order) o).getCustomer().getId(), customerId));
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<Order> get(String orderId) {
+        return orders.get(orderId);
+    }
+
+    @SampledSpan
+    @Override
+    public CompletionStage<Void> saveOrder(Order order) {
+        return orders.put(order.getOrderId(), order);
+    }
+}
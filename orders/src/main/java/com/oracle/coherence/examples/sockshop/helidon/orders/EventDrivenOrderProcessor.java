@@ -7,15 +7,18 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.orders;
 
-import io.helidon.grpc.api.Grpc;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.TraceParent;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.TraceParentHeaders;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.TracingPolicy;
+
 import io.helidon.tracing.Span;
 import io.helidon.tracing.Tracer;
 import io.helidon.tracing.Scope;
-import io.helidon.tracing.HeaderProvider;
-import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.ObservesAsync;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
 
 import com.oracle.coherence.cdi.events.Inserted;
 import com.oracle.coherence.cdi.events.MapName;
@@ -24,10 +27,13 @@ import com.tangosol.net.events.partition.cache.EntryEvent;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceException;
+
 import java.util.Optional;
 
 import static com.oracle.coherence.examples.sockshop.helidon.orders.Order.Status.PAID;
 import static com.oracle.coherence.examples.sockshop.helidon.orders.Order.Status.PAYMENT_FAILED;
+import static com.oracle.coherence.examples.sockshop.helidon.orders.Order.Status.SHIPMENT_FAILED;
 import static com.oracle.coherence.examples.sockshop.helidon.orders.Order.Status.SHIPPED;
 
 /**
@@ -46,34 +52,45 @@ public class EventDrivenOrderProcessor implements OrderProcessor {
     protected OrderRepository orders;
 
     /**
-     * Shipping service client.
+     * Fault tolerant payment and shipping service clients.
+     */
+    @Inject
+    protected CheckoutClients clients;
+
+    /**
+     * Inventory service client.
      */
     @Inject
-    @Grpc.GrpcProxy
-    protected ShippingClient shippingService;
+    protected InventoryClient inventoryService;
 
     /**
-     * Payment service client.
+     * Tracing policy to use.
      */
     @Inject
-    @Grpc.GrpcProxy
-    protected PaymentClient paymentService;
+    protected TracingPolicy tracingPolicy;
 
     // --- OrderProcessor interface -----------------------------------------
 
     @Override
-    @WithSpan
+    @SampledSpan
     public void processOrder(Order order) {
         // Inject current trace context into order for async propagation
-        String traceParent = TraceUtils.injectCurrentTraceParent();
+        String traceParent = TraceParent.current();
         order.setTraceParent(traceParent);
         
-        if (TraceUtils.hasTraceContext(traceParent)) {
+        if (TraceParent.isValid(traceParent)) {
             log.info("Injected trace context into order {}: {}", 
                      order.getOrderId(), traceParent);
         }
-        
-        saveOrder(order);
+
+        reserveStock(order);
+        try {
+            saveOrder(order);
+        }
+        catch (RuntimeException e) {
+            releaseStock(order);
+            throw e;
+        }
     }
     // ---- helpers ---------------------------------------------------------
 
@@ -82,28 +99,82 @@ public class EventDrivenOrderProcessor implements OrderProcessor {
      *
      * @param order the order to save
      */
-    @WithSpan
+    @SampledSpan
     protected void saveOrder(Order order) {
         orders.saveOrder(order);
-        log.info("Order saved: " + order);
+        log.info("Order saved: {}", order);
+    }
+
+    /**
+     * Reserve stock for the items in the specified order.
+     *
+     * @param order the order to reserve stock for
+     *
+     * @throws OutOfStockException if there is not enough stock for the order
+     */
+    @SampledSpan
+    protected void reserveStock(Order order) {
+        try {
+            inventoryService.reserve(order.getOrderId(), order.getItems());
+        }
+        catch (WebApplicationException e) {
+            throw OutOfStockException.translate(order.getOrderId(), e);
+        }
+        log.info("Stock reserved for order {}", order.getOrderId());
+    }
+
+    /**
+     * Release the stock reserved for the specified order.
+     *
+     * @param order the order to release stock for
+     */
+    @SampledSpan
+    protected void releaseStock(Order order) {
+        try {
+            inventoryService.release(order.getOrderId());
+            log.info("Stock released for order {}", order.getOrderId());
+        }
+        catch (RuntimeException e) {
+            log.warn("Failed to release stock for order {}: {}", order.getOrderId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Commit the stock reserved for the specified order, once it has shipped.
+     * <p/>
+     * If the reservation can't be committed, the inventory service removes
+     * it once it expires, so the failure is only logged.
+     *
+     * @param order the order to commit stock for
+     */
+    @SampledSpan
+    protected void commitStock(Order order) {
+        try {
+            inventoryService.commit(order.getOrderId());
+            log.info("Stock committed for order {}", order.getOrderId());
+        }
+        catch (RuntimeException e) {
+            log.warn("Failed to commit stock for order {}: {}", order.getOrderId(), e.getMessage());
+        }
     }
 
     /**
      * Process payment and update order with payment details.
+     * <p/>
+     * If the payment can't be authorized, including when the payment service
+     * is unavailable, the order fails and its stock reservation is released.
      *
      * @param order the order to process the payment for
      *
      * @throws PaymentDeclinedException if the payment was declined
      */
-    @WithSpan
+    @SampledSpan
     protected void processPayment(Order order) {
         // Extract current traceparent string from order or current span
         String currentTp = order.getTraceParent();
         if (currentTp == null) {
             // Fallback: extract from current span
-            io.helidon.tracing.HeaderConsumer consumer = io.helidon.tracing.HeaderConsumer.create(new java.util.HashMap<>());
-            io.helidon.tracing.Tracer.global().inject(io.helidon.tracing.Span.current().get().context(), null, consumer);
-            currentTp = consumer.get("traceparent").orElse(null);
+            currentTp = TraceParent.current();
         }
 
         log.info(">>>> [RELAY SEND] Sending payment with Trace: {}", currentTp);
@@ -117,19 +188,40 @@ public class EventDrivenOrderProcessor implements OrderProcessor {
                 .traceParent(currentTp)  // Explicitly pass trace context via business field
                 .build();
 
-        log.info("Processing Payment: " + paymentRequest);
-        Payment payment = paymentService.authorize(paymentRequest);
+        log.info("Processing Payment: {}", paymentRequest);
+        Payment payment;
+        try {
+            payment = clients.authorize(paymentRequest);
+        }
+        catch (FaultToleranceException e) {
+            // the payment circuit breaker is open, or its bulkhead is full;
+            // fail the order rather than save it as CREATED again, which
+            // would process it again as soon as it is saved
+            log.warn("Payment for order {} rejected: {}", order.getOrderId(), e.toString());
+            payment = Payment.builder()
+                    .authorised(false)
+                    .message("Payment service unavailable")
+                    .build();
+        }
+        catch (RuntimeException e) {
+            log.warn("Payment for order {} failed: {}", order.getOrderId(), e.toString());
+            payment = Payment.builder()
+                    .authorised(false)
+                    .message("Payment failed")
+                    .build();
+        }
         if (payment == null) {
             payment = Payment.builder()
                     .authorised(false)
                     .message("Unable to parse authorization packet")
                     .build();
         }
-        log.info("Payment processed: " + payment);
+        log.info("Payment processed: {}", payment);
 
         order.setPayment(payment);
         if (!payment.isAuthorised()) {
             order.setStatus(PAYMENT_FAILED);
+            releaseStock(order);
             throw new PaymentDeclinedException(payment.getMessage());
         }
 
@@ -138,18 +230,21 @@ public class EventDrivenOrderProcessor implements OrderProcessor {
 
     /**
      * Submits order for shipping and updates order with shipment details.
+     * <p/>
+     * If the shipment can't be created, including when the shipping service
+     * is unavailable, the order fails and its stock reservation is released.
      *
      * @param order the order to ship
+     *
+     * @throws ShipmentFailedException if the shipment couldn't be created
      */
-    @WithSpan
+    @SampledSpan
     protected void shipOrder(Order order) {
         // Extract current traceparent string from order or current span
         String currentTp = order.getTraceParent();
         if (currentTp == null) {
             // Fallback: extract from current span
-            io.helidon.tracing.HeaderConsumer consumer = io.helidon.tracing.HeaderConsumer.create(new java.util.HashMap<>());
-            io.helidon.tracing.Tracer.global().inject(io.helidon.tracing.Span.current().get().context(), null, consumer);
-            currentTp = consumer.get("traceparent").orElse(null);
+            currentTp = TraceParent.current();
         }
 
         log.info(">>>> [RELAY SEND] Sending with Trace: {}", currentTp);
@@ -162,16 +257,43 @@ public class EventDrivenOrderProcessor implements OrderProcessor {
                 .traceParent(currentTp)  // Explicitly pass trace context via business field
                 .build();
 
-        log.info("Creating Shipment: " + shippingRequest);
-        Shipment shipment = shippingService.ship(shippingRequest);
-        log.info("Created Shipment: " + shipment);
+        log.info("Creating Shipment: {}", shippingRequest);
+        Shipment shipment;
+        try {
+            shipment = clients.ship(shippingRequest);
+        }
+        catch (FaultToleranceException e) {
+            // the shipping circuit breaker is open, its bulkhead is full or the
+            // call timed out; fail the order rather than save it as PAID again,
+            // which would ship it again as soon as it is saved
+            log.warn("Shipment for order {} rejected: {}", order.getOrderId(), e.toString());
+            failShipment(order);
+            throw new ShipmentFailedException("Shipping service unavailable");
+        }
+        catch (RuntimeException e) {
+            log.warn("Shipment for order {} failed: {}", order.getOrderId(), e.toString());
+            failShipment(order);
+            throw new ShipmentFailedException("Shipment failed");
+        }
+        log.info("Created Shipment: {}", shipment);
 
         order.setShipment(shipment);
         order.setStatus(SHIPPED);
+        commitStock(order);
     }
 
     // ---- helper methods --------------------------------------------------
 
+    /**
+     * Mark the specified order as failed to ship and release its stock.
+     *
+     * @param order the order that couldn't be shipped
+     */
+    private void failShipment(Order order) {
+        order.setStatus(SHIPMENT_FAILED);
+        releaseStock(order);
+    }
+
     /**
      * An exception that is thrown if the payment is declined.
      */
@@ -181,59 +303,39 @@ public class EventDrivenOrderProcessor implements OrderProcessor {
         }
     }
 
+    /**
+     * An exception that is thrown if the order can't be shipped.
+     */
+    public static class ShipmentFailedException extends OrderException {
+        public ShipmentFailedException(String s) {
+            super(s);
+        }
+    }
+
     void onOrderCreated(@ObservesAsync @Inserted @Updated @MapName("orders") EntryEvent<String, Order> event) {
         Order order = event.getValue();
         String traceParent = order.getTraceParent();
         
-        if (TraceUtils.hasTraceContext(traceParent)) {
+        if (TraceParent.isValid(traceParent)) {
             log.info("Processing order with trace context {}: {}", 
                      order.getOrderId(), traceParent);
         } else {
             log.warn("No trace context found for order {}, creating new trace", order.getOrderId());
         }
+
+        if (!tracingPolicy.isSampled("process-order-event", traceParent)) {
+            processOrderEvent(order);
+            return;
+        }
         
         // Get Helidon's global tracer
         Tracer tracer = Tracer.global();
         
         // Extract parent context using Helidon's built-in parser
-        Optional<io.helidon.tracing.SpanContext> parentContext = Optional.empty();
-        if (TraceUtils.hasTraceContext(traceParent)) {
-            // Create a HeaderProvider that provides the traceparent header
-            final String finalTraceParent = traceParent;
-            HeaderProvider headerProvider = new HeaderProvider() {
-                @Override
-                public Iterable<String> keys() {
-                    return java.util.List.of("traceparent");
-                }
-                
-                @Override
-                public Optional<String> get(String key) {
-                    if ("traceparent".equalsIgnoreCase(key)) {
-                        return Optional.of(finalTraceParent);
-                    }
-                    return Optional.empty();
-                }
-                
-                @Override
-                public Iterable<String> getAll(String key) {
-                    if ("traceparent".equalsIgnoreCase(key)) {
-                        return java.util.List.of(finalTraceParent);
-                    }
-                    return java.util.List.of();
-                }
-                
-                @Override
-                public boolean contains(String key) {
-                    return "traceparent".equalsIgnoreCase(key);
-                }
-            };
-            
-            // Use Helidon's extract method to parse the traceparent
-            parentContext = tracer.extract(headerProvider);
-            if (parentContext.isPresent()) {
-                log.info("Extracted parent context for order {}: traceId={}", 
-                         order.getOrderId(), parentContext.get().traceId());
-            }
+        Optional<io.helidon.tracing.SpanContext> parentContext = TraceParentHeaders.of(traceParent).flatMap(tracer::extract);
+        if (parentContext.isPresent()) {
+            log.info("Extracted parent context for order {}: traceId={}", 
+                     order.getOrderId(), parentContext.get().traceId());
         }
         
         // Create a span using Helidon API with explicit parent context
@@ -247,46 +349,54 @@ public class EventDrivenOrderProcessor implements OrderProcessor {
         Span asyncSpan = spanBuilder.start();
         
         try (Scope scope = asyncSpan.activate()) {
-            log.info("Processing order event for order: {} with status: {}", 
-                     order.getOrderId(), order.getStatus());
-            
-            // Save original trace context to propagate to next async event
-            String originalTraceParent = traceParent;
-            
-            switch (order.getStatus()) {
-            case CREATED:
-                try {
-                    processPayment(order);
-                }
-                finally {
-                    // Restore original trace context before saving (don't create cascading chain)
-                    order.setTraceParent(originalTraceParent);
-                    saveOrder(order);
-                }
-                break;
-
-            case PAID:
-                try {
-                    shipOrder(order);
-                }
-                finally {
-                    // Restore original trace context before saving
-                    order.setTraceParent(originalTraceParent);
-                    saveOrder(order);
-                }
-                break;
-
-            default:
-                // do nothing, order is in a terminal state already
-            }
-            
+            processOrderEvent(order);
             asyncSpan.status(Span.Status.OK);
         } catch (Exception e) {
-            log.error("Error processing order event for order: " + order.getOrderId(), e);
+            log.error("Error processing order event for order: {}", order.getOrderId(), e);
             asyncSpan.status(Span.Status.ERROR);
             throw e;
         } finally {
             asyncSpan.end();
         }
     }
+
+    /**
+     * Process payment for, or ship, the specified order, based on its status.
+     *
+     * @param order the order to process
+     */
+    private void processOrderEvent(Order order) {
+        log.info("Processing order event for order: {} with status: {}", 
+                 order.getOrderId(), order.getStatus());
+        
+        // Save original trace context to propagate to next async event
+        String originalTraceParent = order.getTraceParent();
+        
+        switch (order.getStatus()) {
+        case CREATED:
+            try {
+                processPayment(order);
+            }
+            finally {
+                // Restore original trace context before saving (don't create cascading chain)
+                order.setTraceParent(originalTraceParent);
+                saveOrder(order);
+            }
+            break;
+
+        case PAID:
+            try {
+                shipOrder(order);
+            }
+            finally {
+                // Restore original trace context before saving
+                order.setTraceParent(originalTraceParent);
+                saveOrder(order);
+            }
+            break;
+
+        default:
+            // do nothing, order is in a terminal state already
+        }
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+
+/**
+ * Client-side interface for Inventory REST service.
+ * <p/>
+ * Connection and protocol settings are configured in the
+ * {@code rest-client.inventory} section of the configuration, and the number
+ * of concurrent requests is limited by a bulkhead, which can be adjusted using
+ * the {@code <class>/Bulkhead/value} config property, where {@code <class>}
+ * is the fully qualified name of this interface.
+ *
+ * @see RestClientSettings
+ */
+@RegisterRestClient(baseUri = "http://catalogue/", configKey = "inventory")
+@Bulkhead(InventoryClient.MAX_CONCURRENT_REQUESTS)
+public interface InventoryClient {
+   /**
+    * The default maximum number of concurrent requests.
+    */
+   int MAX_CONCURRENT_REQUESTS = 64;
+
+   /**
+    * Reserve stock for the items in an order.
+    *
+    * @param orderId  order identifier
+    * @param items    the items to reserve stock for
+    *
+    * @return the reservation
+    *
+    * @throws jakarta.ws.rs.WebApplicationException with status {@code 409}
+    *         if there is not enough stock
+    */
+   @Path("/inventory/reservations/{orderId}")
+   @PUT
+   @Consumes(MediaType.APPLICATION_JSON)
+   @Produces(MediaType.APPLICATION_JSON)
+   public Response reserve(@PathParam("orderId") String orderId, List<Item> items);
+
+   /**
+    * Reserve stock for the items in an order asynchronously.
+    *
+    * @param orderId  order identifier
+    * @param items    the items to reserve stock for
+    *
+    * @return the reservation
+    */
+   @Path("/inventory/reservations/{orderId}")
+   @PUT
+   @Consumes(MediaType.APPLICATION_JSON)
+   @Produces(MediaType.APPLICATION_JSON)
+   @Asynchronous
+   public CompletionStage<Response> reserveAsync(@PathParam("orderId") String orderId, List<Item> items);
+
+   /**
+    * Release the stock reserved for an order.
+    *
+    * @param orderId  order identifier
+    *
+    * @return the response
+    *
+    * @throws jakarta.ws.rs.WebApplicationException with status {@code 404}
+    *         if there is no reservation for the order
+    */
+   @Path("/inventory/reservations/{orderId}")
+   @DELETE
+   public Response release(@PathParam("orderId") String orderId);
+
+   /**
+    * Release the stock reserved for an order asynchronously.
+    *
+    * @param orderId  order identifier
+    *
+    * @return the response
+    */
+   @Path("/inventory/reservations/{orderId}")
+   @DELETE
+   @Asynchronous
+   public CompletionStage<Response> releaseAsync(@PathParam("orderId") String orderId);
+
+   /**
+    * Commit the stock reserved for an order, once the order has shipped.
+    *
+    * @param orderId  order identifier
+    *
+    * @return the response
+    *
+    * @throws jakarta.ws.rs.WebApplicationException with status {@code 404}
+    *         if there is no confirmed reservation for the order
+    */
+   @Path("/inventory/reservations/{orderId}/commit")
+   @POST
+   public Response commit(@PathParam("orderId") String orderId);
+}
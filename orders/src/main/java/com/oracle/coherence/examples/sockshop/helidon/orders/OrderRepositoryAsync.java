@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A repository interface that should be implemented by
+ * the various async data store integrations.
+ */
+public interface OrderRepositoryAsync {
+    /**
+     * Find all orders for the specified customer.
+     *
+     * @param customerId the customer to find the orders for
+     *
+     * @return all orders for the specified customer
+     */
+    CompletionStage<Collection<Order>> findOrdersByCustomer(String customerId);
+
+    /**
+     * Get an existing order.
+     *
+     * @param orderId the order identifier to get the order for
+     *
+     * @return an existing order, or {@code null} if the specified order
+     *         does not exist
+     */
+    CompletionStage<Order> get(String orderId);
+
+    /**
+     * Save order.
+     *
+     * @param order the order to save
+     */
+    CompletionStage<Void> saveOrder(Order order);
+}
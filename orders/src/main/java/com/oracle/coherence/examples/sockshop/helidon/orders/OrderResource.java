@@ -9,7 +9,6 @@ package com.oracle.coherence.examples.sockshop.helidon.orders;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -44,11 +43,11 @@ public class OrderResource implements OrderApi {
     @Inject
     private OrderProcessor processor;
 
+    /**
+     * Fault tolerant clients of the services used to check out orders.
+     */
     @Inject
-    protected CartsClient cartsService;
-
-    @Inject
-    protected UsersClient usersService;
+    protected CheckoutClients clients;
 
     @Override
     public Response getOrdersForCustomer(String customerId) {
@@ -75,8 +74,43 @@ public class OrderResource implements OrderApi {
     @Override
     @Timed
     public Response newOrder(UriInfo uriInfo, NewOrderRequest request) {
-        log.info("Processing new order: " + request);
+        log.info("Processing new order: {}", request);
+
+        validate(request);
 
+        // the cart is removed as it is read, and only restored if the order fails
+        String itemsPath = request.items.getPath();
+        CartItems cart = clients.checkoutCart(itemsPath.substring(7, itemsPath.length() - 6));
+        try {
+            UserDetails details = clients.userDetails(UserDetailsRequest.of(request));
+
+            Order order = Order.builder()
+                    .customer(details.getCustomer())
+                    .address(details.getAddress())
+                    .card(details.getCard())
+                    .items(cart.getItems())
+                    .build();
+
+            processor.processOrder(order);
+
+            log.info("Created Order: {}", order.getOrderId());
+            return Response.status(CREATED).entity(order).build();
+        }
+        catch (RuntimeException e) {
+            clients.restoreCart(cart);
+            throw e;
+        }
+    }
+
+    /**
+     * Validate the specified order request.
+     *
+     * @param request the order request to validate
+     *
+     * @throws InvalidOrderException if the request is missing any of the
+     *         required URIs, or they have unexpected paths
+     */
+    static void validate(NewOrderRequest request) {
         if (request.address == null || request.customer == null || request.card == null || request.items == null) {
             throw new InvalidOrderException("Invalid order request. Order requires customer, address, card and items.");
         }
@@ -91,23 +125,6 @@ public class OrderResource implements OrderApi {
             !customerPath.startsWith("/customers/")) {
             throw new InvalidOrderException("Invalid order request. Order requires the URIs to have path /customers/xxx, /addresses/xxx, /cards/xxx and /carts/xxx/items.");
         }
-
-        List<Item> items    = cartsService.cart(itemsPath.substring(7, itemsPath.length() - 6));
-        Address    address  = usersService.address(addressPath.substring(11));
-        Card       card     = usersService.card(cardPath.substring(7));
-        Customer   customer = usersService.customer(customerPath.substring(11));
-
-        Order order = Order.builder()
-                .customer(customer)
-                .address(address)
-                .card(card)
-                .items(items)
-                .build();
-
-        processor.processOrder(order);
-
-        log.info("Created Order: " + order.getOrderId());
-        return Response.status(CREATED).entity(order).build();
     }
 
     // ---- inner class: InvalidOrderException ------------------------------
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import com.oracle.coherence.examples.sockshop.helidon.tracing.TraceParent;
+
+import static com.oracle.coherence.examples.sockshop.helidon.orders.OrderResource.validate;
+import static jakarta.ws.rs.core.Response.Status.CREATED;
+import static jakarta.ws.rs.core.Response.Status.NOT_FOUND;
+
+/**
+ * Implementation of the Orders Service async REST API.
+ * <p/>
+ * New orders are stored directly into the {@code orders} map, which
+ * triggers the same event-driven payment and shipping processing as
+ * the orders submitted via the synchronous API.
+ */
+@ApplicationScoped
+@Path("/orders-async")
+public class OrderResourceAsync implements OrderApiAsync {
+    /**
+     * Order repository to use.
+     */
+    @Inject
+    private OrderRepositoryAsync orders;
+
+    /**
+     * Fault tolerant clients of the services used to check out orders.
+     */
+    @Inject
+    protected CheckoutClients clients;
+
+    @Inject
+    protected InventoryClient inventoryService;
+
+    @Override
+    public CompletionStage<Response> getOrdersForCustomer(String customerId) {
+        return orders.findOrdersByCustomer(customerId)
+                .thenApply(customerOrders ->
+                        customerOrders.isEmpty()
+                        ? Response.status(NOT_FOUND).build()
+                        : Response.ok(Collections.singletonMap("_embedded",
+                                Collections.singletonMap("customerOrders", customerOrders))).build());
+    }
+
+    @Override
+    public CompletionStage<Response> getOrder(String orderId) {
+        return orders.get(orderId)
+                .thenApply(order ->
+                        order == null
+                        ? Response.status(NOT_FOUND).build()
+                        : Response.ok(order).build());
+    }
+
+    @Override
+    public CompletionStage<Response> newOrder(NewOrderRequest request) {
+        validate(request);
+
+        // capture trace context on the request thread, before the async hops
+        String traceParent = TraceParent.current();
+
+        // the cart is removed as it is read, and only restored if the order fails
+        String itemsPath = request.items.getPath();
+        CompletableFuture<CartItems>   cart    = clients.checkoutCartAsync(itemsPath.substring(7, itemsPath.length() - 6)).toCompletableFuture();
+        CompletableFuture<UserDetails> details = clients.userDetailsAsync(UserDetailsRequest.of(request)).toCompletableFuture();
+
+        return CompletableFuture.allOf(cart, details)
+                .thenCompose(ignore -> {
+                    UserDetails user = details.join();
+                    Order order = Order.builder()
+                            .customer(user.getCustomer())
+                            .address(user.getAddress())
+                            .card(user.getCard())
+                            .items(cart.join().getItems())
+                            .build();
+                    order.setTraceParent(traceParent);
+
+                    return inventoryService.reserveAsync(order.getOrderId(), order.getItems())
+                            .exceptionally(e -> {
+                                throw OutOfStockException.translate(order.getOrderId(), e);
+                            })
+                            .thenCompose(reservation -> orders.saveOrder(order)
+                                    .whenComplete((v, e) -> {
+                                        if (e != null) {
+                                            inventoryService.releaseAsync(order.getOrderId());
+                                        }
+                                    }))
+                            .thenApply(v -> Response.status(CREATED).entity(order).build());
+                })
+                .whenComplete((response, e) -> {
+                    if (e != null && cart.isDone() && !cart.isCompletedExceptionally()) {
+                        clients.restoreCart(cart.join());
+                    }
+                });
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.concurrent.CompletionException;
+
+import jakarta.ws.rs.WebApplicationException;
+
+import static jakarta.ws.rs.core.Response.Status.CONFLICT;
+
+/**
+ * An exception that is thrown if there is not enough stock for an order.
+ */
+public class OutOfStockException extends OrderException {
+    /**
+     * Construct {@code OutOfStockException} instance.
+     *
+     * @param orderId the identifier of the order
+     */
+    public OutOfStockException(String orderId) {
+        super("Not enough stock for order " + orderId);
+    }
+
+    /**
+     * Translate a failed reservation request into an {@code OutOfStockException},
+     * if the failure was caused by a lack of stock.
+     *
+     * @param orderId the identifier of the order
+     * @param error   the reservation request failure, which may be wrapped
+     *                in a {@link CompletionException}
+     *
+     * @return an {@code OutOfStockException} if there was not enough stock,
+     *         or the specified error otherwise
+     */
+    static RuntimeException translate(String orderId, Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof WebApplicationException e && e.getResponse().getStatus() == CONFLICT.getStatusCode()) {
+            return new OutOfStockException(orderId);
+        }
+        return error instanceof RuntimeException e ? e : new IllegalStateException(error);
+    }
+}
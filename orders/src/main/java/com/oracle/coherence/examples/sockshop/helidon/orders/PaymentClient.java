@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,6 +7,8 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.orders;
 
+import java.util.concurrent.CompletionStage;
+
 import io.helidon.grpc.api.Grpc;
 
 @Grpc.GrpcService("PaymentGrpc")
@@ -15,4 +17,7 @@ import io.helidon.grpc.api.Grpc;
 public interface PaymentClient {
    @Grpc.Unary
    Payment authorize(PaymentRequest request);
+
+   @Grpc.Unary("authorize")
+   CompletionStage<Payment> authorizeAsync(PaymentRequest request);
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.inject.spi.CDI;
+import jakarta.ws.rs.ConstrainedTo;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+/**
+ * Client filter that records the latency of each REST client request.
+ * <p/>
+ * The total latency seen by the client is recorded into a
+ * {@code rest.client.request} timer. If the server reports its own
+ * processing time in a {@code Server-Timing} header, it is recorded into a
+ * {@code rest.client.server} timer, and the remainder, which is the time
+ * spent establishing or waiting for a connection and on the network, into
+ * a {@code rest.client.connection} timer. All timers are tagged with the
+ * client name and the HTTP method.
+ */
+@ConstrainedTo(RuntimeType.CLIENT)
+public class RestClientMetrics implements ClientRequestFilter, ClientResponseFilter {
+    static final String REQUEST = "rest.client.request";
+    static final String SERVER = "rest.client.server";
+    static final String CONNECTION = "rest.client.connection";
+
+    private static final String START = RestClientMetrics.class.getName() + ".start";
+
+    private static final Metadata REQUEST_METADATA = Metadata.builder()
+            .withName(REQUEST)
+            .withDescription("Latency of REST client requests, as seen by the client")
+            .withUnit(MetricUnits.NANOSECONDS)
+            .build();
+
+    private static final Metadata SERVER_METADATA = Metadata.builder()
+            .withName(SERVER)
+            .withDescription("Processing time of REST client requests, as reported by the server")
+            .withUnit(MetricUnits.NANOSECONDS)
+            .build();
+
+    private static final Metadata CONNECTION_METADATA = Metadata.builder()
+            .withName(CONNECTION)
+            .withDescription("Latency of REST client requests outside of the server, including connection establishment")
+            .withUnit(MetricUnits.NANOSECONDS)
+            .build();
+
+    private final String client;
+
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    private volatile MetricRegistry registry;
+
+    /**
+     * Construct {@code RestClientMetrics} instance.
+     *
+     * @param client the name of the client to tag the timers with
+     */
+    RestClientMetrics(String client) {
+        this.client = client;
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext) {
+        requestContext.setProperty(START, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        if (!(requestContext.getProperty(START) instanceof Long start)) {
+            return;
+        }
+
+        long total = System.nanoTime() - start;
+        Timer[] timers = this.timers.computeIfAbsent(requestContext.getMethod(), this::createTimers);
+        timers[0].update(Duration.ofNanos(total));
+
+        long server = serverTime(responseContext.getHeaderString("Server-Timing"));
+        if (server >= 0) {
+            timers[1].update(Duration.ofNanos(server));
+            timers[2].update(Duration.ofNanos(Math.max(0L, total - server)));
+        }
+    }
+
+    /**
+     * Return the server processing time from the specified
+     * {@code Server-Timing} header.
+     *
+     * @param header the header value, which could be {@code null}
+     *
+     * @return the duration of the first metric in the header, in nanoseconds,
+     *         or {@code -1} if the header doesn't specify any duration
+     */
+    static long serverTime(String header) {
+        if (header == null) {
+            return -1L;
+        }
+        for (String metric : header.split(",")) {
+            for (String param : metric.split(";")) {
+                String p = param.trim();
+                if (p.startsWith("dur=")) {
+                    try {
+                        return (long) (Double.parseDouble(p.substring(4)) * 1_000_000);
+                    }
+                    catch (NumberFormatException e) {
+                        return -1L;
+                    }
+                }
+            }
+        }
+        return -1L;
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private Timer[] createTimers(String method) {
+        MetricRegistry registry = registry();
+        Tag[] tags = {new Tag("client", client), new Tag("method", method)};
+        return new Timer[] {
+                registry.timer(REQUEST_METADATA, tags),
+                registry.timer(SERVER_METADATA, tags),
+                registry.timer(CONNECTION_METADATA, tags)
+        };
+    }
+
+    private MetricRegistry registry() {
+        MetricRegistry registry = this.registry;
+        if (registry == null) {
+            registry = this.registry = CDI.current().select(MetricRegistry.class).get();
+        }
+        return registry;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.config.Config;
+import io.helidon.config.mp.MpConfig;
+import io.helidon.jersey.connector.HelidonProperties;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.spi.RestClientListener;
+
+/**
+ * Applies the settings from the {@code rest-client.<name>} section of the
+ * configuration to each REST client, where the name is the client's config
+ * key, or the simple name of its interface if it doesn't have one.
+ * <p/>
+ * The supported settings are:
+ * <ul>
+ *     <li>{@code connect-timeout} - the connection timeout, as a duration</li>
+ *     <li>{@code read-timeout} - the read timeout, as a duration</li>
+ *     <li>{@code web-client} - the configuration of the Helidon web client
+ *     used by the client, which controls connection pooling, keep-alive and
+ *     the HTTP protocol version</li>
+ * </ul>
+ * Every client also records its latency using {@link RestClientMetrics}.
+ */
+public class RestClientSettings implements RestClientListener {
+    /**
+     * The root of the REST client configuration.
+     */
+    static final String CONFIG_ROOT = "rest-client";
+
+    @Override
+    public void onNewClient(Class<?> serviceInterface, RestClientBuilder builder) {
+        String name = name(serviceInterface);
+        Config config = MpConfig.toHelidonConfig(ConfigProvider.getConfig()).get(CONFIG_ROOT).get(name);
+
+        config.get("connect-timeout").as(Duration.class)
+                .ifPresent(timeout -> builder.connectTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS));
+        config.get("read-timeout").as(Duration.class)
+                .ifPresent(timeout -> builder.readTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS));
+
+        Config webClient = config.get("web-client");
+        if (webClient.exists()) {
+            builder.property(HelidonProperties.CONFIG, webClient);
+        }
+
+        builder.register(new RestClientMetrics(name));
+    }
+
+    /**
+     * Return the name of the configuration section for the specified client.
+     *
+     * @param serviceInterface the REST client interface
+     *
+     * @return the name of the configuration section
+     */
+    static String name(Class<?> serviceInterface) {
+        RegisterRestClient annotation = serviceInterface.getAnnotation(RegisterRestClient.class);
+        return annotation == null || annotation.configKey().isEmpty()
+               ? serviceInterface.getSimpleName()
+               : annotation.configKey();
+    }
+}
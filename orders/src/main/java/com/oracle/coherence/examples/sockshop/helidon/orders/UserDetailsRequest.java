@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A request for the customer, address and card used by an order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDetailsRequest {
+    /**
+     * The customer identifier.
+     */
+    private String customerId;
+
+    /**
+     * The address identifier, in the {@code user:addressId} format.
+     */
+    private String addressId;
+
+    /**
+     * The card identifier, in the {@code user:cardId} format.
+     */
+    private String cardId;
+
+    /**
+     * Create a request for the customer, address and card of the specified
+     * (already validated) order request.
+     *
+     * @param request the order request
+     *
+     * @return the request for the user details of the order
+     */
+    static UserDetailsRequest of(NewOrderRequest request) {
+        return new UserDetailsRequest(request.customer.getPath().substring(11),
+                                      request.address.getPath().substring(11),
+                                      request.card.getPath().substring(7));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,28 +7,26 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.orders;
 
-import jakarta.ws.rs.Consumes;
-import jakarta.ws.rs.Path;
-import jakarta.ws.rs.PathParam;
-import jakarta.ws.rs.GET;
-import jakarta.ws.rs.core.MediaType;
+import java.util.concurrent.CompletionStage;
 
-import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import io.helidon.grpc.api.Grpc;
 
-@RegisterRestClient(baseUri = "http://user/")
+@Grpc.GrpcService("UserGrpc")
+@Grpc.GrpcChannel("user")
+@Grpc.GrpcMarshaller("orders-binary")
 public interface UsersClient {
-   @Path("/addresses/{addressId}")
-   @GET
-   @Consumes(MediaType.APPLICATION_JSON)
-   public Address address(@PathParam("addressId") String addressId);
-
-   @Path("/cards/{cardId}")
-   @GET
-   @Consumes(MediaType.APPLICATION_JSON)
-   public Card card(@PathParam("cardId") String cardId);
-
-   @Path("/customers/{customerId}")
-   @GET
-   @Consumes(MediaType.APPLICATION_JSON)
-   public Customer customer(@PathParam("customerId") String customerId);
+   @Grpc.Unary
+   Address address(String addressId);
+
+   @Grpc.Unary
+   Card card(String cardId);
+
+   @Grpc.Unary
+   Customer customer(String customerId);
+
+   @Grpc.Unary
+   UserDetails details(UserDetailsRequest request);
+
+   @Grpc.Unary("details")
+   CompletionStage<UserDetails> detailsAsync(UserDetailsRequest request);
 }
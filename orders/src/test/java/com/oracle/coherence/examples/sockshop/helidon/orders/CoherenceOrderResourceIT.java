@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import jakarta.enterprise.inject.spi.CDI;
 
 import static com.oracle.coherence.examples.sockshop.helidon.orders.Order.Status.PAYMENT_FAILED;
+import static com.oracle.coherence.examples.sockshop.helidon.orders.Order.Status.SHIPMENT_FAILED;
 import static com.oracle.coherence.examples.sockshop.helidon.orders.Order.Status.SHIPPED;
 
 import static com.oracle.coherence.examples.sockshop.helidon.orders.TestDataFactory.order;
@@ -59,6 +60,8 @@ public class CoherenceOrderResourceIT {
     static void startServer() {
         // disable global tracing so we can start server in multiple test suites
         System.setProperty("tracing.global", "false");
+        // allow slow cart checkouts to complete, but not stuck ones
+        System.setProperty("checkout.timeout.carts-millis", "4000");
         SERVER = Server.builder().port(0).build().start();
     }
 
@@ -72,6 +75,10 @@ public class CoherenceOrderResourceIT {
 
     protected TestOrderRepository orders;
 
+    protected TestInventoryClient inventory;
+
+    protected TestCartsClient carts;
+
     @BeforeEach
     protected void setup() {
         // Configure RestAssured to run tests against our application
@@ -80,6 +87,11 @@ public class CoherenceOrderResourceIT {
 
         orders = CDI.current().select(TestOrderRepository.class).get();
         orders.clear();
+
+        inventory = CDI.current().select(TestInventoryClient.class).get();
+        inventory.clear();
+
+        carts = CDI.current().select(TestCartsClient.class).get();
     }
 
     @Test
@@ -175,6 +187,85 @@ public class CoherenceOrderResourceIT {
         assertThat(order.getPayment().isAuthorised(), is(true));
         assertThat(order.getShipment().getCarrier(), is("UPS"));
         assertThat(order.getShipment().getDeliveryDate(), is(LocalDate.now().plusDays(2)));
+        Eventually.assertDeferred(() -> inventory.isCommitted(orderId), is(true));
+        assertThat(inventory.isReserved(orderId), is(false));
+    }
+
+    @Test
+    protected void testSlowCheckoutIsNotAbandoned() {
+        String baseUri = "http://localhost:" + SERVER.port();
+        NewOrderRequest req = NewOrderRequest.builder()
+                .customer(URI.create(baseUri + "/customers/homer"))
+                .address(URI.create(baseUri + "/addresses/homer:1"))
+                .card(URI.create(baseUri + "/cards/homer:1234"))
+                .items(URI.create(baseUri + "/carts/slowhomer/items"))
+                .build();
+
+        // the carts service removes the cart after longer than the other
+        // checkout calls are allowed to take, so the order must wait for it
+        // instead of losing the cart
+        given().
+                body(req).
+                contentType(ContentType.JSON).
+                accept(ContentType.JSON).
+        when().
+                post("/orders").
+        then().
+                statusCode(CREATED.getStatusCode()).
+                body("total", is(14.0f),
+                     "status", is("CREATED"));
+
+        assertThat(carts.isRestored("slowhomer"), is(false));
+    }
+
+    @Test
+    protected void testTimedOutCheckoutRestoresCart() {
+        String baseUri = "http://localhost:" + SERVER.port();
+        NewOrderRequest req = NewOrderRequest.builder()
+                .customer(URI.create(baseUri + "/customers/homer"))
+                .address(URI.create(baseUri + "/addresses/homer:1"))
+                .card(URI.create(baseUri + "/cards/homer:1234"))
+                .items(URI.create(baseUri + "/carts/stuckhomer/items"))
+                .build();
+
+        // the order fails once the checkout deadline passes, and the cart
+        // the carts service removes afterwards is put back
+        given().
+                body(req).
+                contentType(ContentType.JSON).
+                accept(ContentType.JSON).
+        when().
+                post("/orders").
+        then().
+                statusCode(Matchers.not(CREATED.getStatusCode()));
+
+        assertThat(orders.findOrdersByCustomer("homer").isEmpty(), is(true));
+        Eventually.assertDeferred(() -> carts.isRestored("stuckhomer"), is(true));
+    }
+
+    @Test
+    protected void testOutOfStock() {
+        String baseUri = "http://localhost:" + SERVER.port();
+        NewOrderRequest req = NewOrderRequest.builder()
+                .customer(URI.create(baseUri + "/customers/homer"))
+                .address(URI.create(baseUri + "/addresses/homer:1"))
+                .card(URI.create(baseUri + "/cards/homer:1234"))
+                .items(URI.create(baseUri + "/carts/homer/items"))
+                .build();
+
+        inventory.setOutOfStock(true);
+
+        given().
+                body(req).
+                contentType(ContentType.JSON).
+                accept(ContentType.JSON).
+        when().
+                post("/orders").
+        then().
+                statusCode(NOT_ACCEPTABLE.getStatusCode()).
+                body("message", Matchers.startsWith("Not enough stock"));
+
+        assertThat(orders.findOrdersByCustomer("homer").isEmpty(), is(true));
     }
 
     @Test
@@ -204,6 +295,80 @@ public class CoherenceOrderResourceIT {
         Order order = orders.get(orderId);
         assertThat(order.getPayment().isAuthorised(), is(false));
         assertThat(order.getPayment().getMessage(), is("Unable to parse authorization packet"));
+        Eventually.assertDeferred(() -> inventory.isReserved(orderId), is(false));
+    }
+
+    @Test
+    protected void testPaymentServiceUnavailable() throws InterruptedException {
+        String baseUri = "http://localhost:" + SERVER.port();
+        NewOrderRequest req = NewOrderRequest.builder()
+                .customer(URI.create(baseUri + "/customers/maggie"))
+                .address(URI.create(baseUri + "/addresses/maggie:1"))
+                .card(URI.create(baseUri + "/cards/maggie:1234"))
+                .items(URI.create(baseUri + "/carts/maggie/items"))
+                .build();
+
+        TestPaymentClient payments = CDI.current().select(TestPaymentClient.class).get();
+        int rejected = payments.getRejected();
+
+        given().
+                body(req).
+                contentType(ContentType.JSON).
+                accept(ContentType.JSON).
+        when().
+                post("/orders").
+        then().
+                statusCode(CREATED.getStatusCode()).
+                body("status", is("CREATED"));
+
+        final String orderId = orders.getLastOrderId();
+        Eventually.assertDeferred(() -> orders.get(orderId).getStatus(), is(PAYMENT_FAILED));
+
+        Order order = orders.get(orderId);
+        assertThat(order.getPayment().isAuthorised(), is(false));
+        assertThat(order.getPayment().getMessage(), is("Payment service unavailable"));
+        Eventually.assertDeferred(() -> inventory.isReserved(orderId), is(false));
+
+        // the failed order is not processed again
+        Thread.sleep(500);
+        assertThat(payments.getRejected(), is(rejected + 1));
+    }
+
+    @Test
+    protected void testShippingServiceUnavailable() throws InterruptedException {
+        String baseUri = "http://localhost:" + SERVER.port();
+        NewOrderRequest req = NewOrderRequest.builder()
+                .customer(URI.create(baseUri + "/customers/ned"))
+                .address(URI.create(baseUri + "/addresses/ned:1"))
+                .card(URI.create(baseUri + "/cards/ned:1234"))
+                .items(URI.create(baseUri + "/carts/ned/items"))
+                .build();
+
+        TestShippingClient shipping = CDI.current().select(TestShippingClient.class).get();
+        int rejected = shipping.getRejected();
+
+        given().
+                body(req).
+                contentType(ContentType.JSON).
+                accept(ContentType.JSON).
+        when().
+                post("/orders").
+        then().
+                statusCode(CREATED.getStatusCode()).
+                body("status", is("CREATED"));
+
+        final String orderId = orders.getLastOrderId();
+        Eventually.assertDeferred(() -> orders.get(orderId).getStatus(), is(SHIPMENT_FAILED));
+
+        Order order = orders.get(orderId);
+        assertThat(order.getPayment().isAuthorised(), is(true));
+        assertThat(order.getShipment(), Matchers.nullValue());
+        Eventually.assertDeferred(() -> inventory.isReserved(orderId), is(false));
+        assertThat(inventory.isCommitted(orderId), is(false));
+
+        // the failed order is not shipped again
+        Thread.sleep(500);
+        assertThat(shipping.getRejected(), is(rejected + 1));
     }
 
     @Test
@@ -233,5 +398,6 @@ public class CoherenceOrderResourceIT {
         Order order = orders.get(orderId);
         assertThat(order.getPayment().isAuthorised(), is(false));
         assertThat(order.getPayment().getMessage(), is("Minors need parent approval"));
+        Eventually.assertDeferred(() -> inventory.isReserved(orderId), is(false));
     }
 }
\ No newline at end of file
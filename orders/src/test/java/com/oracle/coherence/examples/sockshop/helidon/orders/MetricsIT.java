@@ -20,6 +20,7 @@ import java.net.URI;
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static jakarta.ws.rs.core.Response.Status.CREATED;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 
 public class MetricsIT {
@@ -74,5 +75,15 @@ public class MetricsIT {
 				body("size()", is(1)).
 		        body("[0].tags.name", is("orders"),
 						"[0].value", is(1));
+
+		given().
+				port(SERVER.port()).
+				accept(ContentType.TEXT).
+		when().
+				get("/metrics?scope=application").
+		then().
+				statusCode(200).
+				body(containsString("repository_operation_seconds_count"),
+					 containsString("operation=\"saveOrder\""));
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,7 +7,10 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.orders;
 
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.enterprise.context.ApplicationScoped;
 
@@ -16,10 +19,66 @@ import static com.oracle.coherence.examples.sockshop.helidon.orders.TestDataFact
 @Mock
 @ApplicationScoped
 public class TestCartsClient implements CartsClient {
+   /**
+    * The time (in milliseconds) it takes to check out a cart whose ID starts
+    * with {@code slow}, which is longer than any checkout timeout used to be,
+    * but shorter than the carts deadline used by the tests.
+    */
+   public static final long SLOW_CHECKOUT_MILLIS = 2500;
+
+   /**
+    * The time (in milliseconds) it takes to check out a cart whose ID starts
+    * with {@code stuck}, which is longer than the carts deadline used by the
+    * tests.
+    */
+   public static final long STUCK_CHECKOUT_MILLIS = 5000;
+
+   private final Set<String> restored = ConcurrentHashMap.newKeySet();
+
    public TestCartsClient() {
    }
 
-   public List<Item> cart(String cartId) {
-      return items(3);
+   public boolean isRestored(String cartId) {
+      return restored.contains(cartId);
+   }
+
+   public CartItems items(String cartId) {
+      return new CartItems(cartId, items(3));
+   }
+
+   public Boolean clear(String cartId) {
+      return true;
+   }
+
+   public CartItems checkout(String cartId) {
+      if (cartId.startsWith("slow")) {
+         sleep(SLOW_CHECKOUT_MILLIS);
+      }
+      else if (cartId.startsWith("stuck")) {
+         sleep(STUCK_CHECKOUT_MILLIS);
+      }
+      return items(cartId);
+   }
+
+   public CompletionStage<CartItems> checkoutAsync(String cartId) {
+      return CompletableFuture.supplyAsync(() -> checkout(cartId));
+   }
+
+   public CartItems restore(CartItems cart) {
+      restored.add(cart.getCartId());
+      return cart;
+   }
+
+   public CompletionStage<CartItems> restoreAsync(CartItems cart) {
+      return CompletableFuture.completedFuture(restore(cart));
+   }
+
+   private static void sleep(long millis) {
+      try {
+         Thread.sleep(millis);
+      }
+      catch (InterruptedException e) {
+         throw new IllegalStateException(e);
+      }
    }
 }
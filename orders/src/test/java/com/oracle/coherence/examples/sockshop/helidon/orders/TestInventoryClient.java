@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.orders;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+import static jakarta.ws.rs.core.Response.Status.CONFLICT;
+import static jakarta.ws.rs.core.Response.Status.NOT_FOUND;
+
+@Mock
+@ApplicationScoped
+public class TestInventoryClient implements InventoryClient {
+   private final Set<String> reserved = ConcurrentHashMap.newKeySet();
+
+   private final Set<String> committed = ConcurrentHashMap.newKeySet();
+
+   private volatile boolean outOfStock;
+
+   public TestInventoryClient() {
+   }
+
+   public Response reserve(String orderId, List<Item> items) {
+      if (outOfStock) {
+         throw new WebApplicationException(CONFLICT);
+      }
+      reserved.add(orderId);
+      return Response.ok().build();
+   }
+
+   public CompletionStage<Response> reserveAsync(String orderId, List<Item> items) {
+      try {
+         return CompletableFuture.completedFuture(reserve(orderId, items));
+      }
+      catch (WebApplicationException e) {
+         return CompletableFuture.failedFuture(e);
+      }
+   }
+
+   public Response release(String orderId) {
+      if (!reserved.remove(orderId)) {
+         throw new WebApplicationException(NOT_FOUND);
+      }
+      return Response.noContent().build();
+   }
+
+   public CompletionStage<Response> releaseAsync(String orderId) {
+      try {
+         return CompletableFuture.completedFuture(release(orderId));
+      }
+      catch (WebApplicationException e) {
+         return CompletableFuture.failedFuture(e);
+      }
+   }
+
+   public Response commit(String orderId) {
+      if (!reserved.remove(orderId)) {
+         throw new WebApplicationException(NOT_FOUND);
+      }
+      committed.add(orderId);
+      return Response.noContent().build();
+   }
+
+   public boolean isReserved(String orderId) {
+      return reserved.contains(orderId);
+   }
+
+   public boolean isCommitted(String orderId) {
+      return committed.contains(orderId);
+   }
+
+   public void setOutOfStock(boolean outOfStock) {
+      this.outOfStock = outOfStock;
+   }
+
+   public void clear() {
+      reserved.clear();
+      committed.clear();
+      outOfStock = false;
+   }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,17 +7,37 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.orders;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import jakarta.enterprise.context.ApplicationScoped;
 
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+
 import static com.oracle.coherence.examples.sockshop.helidon.orders.TestDataFactory.shipment;
 
 @Mock
 @ApplicationScoped
 public class TestShippingClient implements ShippingClient {
+   private final AtomicInteger rejected = new AtomicInteger();
+
    public TestShippingClient() {
    }
 
+   public int getRejected() {
+      return rejected.get();
+   }
+
    public Shipment ship(ShippingRequest request) {
+      if ("ned".equals(request.getCustomer().getId())) {
+         rejected.incrementAndGet();
+         throw new CircuitBreakerOpenException("shipping circuit breaker is open");
+      }
       return shipment(request.getCustomer().getId());
    }
+
+   public CompletionStage<Shipment> shipAsync(ShippingRequest request) {
+      return CompletableFuture.supplyAsync(() -> ship(request));
+   }
 }
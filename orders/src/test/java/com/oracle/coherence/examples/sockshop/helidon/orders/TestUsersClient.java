@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,6 +7,9 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.orders;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import jakarta.enterprise.context.ApplicationScoped;
 
 @Mock
@@ -26,4 +29,14 @@ public class TestUsersClient implements UsersClient {
    public Customer customer(String customerId) {
       return TestDataFactory.customer(customerId);
    }
+
+   public UserDetails details(UserDetailsRequest request) {
+      return new UserDetails(customer(request.getCustomerId()),
+                             address(request.getAddressId()),
+                             card(request.getCardId()));
+   }
+
+   public CompletionStage<UserDetails> detailsAsync(UserDetailsRequest request) {
+      return CompletableFuture.completedFuture(details(request));
+   }
 }
@@ -8,11 +8,11 @@
 package com.oracle.coherence.examples.sockshop.helidon.payment;
 
 import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
 
 import com.tangosol.net.NamedMap;
 
-import io.opentelemetry.instrumentation.annotations.WithSpan;
-
 import jakarta.annotation.PostConstruct;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -28,6 +28,7 @@ import static com.tangosol.util.Filters.equal;
  * that that uses Coherence as a backend data store.
  */
 @ApplicationScoped
+@RepositoryMetrics
 public class CoherencePaymentRepository implements PaymentRepository {
     protected final NamedMap<AuthorizationId, Authorization> payments;
 
@@ -42,13 +43,13 @@ public class CoherencePaymentRepository implements PaymentRepository {
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
     public void saveAuthorization(Authorization auth) {
         payments.put(auth.getId(), auth);
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
     public Collection<? extends Authorization> findAuthorizationsByOrder(String orderId) {
         return payments.values(equal(Authorization::getOrderId, orderId));
     }
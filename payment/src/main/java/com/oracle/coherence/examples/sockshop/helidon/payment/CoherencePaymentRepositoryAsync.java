@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.payment;
+
+import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
+
+import com.tangosol.net.AsyncNamedMap;
+
+import jakarta.annotation.PostConstruct;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import jakarta.inject.Inject;
+
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+
+import static com.tangosol.util.Filters.equal;
+
+/**
+ * An implementation of {@link PaymentRepositoryAsync}
+ * that that uses Coherence as a backend data store.
+ */
+@ApplicationScoped
+@RepositoryMetrics
+public class CoherencePaymentRepositoryAsync implements PaymentRepositoryAsync {
+    protected final AsyncNamedMap<AuthorizationId, Authorization> payments;
+
+    @Inject
+    CoherencePaymentRepositoryAsync(@Name("payments") AsyncNamedMap<AuthorizationId, Authorization> payments) {
+        this.payments = payments;
+    }
+
+    @PostConstruct
+    void createIndexes() {
+        payments.getNamedMap().addIndex(Authorization::getOrderId, false, null);
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Void> saveAuthorization(Authorization auth) {
+        return payments.put(auth.getId(), auth);
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Collection<Authorization>> findAuthorizationsByOrder(String orderId) {
+        return payments.values(equal(Authorization::getOrderId, orderId));
+    }
+}
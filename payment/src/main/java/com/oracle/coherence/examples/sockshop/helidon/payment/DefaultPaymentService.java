@@ -7,14 +7,14 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.payment;
 
-import io.opentelemetry.instrumentation.annotations.WithSpan;
-
 import jakarta.enterprise.context.ApplicationScoped;
 
 import jakarta.inject.Inject;
 
 import java.time.LocalDateTime;
 
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
+
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import org.eclipse.microprofile.metrics.Counter;
@@ -67,7 +67,7 @@ public class DefaultPaymentService implements PaymentService {
         this.paymentLimit = paymentLimit;
     }
 
-    @WithSpan
+    @SampledSpan
     @Override
     public Authorization authorize(String orderId, String firstName, String lastName, Card card, Address address, float amount) {
         boolean fAuthorized = amount > 0 && amount <= paymentLimit;
@@ -7,6 +7,9 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.payment;
 
+import com.oracle.coherence.examples.sockshop.helidon.tracing.TraceParentHeaders;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.TracingPolicy;
+
 import io.helidon.grpc.api.Grpc;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -39,6 +42,12 @@ public class PaymentGrpc {
     @Inject
     private PaymentService paymentService;
 
+    /**
+     * Tracing policy to use.
+     */
+    @Inject
+    private TracingPolicy tracingPolicy;
+
     @Grpc.Unary
     public Collection<? extends Authorization> getOrderAuthorizations(String orderId) {
         return payments.findAuthorizationsByOrder(orderId);
@@ -50,44 +59,46 @@ public class PaymentGrpc {
         String tp = paymentRequest.getTraceParent();
         // log.info(">>>> [RELAY RECEIVE] Received payment Trace: {}", tp);
 
+        if (!tracingPolicy.isSampled("PaymentGrpc/authorize", tp)) {
+            return authorizePayment(paymentRequest);
+        }
+
         io.helidon.tracing.Tracer tracer = io.helidon.tracing.Tracer.global();
         io.helidon.tracing.Span.Builder<?> spanBuilder = tracer.spanBuilder("PaymentGrpc/authorize")
                 .kind(io.helidon.tracing.Span.Kind.SERVER);
 
-        // Use HeaderProvider to extract parent context from traceParent field
-        if (tp != null && !tp.isEmpty()) {
-            io.helidon.tracing.HeaderProvider hp = new io.helidon.tracing.HeaderProvider() {
-                @Override 
-                public java.util.Optional<String> get(String key) { 
-                    return "traceparent".equals(key) ? java.util.Optional.of(tp) : java.util.Optional.empty(); 
-                }
-                
-                @Override 
-                public Iterable<String> keys() { 
-                    return java.util.List.of("traceparent"); 
-                }
-                
-                @Override
-                public Iterable<String> getAll(String key) {
-                    if ("traceparent".equals(key)) {
-                        return java.util.List.of(tp);
-                    }
-                    return java.util.List.of();
-                }
-                
-                @Override 
-                public boolean contains(String key) { 
-                    return "traceparent".equals(key); 
-                }
-            };
-            
-            // Force parent context linkage
-            tracer.extract(hp).ifPresent(spanBuilder::parent);
-        }
+        // Extract parent context from traceParent field
+        TraceParentHeaders.of(tp).flatMap(tracer::extract).ifPresent(spanBuilder::parent);
 
         io.helidon.tracing.Span serverSpan = spanBuilder.start();
         try (io.helidon.tracing.Scope scope = serverSpan.activate()) {
             // Execute business logic within traced context
+            Authorization auth = authorizePayment(paymentRequest);
+
+            serverSpan.status(io.helidon.tracing.Span.Status.OK);
+            return auth;
+        } catch (Exception e) {
+            serverSpan.status(io.helidon.tracing.Span.Status.ERROR);
+            serverSpan.addEvent("exception", 
+                java.util.Map.of(
+                    "exception.type", e.getClass().getName(),
+                    "exception.message", e.getMessage() != null ? e.getMessage() : "No message available"
+                ));
+            throw e;
+        } finally {
+            serverSpan.end();
+        }
+    }
+
+    /**
+     * Authorize the payment and save the authorization.
+     *
+     * @param paymentRequest the payment request to authorize
+     *
+     * @return the payment authorization
+     */
+    private Authorization authorizePayment(PaymentRequest paymentRequest) {
+        try {
             String firstName = paymentRequest.getCustomer().getFirstName();
             String lastName  = paymentRequest.getCustomer().getLastName();
 
@@ -100,21 +111,11 @@ public class PaymentGrpc {
                     paymentRequest.getAmount());
 
             payments.saveAuthorization(auth);
-            log.info("Payment authorized: orderId=" + paymentRequest.getOrderId() + " authorized=" + auth.isAuthorised());
-
-            serverSpan.status(io.helidon.tracing.Span.Status.OK);
+            log.info("Payment authorized: orderId={} authorized={}", paymentRequest.getOrderId(), auth.isAuthorised());
             return auth;
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             log.error("Error authorizing payment", e);
-            serverSpan.status(io.helidon.tracing.Span.Status.ERROR);
-            serverSpan.addEvent("exception", 
-                java.util.Map.of(
-                    "exception.type", e.getClass().getName(),
-                    "exception.message", e.getMessage() != null ? e.getMessage() : "No message available"
-                ));
             throw e;
-        } finally {
-            serverSpan.end();
         }
     }
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.payment;
+
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A repository interface that should be implemented by
+ * the various async data store integrations.
+ */
+public interface PaymentRepositoryAsync {
+    /**
+     * Save payment authorization details.
+     *
+     * @param auth payment authorization details
+     */
+    CompletionStage<Void> saveAuthorization(Authorization auth);
+
+    /**
+     * Find all authorizations for the specified order.
+     *
+     * @param orderId the order identifier to find the authorizations for
+     *
+     * @return all authorizations for the specified order; never {@code null}
+     */
+    CompletionStage<Collection<Authorization>> findAuthorizationsByOrder(String orderId);
+}
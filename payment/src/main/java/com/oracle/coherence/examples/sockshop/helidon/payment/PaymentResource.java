@@ -36,7 +36,7 @@ public class PaymentResource implements PaymentApi {
 
     @Override
     public Response getOrderAuthorizations(String orderId) {
-        log.info("Getting authorizations for order: " + orderId);
+        log.info("Getting authorizations for order: {}", orderId);
         return Response.ok(payments.findAuthorizationsByOrder(orderId)).build();
     }
 
@@ -46,7 +46,7 @@ public class PaymentResource implements PaymentApi {
         String lastName  = paymentRequest.getCustomer().getLastName();
         String orderId = paymentRequest.getOrderId();
 
-        log.info("Authorizing payment for order: " + orderId + ", customer: " + firstName + " " + lastName);
+        log.info("Authorizing payment for order: {}, customer: {} {}", orderId, firstName, lastName);
 
         try {
             Authorization auth = paymentService.authorize(
@@ -60,14 +60,14 @@ public class PaymentResource implements PaymentApi {
             payments.saveAuthorization(auth);
 
             if (!auth.isAuthorised()) {
-                log.warn("Payment declined for order: " + orderId + ", reason: " + auth.getMessage());
+                log.warn("Payment declined for order: {}, reason: {}", orderId, auth.getMessage());
             } else {
-                log.info("Payment authorized for order: " + orderId);
+                log.info("Payment authorized for order: {}", orderId);
             }
 
             return auth;
         } catch (Exception e) {
-            log.error("Error authorizing payment for order: " + orderId + ", error: " + e.getMessage());
+            log.error("Error authorizing payment for order: {}, error: {}", orderId, e.getMessage());
             throw e;
         }
     }
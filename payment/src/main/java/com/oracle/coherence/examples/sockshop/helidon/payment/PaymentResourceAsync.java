@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.payment;
+
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Implementation of the Payment Service async REST API.
+ */
+@ApplicationScoped
+@Path("/payments-async")
+public class PaymentResourceAsync implements PaymentApiAsync {
+
+    /**
+     * Payment repository to use.
+     */
+    @Inject
+    private PaymentRepositoryAsync payments;
+
+    /**
+     * Payment service to use.
+     */
+    @Inject
+    private PaymentService paymentService;
+
+    @Override
+    public CompletionStage<Response> getOrderAuthorizations(String orderId) {
+        return payments.findAuthorizationsByOrder(orderId)
+                .thenApply(auths -> Response.ok(auths).build());
+    }
+
+    @Override
+    public CompletionStage<Authorization> authorize(PaymentRequest paymentRequest) {
+        Authorization auth = paymentService.authorize(
+                paymentRequest.getOrderId(),
+                paymentRequest.getCustomer().getFirstName(),
+                paymentRequest.getCustomer().getLastName(),
+                paymentRequest.getCard(),
+                paymentRequest.getAddress(),
+                paymentRequest.getAmount());
+
+        return payments.saveAuthorization(auth).thenApply(ignore -> auth);
+    }
+}
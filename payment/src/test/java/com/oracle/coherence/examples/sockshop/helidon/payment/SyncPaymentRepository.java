@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.payment;
+
+import java.util.Collection;
+
+/**
+ * Helper class that blocks on async repository calls, allowing
+ * us to reuse the tests for both sync and async repository implementations.
+ * <p>
+ * Test-only methods are delegated to the sync test repository, as both
+ * repositories share the same backing map.
+ */
+public class SyncPaymentRepository implements TestPaymentRepository {
+    private final PaymentRepositoryAsync payments;
+    private final TestPaymentRepository testPayments;
+
+    public SyncPaymentRepository(PaymentRepositoryAsync payments, TestPaymentRepository testPayments) {
+        this.payments = payments;
+        this.testPayments = testPayments;
+    }
+
+    @Override
+    public void saveAuthorization(Authorization auth) {
+        payments.saveAuthorization(auth).toCompletableFuture().join();
+    }
+
+    @Override
+    public Collection<? extends Authorization> findAuthorizationsByOrder(String orderId) {
+        return payments.findAuthorizationsByOrder(orderId).toCompletableFuture().join();
+    }
+
+    @Override
+    public void clear() {
+        testPayments.clear();
+    }
+}
@@ -7,12 +7,13 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.shipping;
 
-import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.enterprise.context.ApplicationScoped;
 
 import jakarta.inject.Inject;
 
 import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
 import com.tangosol.net.NamedMap;
 
 import java.util.Map;
@@ -22,6 +23,7 @@ import java.util.Map;
  * that that uses Coherence as a backend data store.
  */
 @ApplicationScoped
+@RepositoryMetrics
 public class CoherenceShipmentRepository implements ShipmentRepository {
     protected Map<String, Shipment> shipments;
 
@@ -31,13 +33,13 @@ public class CoherenceShipmentRepository implements ShipmentRepository {
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
     public Shipment getShipment(String orderId) {
         return shipments.get(orderId);
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
     public void saveShipment(Shipment shipment) {
         shipments.put(shipment.getOrderId(), shipment);
     }
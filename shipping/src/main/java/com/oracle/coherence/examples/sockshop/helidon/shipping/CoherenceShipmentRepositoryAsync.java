@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.shipping;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import jakarta.inject.Inject;
+
+import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
+import com.tangosol.net.AsyncNamedMap;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * An implementation of {@link ShipmentRepositoryAsync}
+ * that that uses Coherence as a backend data store.
+ */
+@ApplicationScoped
+@RepositoryMetrics
+public class CoherenceShipmentRepositoryAsync implements ShipmentRepositoryAsync {
+    protected final AsyncNamedMap<String, Shipment> shipments;
+
+    @Inject
+    public CoherenceShipmentRepositoryAsync(@Name("shipments") AsyncNamedMap<String, Shipment> shipments) {
+        this.shipments = shipments;
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Shipment> getShipment(String orderId) {
+        return shipments.get(orderId);
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Void> saveShipment(Shipment shipment) {
+        return shipments.put(shipment.getOrderId(), shipment);
+    }
+}
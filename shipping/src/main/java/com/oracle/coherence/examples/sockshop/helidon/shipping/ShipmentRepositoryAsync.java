@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.shipping;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A repository interface that should be implemented by
+ * the various async data store integrations.
+ */
+public interface ShipmentRepositoryAsync {
+    /**
+     * Return shipment for the specified order.
+     *
+     * @param orderId the order identifier
+     *
+     * @return the shipment for the specified order;
+     *         {@code null} if the shipment doesn't exist
+     */
+    CompletionStage<Shipment> getShipment(String orderId);
+
+    /**
+     * Save shipment details into the repository.
+     *
+     * @param shipment the shipment to save
+     */
+    CompletionStage<Void> saveShipment(Shipment shipment);
+}
@@ -13,6 +13,9 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Path;
 
+import com.oracle.coherence.examples.sockshop.helidon.tracing.TraceParentHeaders;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.TracingPolicy;
+
 import io.helidon.grpc.api.Grpc;
 
 import lombok.extern.slf4j.Slf4j;
@@ -36,13 +39,19 @@ public class ShippingResource implements ShippingApi {
     @Inject
     private ShipmentRepository shipments;
 
+    /**
+     * Tracing policy to use.
+     */
+    @Inject
+    private TracingPolicy tracingPolicy;
+
     @Override
     @Grpc.Unary
     public Shipment getShipmentByOrderId(String orderId) {
-        log.info("Getting shipment for order: " + orderId);
+        log.info("Getting shipment for order: {}", orderId);
         Shipment shipment = shipments.getShipment(orderId);
         if (shipment == null) {
-            log.warn("Shipment not found for order: " + orderId);
+            log.warn("Shipment not found for order: {}", orderId);
         }
         return shipment;
     }
@@ -53,79 +62,25 @@ public class ShippingResource implements ShippingApi {
         String tp = req.getTraceParent();
         // log.info(">>>> [RELAY RECEIVE] Received Trace: {}", tp);
 
+        if (!tracingPolicy.isSampled("ShippingGrpc/ship", tp)) {
+            return shipOrder(req);
+        }
+
         io.helidon.tracing.Tracer tracer = io.helidon.tracing.Tracer.global();
         io.helidon.tracing.Span.Builder<?> spanBuilder = tracer.spanBuilder("ShippingGrpc/ship")
                 .kind(io.helidon.tracing.Span.Kind.SERVER);
 
-        // Use HeaderProvider to extract parent context from traceParent field
-        if (tp != null && !tp.isEmpty()) {
-            io.helidon.tracing.HeaderProvider hp = new io.helidon.tracing.HeaderProvider() {
-                @Override 
-                public java.util.Optional<String> get(String key) { 
-                    return "traceparent".equals(key) ? java.util.Optional.of(tp) : java.util.Optional.empty(); 
-                }
-                
-                @Override 
-                public Iterable<String> keys() { 
-                    return java.util.List.of("traceparent"); 
-                }
-                
-                @Override
-                public Iterable<String> getAll(String key) {
-                    if ("traceparent".equals(key)) {
-                        return java.util.List.of(tp);
-                    }
-                    return java.util.List.of();
-                }
-                
-                @Override 
-                public boolean contains(String key) { 
-                    return "traceparent".equals(key); 
-                }
-            };
-            
-            // Force parent context linkage
-            tracer.extract(hp).ifPresent(spanBuilder::parent);
-        }
+        // Extract parent context from traceParent field
+        TraceParentHeaders.of(tp).flatMap(tracer::extract).ifPresent(spanBuilder::parent);
 
         io.helidon.tracing.Span serverSpan = spanBuilder.start();
         try (io.helidon.tracing.Scope scope = serverSpan.activate()) {
             // Execute business logic within traced context
-            String orderId = req.getOrderId();
-            int itemCount = req.getItemCount();
-            log.info("Creating shipment for order: " + orderId + ", items: " + itemCount);
-
-            // defaults
-            String carrier = "USPS";
-            String trackingNumber = "9205 5000 0000 0000 0000 00";
-            LocalDate deliveryDate = LocalDate.now().plusDays(5);
-
-            if (itemCount == 1) {  // use FedEx
-                carrier = "FEDEX";
-                trackingNumber = "231300687629630";
-                deliveryDate = LocalDate.now().plusDays(1);
-            }
-            else if (itemCount <= 3) {  // use UPS
-                carrier = "UPS";
-                trackingNumber = "1Z999AA10123456784";
-                deliveryDate = LocalDate.now().plusDays(3);
-            }
-
-            Shipment shipment = Shipment.builder()
-                    .orderId(orderId)
-                    .carrier(carrier)
-                    .trackingNumber(trackingNumber)
-                    .deliveryDate(deliveryDate)
-                    .build();
-
-            shipments.saveShipment(shipment);
-
-            log.info("Shipment created for order: " + orderId + ", carrier: " + carrier + ", tracking: " + trackingNumber);
+            Shipment shipment = shipOrder(req);
 
             serverSpan.status(io.helidon.tracing.Span.Status.OK);
             return shipment;
         } catch (Exception e) {
-            log.error("Error creating shipment", e);
             serverSpan.status(io.helidon.tracing.Span.Status.ERROR);
             serverSpan.addEvent("exception", 
                 java.util.Map.of(
@@ -137,4 +92,62 @@ public class ShippingResource implements ShippingApi {
             serverSpan.end();
         }
     }
+
+    /**
+     * Create and save the shipment for the specified shipping request.
+     *
+     * @param req the shipping request
+     *
+     * @return the shipment for the specified request
+     */
+    private Shipment shipOrder(ShippingRequest req) {
+        try {
+            String orderId = req.getOrderId();
+            int itemCount = req.getItemCount();
+            log.info("Creating shipment for order: {}, items: {}", orderId, itemCount);
+
+            Shipment shipment = createShipment(orderId, itemCount);
+            shipments.saveShipment(shipment);
+
+            log.info("Shipment created for order: {}, carrier: {}, tracking: {}", orderId, shipment.getCarrier(), shipment.getTrackingNumber());
+            return shipment;
+        } catch (RuntimeException e) {
+            log.error("Error creating shipment", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Create shipment for the specified order, choosing the carrier
+     * based on the number of items.
+     *
+     * @param orderId   the order identifier
+     * @param itemCount the number of items to ship
+     *
+     * @return the shipment for the specified order
+     */
+    static Shipment createShipment(String orderId, int itemCount) {
+        // defaults
+        String carrier = "USPS";
+        String trackingNumber = "9205 5000 0000 0000 0000 00";
+        LocalDate deliveryDate = LocalDate.now().plusDays(5);
+
+        if (itemCount == 1) {  // use FedEx
+            carrier = "FEDEX";
+            trackingNumber = "231300687629630";
+            deliveryDate = LocalDate.now().plusDays(1);
+        }
+        else if (itemCount <= 3) {  // use UPS
+            carrier = "UPS";
+            trackingNumber = "1Z999AA10123456784";
+            deliveryDate = LocalDate.now().plusDays(3);
+        }
+
+        return Shipment.builder()
+                .orderId(orderId)
+                .carrier(carrier)
+                .trackingNumber(trackingNumber)
+                .deliveryDate(deliveryDate)
+                .build();
+    }
 }
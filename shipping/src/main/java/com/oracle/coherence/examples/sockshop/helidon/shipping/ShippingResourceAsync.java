@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.shipping;
+
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Path;
+
+import static com.oracle.coherence.examples.sockshop.helidon.shipping.ShippingResource.createShipment;
+
+/**
+ * Implementation of the Shipping Service async REST API.
+ */
+@ApplicationScoped
+@Path("/shipping-async")
+public class ShippingResourceAsync implements ShippingApiAsync {
+
+    /**
+     * Shipment repository to use.
+     */
+    @Inject
+    private ShipmentRepositoryAsync shipments;
+
+    @Override
+    public CompletionStage<Shipment> getShipmentByOrderId(String orderId) {
+        return shipments.getShipment(orderId);
+    }
+
+    @Override
+    public CompletionStage<Shipment> ship(ShippingRequest req) {
+        Shipment shipment = createShipment(req.getOrderId(), req.getItemCount());
+        return shipments.saveShipment(shipment).thenApply(ignore -> shipment);
+    }
+}
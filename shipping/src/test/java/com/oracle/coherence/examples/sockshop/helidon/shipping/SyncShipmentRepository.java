@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.shipping;
+
+/**
+ * Helper class that blocks on async repository calls, allowing
+ * us to reuse the tests for both sync and async repository implementations.
+ * <p>
+ * Test-only methods are delegated to the sync test repository, as both
+ * repositories share the same backing map.
+ */
+public class SyncShipmentRepository implements TestShipmentRepository {
+    private final ShipmentRepositoryAsync shipments;
+    private final TestShipmentRepository testShipments;
+
+    public SyncShipmentRepository(ShipmentRepositoryAsync shipments, TestShipmentRepository testShipments) {
+        this.shipments = shipments;
+        this.testShipments = testShipments;
+    }
+
+    @Override
+    public Shipment getShipment(String orderId) {
+        return shipments.getShipment(orderId).toCompletableFuture().join();
+    }
+
+    @Override
+    public void saveShipment(Shipment shipment) {
+        shipments.saveShipment(shipment).toCompletableFuture().join();
+    }
+
+    @Override
+    public void clear() {
+        testShipments.clear();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.examples.sockshop.helidon.logging;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+/**
+ * A TurboFilter that only lets through one in every {@code rate} INFO and
+ * lower level events logged by the configured loggers, which are typically
+ * the loggers of hot request paths.
+ * 
+ * WARN and ERROR events are never sampled. Because the decision is made
+ * before the event is created, the sampled out events cost neither message
+ * formatting nor MDC population.
+ */
+public class SampledLoggingTurboFilter extends TurboFilter {
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private Set<String> loggers = Set.of();
+    private int rate = 1;
+
+    /**
+     * Set the names of the loggers to sample events for.
+     *
+     * @param loggers a comma-separated list of logger names
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = Set.of(loggers.trim().split("\\s*,\\s*"));
+    }
+
+    /**
+     * Set the sampling rate.
+     *
+     * @param rate the number of events to log one of; 1 logs every event
+     */
+    public void setRate(int rate) {
+        this.rate = Math.max(1, rate);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (rate == 1 || format == null || level == null
+            || level.isGreaterOrEqual(Level.WARN) || !loggers.contains(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
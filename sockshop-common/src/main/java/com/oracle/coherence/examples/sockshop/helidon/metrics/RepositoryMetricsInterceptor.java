@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.metrics;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+/**
+ * Interceptor that records the latency of each repository operation
+ * into a {@code repository.operation} timer, tagged with the repository
+ * class and the operation name.
+ * <p/>
+ * Timers are backed by lock-free histograms, so percentiles of individual
+ * Coherence operations can be monitored without sampling traces. For async
+ * operations the latency is recorded when the returned stage completes.
+ */
+@RepositoryMetrics
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_AFTER)
+public class RepositoryMetricsInterceptor {
+    static final String METRIC_NAME = "repository.operation";
+
+    private static final Metadata METADATA = Metadata.builder()
+            .withName(METRIC_NAME)
+            .withDescription("Latency of repository operations")
+            .withUnit(MetricUnits.NANOSECONDS)
+            .build();
+
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    @Inject
+    MetricRegistry registry;
+
+    @AroundInvoke
+    public Object record(InvocationContext ctx) throws Exception {
+        Timer timer = timers.computeIfAbsent(ctx.getMethod(), this::createTimer);
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            Object result = ctx.proceed();
+            if (result instanceof CompletionStage<?> stage) {
+                async = true;
+                stage.whenComplete((r, e) -> update(timer, start));
+            }
+            return result;
+        }
+        finally {
+            if (!async) {
+                update(timer, start);
+            }
+        }
+    }
+
+    private Timer createTimer(Method method) {
+        return registry.timer(METADATA,
+                              new Tag("repository", method.getDeclaringClass().getSimpleName()),
+                              new Tag("operation", method.getName()));
+    }
+
+    private static void update(Timer timer, long start) {
+        timer.update(Duration.ofNanos(System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.tracing;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Interceptor that creates a {@code Class.method} span for each invocation
+ * sampled by the {@link TracingPolicy}.
+ * <p/>
+ * Invocations that were not sampled are only timed, and if they fail and
+ * the policy keeps errors, a span covering the failed invocation is recorded
+ * after the fact. For async methods the span ends when the returned stage
+ * completes.
+ */
+@SampledSpan
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_BEFORE)
+public class SampledSpanInterceptor {
+    private static final String INSTRUMENTATION_NAME = "sockshop";
+
+    @Inject
+    TracingPolicy policy;
+
+    @AroundInvoke
+    public Object trace(InvocationContext ctx) throws Exception {
+        Method method = ctx.getMethod();
+        String spanName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        if (!policy.isSampled(spanName)) {
+            return policy.isKeepErrors() ? proceedKeepingErrors(ctx, spanName) : ctx.proceed();
+        }
+
+        Span span = tracer().spanBuilder(spanName).startSpan();
+        Object result;
+        try (Scope ignored = span.makeCurrent()) {
+            result = ctx.proceed();
+        }
+        catch (Throwable e) {
+            end(span, e);
+            throw e;
+        }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((r, e) -> end(span, e));
+        }
+        else {
+            end(span, null);
+        }
+        return result;
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private Object proceedKeepingErrors(InvocationContext ctx, String spanName) throws Exception {
+        long start = System.currentTimeMillis();
+        Context parent = Context.current();
+        Object result;
+        try {
+            result = ctx.proceed();
+        }
+        catch (Throwable e) {
+            recordError(spanName, parent, start, e);
+            throw e;
+        }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((r, e) -> {
+                if (e != null) {
+                    recordError(spanName, parent, start, e);
+                }
+            });
+        }
+        return result;
+    }
+
+    private static void recordError(String spanName, Context parent, long start, Throwable error) {
+        SpanBuilder builder = tracer().spanBuilder(spanName)
+                .setStartTimestamp(start, TimeUnit.MILLISECONDS);
+
+        // an unsampled parent would cause the span to be dropped,
+        // so record it as a new trace that links to the original one
+        SpanContext parentContext = Span.fromContext(parent).getSpanContext();
+        if (parentContext.isSampled()) {
+            builder.setParent(parent);
+        }
+        else {
+            builder.setNoParent();
+            if (parentContext.isValid()) {
+                builder.addLink(parentContext);
+            }
+        }
+        end(builder.startSpan(), error);
+    }
+
+    private static void end(Span span, Throwable error) {
+        if (error != null) {
+            span.recordException(error);
+            span.setStatus(StatusCode.ERROR);
+        }
+        span.end();
+    }
+
+    private static Tracer tracer() {
+        return GlobalOpenTelemetry.getTracer(INSTRUMENTATION_NAME);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+
+/**
+ * Codec for the W3C {@code traceparent} format, used to propagate trace
+ * context across async boundaries and gRPC calls within message fields.
+ * <p/>
+ * The format is {@code 00-<32 hex trace id>-<16 hex span id>-<2 hex flags>}.
+ * Formatting allocates only the resulting {@code String}, and validation and
+ * flag checks do not allocate at all, which makes them cheap enough to use
+ * on every request, unlike {@code String.format} and the map-based carriers
+ * required by the propagator APIs.
+ */
+public final class TraceParent {
+    /**
+     * The name of the {@code traceparent} header.
+     */
+    public static final String HEADER = "traceparent";
+
+    /**
+     * The length of a version {@code 00} {@code traceparent}.
+     */
+    public static final int LENGTH = 55;
+
+    private static final int TRACE_ID_OFFSET = 3;
+    private static final int SPAN_ID_OFFSET  = 36;
+    private static final int FLAGS_OFFSET    = 53;
+    private static final int TRACE_ID_LENGTH = 32;
+    private static final int SPAN_ID_LENGTH  = 16;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private TraceParent() {
+    }
+
+    /**
+     * Return the {@code traceparent} for the current span.
+     *
+     * @return the {@code traceparent} for the current span, or {@code null}
+     *         if there is no valid current span
+     */
+    public static String current() {
+        return format(Span.current().getSpanContext());
+    }
+
+    /**
+     * Format the specified span context as a {@code traceparent}.
+     *
+     * @param context the span context to format
+     *
+     * @return the {@code traceparent} for the specified span context, or
+     *         {@code null} if the span context is not valid
+     */
+    public static String format(SpanContext context) {
+        if (context == null || !context.isValid()) {
+            return null;
+        }
+        return format(context.getTraceId(), context.getSpanId(), context.getTraceFlags().asByte());
+    }
+
+    /**
+     * Format the specified trace context fields as a {@code traceparent}.
+     *
+     * @param traceId the 32 character lowercase hex trace identifier
+     * @param spanId  the 16 character lowercase hex span identifier
+     * @param flags   the trace flags
+     *
+     * @return the {@code traceparent} for the specified fields
+     */
+    public static String format(CharSequence traceId, CharSequence spanId, byte flags) {
+        char[] chars = new char[LENGTH];
+        chars[0] = '0';
+        chars[1] = '0';
+        chars[2] = '-';
+        for (int i = 0; i < TRACE_ID_LENGTH; i++) {
+            chars[TRACE_ID_OFFSET + i] = traceId.charAt(i);
+        }
+        chars[TRACE_ID_OFFSET + TRACE_ID_LENGTH] = '-';
+        for (int i = 0; i < SPAN_ID_LENGTH; i++) {
+            chars[SPAN_ID_OFFSET + i] = spanId.charAt(i);
+        }
+        chars[SPAN_ID_OFFSET + SPAN_ID_LENGTH] = '-';
+        chars[FLAGS_OFFSET]     = HEX[(flags >> 4) & 0xF];
+        chars[FLAGS_OFFSET + 1] = HEX[flags & 0xF];
+        return new String(chars);
+    }
+
+    /**
+     * Return {@code true} if the specified value is a valid {@code traceparent}.
+     *
+     * @param traceParent the value to check; can be {@code null}
+     *
+     * @return {@code true} if the specified value is a valid {@code traceparent}
+     */
+    public static boolean isValid(CharSequence traceParent) {
+        if (traceParent == null || traceParent.length() < LENGTH) {
+            return false;
+        }
+        // later versions may append fields, but must keep the version 00 layout
+        if (traceParent.length() > LENGTH && traceParent.charAt(LENGTH) != '-') {
+            return false;
+        }
+        if (traceParent.charAt(2) != '-'
+            || traceParent.charAt(TRACE_ID_OFFSET + TRACE_ID_LENGTH) != '-'
+            || traceParent.charAt(SPAN_ID_OFFSET + SPAN_ID_LENGTH) != '-') {
+            return false;
+        }
+        return isHex(traceParent, 0, 2)
+               && !(traceParent.charAt(0) == 'f' && traceParent.charAt(1) == 'f')
+               && isHex(traceParent, TRACE_ID_OFFSET, TRACE_ID_LENGTH)
+               && !isZero(traceParent, TRACE_ID_OFFSET, TRACE_ID_LENGTH)
+               && isHex(traceParent, SPAN_ID_OFFSET, SPAN_ID_LENGTH)
+               && !isZero(traceParent, SPAN_ID_OFFSET, SPAN_ID_LENGTH)
+               && isHex(traceParent, FLAGS_OFFSET, 2);
+    }
+
+    /**
+     * Return {@code true} if the specified {@code traceparent} is valid and
+     * has the sampled flag set.
+     *
+     * @param traceParent the {@code traceparent} to check; can be {@code null}
+     *
+     * @return {@code true} if the specified {@code traceparent} is sampled
+     */
+    public static boolean isSampled(CharSequence traceParent) {
+        return isValid(traceParent) && (flags(traceParent) & TraceFlags.getSampled().asByte()) != 0;
+    }
+
+    /**
+     * Parse the specified {@code traceparent} into a remote span context.
+     *
+     * @param traceParent the {@code traceparent} to parse; can be {@code null}
+     *
+     * @return the remote span context, or an invalid span context if the
+     *         specified value is not a valid {@code traceparent}
+     */
+    public static SpanContext parse(CharSequence traceParent) {
+        if (!isValid(traceParent)) {
+            return SpanContext.getInvalid();
+        }
+        return SpanContext.createFromRemoteParent(
+                traceParent.subSequence(TRACE_ID_OFFSET, TRACE_ID_OFFSET + TRACE_ID_LENGTH).toString(),
+                traceParent.subSequence(SPAN_ID_OFFSET, SPAN_ID_OFFSET + SPAN_ID_LENGTH).toString(),
+                TraceFlags.fromByte(flags(traceParent)),
+                TraceState.getDefault());
+    }
+
+    /**
+     * Return a context with the remote parent span described by the
+     * specified {@code traceparent}.
+     *
+     * @param traceParent the {@code traceparent}; can be {@code null}
+     *
+     * @return a context with the remote parent span, or the root context
+     *         if the specified value is not a valid {@code traceparent}
+     */
+    public static Context extract(CharSequence traceParent) {
+        SpanContext spanContext = parse(traceParent);
+        return spanContext.isValid()
+               ? Context.root().with(Span.wrap(spanContext))
+               : Context.root();
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private static byte flags(CharSequence traceParent) {
+        return (byte) (Character.digit(traceParent.charAt(FLAGS_OFFSET), 16) << 4
+                       | Character.digit(traceParent.charAt(FLAGS_OFFSET + 1), 16));
+    }
+
+    private static boolean isHex(CharSequence s, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            char c = s.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isZero(CharSequence s, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (s.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
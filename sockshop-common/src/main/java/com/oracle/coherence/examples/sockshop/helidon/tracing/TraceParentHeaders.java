@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.tracing;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.tracing.HeaderProvider;
+
+/**
+ * An immutable {@link HeaderProvider} that carries a single {@code traceparent}
+ * header, which allows a parent span context to be extracted by a Helidon
+ * {@link io.helidon.tracing.Tracer} from a {@code traceparent} passed within
+ * a message.
+ */
+public final class TraceParentHeaders implements HeaderProvider {
+    private static final List<String> KEYS = List.of(TraceParent.HEADER);
+
+    private final String traceParent;
+    private final Optional<String> value;
+
+    private TraceParentHeaders(String traceParent) {
+        this.traceParent = traceParent;
+        this.value = Optional.of(traceParent);
+    }
+
+    /**
+     * Create a header provider for the specified {@code traceparent}.
+     *
+     * @param traceParent the {@code traceparent}
+     *
+     * @return a header provider for the specified {@code traceparent}, or
+     *         an empty optional if it is not a valid {@code traceparent}
+     */
+    public static Optional<TraceParentHeaders> of(String traceParent) {
+        return TraceParent.isValid(traceParent)
+               ? Optional.of(new TraceParentHeaders(traceParent))
+               : Optional.empty();
+    }
+
+    @Override
+    public Iterable<String> keys() {
+        return KEYS;
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        return contains(key) ? value : Optional.empty();
+    }
+
+    @Override
+    public Iterable<String> getAll(String key) {
+        return contains(key) ? List.of(traceParent) : List.of();
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return TraceParent.HEADER.equalsIgnoreCase(key);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.tracing;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Decides which spans are created by a service, based on the
+ * {@code tracing.policy.*} configuration properties:
+ * <ul>
+ *     <li>{@code tracing.policy.ratio} - the fraction of traces to create
+ *         spans for, between 0 and 1 (1.0)</li>
+ *     <li>{@code tracing.policy.keep-errors} - whether to record a span for
+ *         operations that fail, even if they were not sampled (true)</li>
+ *     <li>{@code tracing.policy.suppress} - comma-separated list of span names,
+ *         such as {@code CoherenceOrderRepository.get}, or class names, such
+ *         as {@code CoherenceOrderRepository}, to never create spans for</li>
+ * </ul>
+ * The sampling decision is derived from the trace identifier, so all services
+ * configured with the same ratio make the same decision for a given trace,
+ * and spans are never created within a trace the caller did not sample.
+ */
+@ApplicationScoped
+public class TracingPolicy {
+    private final double ratio;
+    private final long bound;
+    private final boolean keepErrors;
+    private final Set<String> suppressed;
+
+    @Inject
+    public TracingPolicy(@ConfigProperty(name = "tracing.policy.ratio", defaultValue = "1.0") double ratio,
+                         @ConfigProperty(name = "tracing.policy.keep-errors", defaultValue = "true") boolean keepErrors,
+                         @ConfigProperty(name = "tracing.policy.suppress") Optional<List<String>> suppressed) {
+        this.ratio = ratio;
+        this.bound = (long) (Math.max(0, Math.min(1, ratio)) * Long.MAX_VALUE);
+        this.keepErrors = keepErrors;
+        this.suppressed = suppressed.map(Set::copyOf).orElse(Set.of());
+    }
+
+    /**
+     * Return {@code true} if a span with the specified name should be created
+     * as a child of the current span.
+     *
+     * @param spanName the name of the span, in {@code Class.method} form
+     *
+     * @return {@code true} if the span should be created
+     */
+    public boolean isSampled(String spanName) {
+        if (isSuppressed(spanName)) {
+            return false;
+        }
+        SpanContext parent = Span.current().getSpanContext();
+        return parent.isValid()
+               ? parent.isSampled() && sample(parent.getTraceId(), 0)
+               : sampleRoot();
+    }
+
+    /**
+     * Return {@code true} if a span with the specified name should be created
+     * as a child of the span with the specified W3C {@code traceparent}.
+     *
+     * @param spanName    the name of the span
+     * @param traceParent the parent {@code traceparent}; can be {@code null}
+     *
+     * @return {@code true} if the span should be created
+     */
+    public boolean isSampled(String spanName, String traceParent) {
+        if (isSuppressed(spanName)) {
+            return false;
+        }
+        if (!TraceParent.isValid(traceParent)) {
+            return sampleRoot();
+        }
+        // 00-<32 hex trace id>-<16 hex span id>-<2 hex flags>
+        return TraceParent.isSampled(traceParent) && sample(traceParent, 3);
+    }
+
+    /**
+     * Return {@code true} if spans with the specified name are suppressed.
+     *
+     * @param spanName the name of the span, in {@code Class.method} form
+     *
+     * @return {@code true} if spans with the specified name are suppressed
+     */
+    public boolean isSuppressed(String spanName) {
+        if (suppressed.isEmpty()) {
+            return false;
+        }
+        int dot = spanName.indexOf('.');
+        return suppressed.contains(spanName)
+               || dot > 0 && suppressed.contains(spanName.substring(0, dot));
+    }
+
+    /**
+     * Return {@code true} if failed operations should be recorded even if
+     * they were not sampled.
+     *
+     * @return {@code true} if failed operations should always be recorded
+     */
+    public boolean isKeepErrors() {
+        return keepErrors;
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private boolean sample(CharSequence traceId, int offset) {
+        if (ratio >= 1.0) {
+            return true;
+        }
+        try {
+            // the low 64 bits of the trace id are random, as in TraceIdRatioBased sampler
+            long random = Long.parseUnsignedLong(traceId, offset + 16, offset + 32, 16) & Long.MAX_VALUE;
+            return random < bound;
+        }
+        catch (NumberFormatException e) {
+            return sampleRoot();
+        }
+    }
+
+    private boolean sampleRoot() {
+        return ratio >= 1.0 || ThreadLocalRandom.current().nextDouble() < ratio;
+    }
+}
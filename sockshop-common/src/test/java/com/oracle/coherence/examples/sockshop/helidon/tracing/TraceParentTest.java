@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Unit tests for TraceParent class.
+ */
+class TraceParentTest {
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String SPAN_ID  = "00f067aa0ba902b7";
+    private static final String SAMPLED  = "00-" + TRACE_ID + "-" + SPAN_ID + "-01";
+
+    @Test
+    void testFormat() {
+        SpanContext context = SpanContext.create(TRACE_ID, SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault());
+
+        assertThat(TraceParent.format(context), is(SAMPLED));
+        assertThat(TraceParent.format(TRACE_ID, SPAN_ID, (byte) 0), is("00-" + TRACE_ID + "-" + SPAN_ID + "-00"));
+        assertThat(TraceParent.format(SpanContext.getInvalid()), is(nullValue()));
+    }
+
+    @Test
+    void testValidation() {
+        assertThat(TraceParent.isValid(SAMPLED), is(true));
+        assertThat(TraceParent.isValid(SAMPLED + "-future"), is(true));
+        assertThat(TraceParent.isValid(null), is(false));
+        assertThat(TraceParent.isValid(""), is(false));
+        assertThat(TraceParent.isValid(SAMPLED + "0"), is(false));
+        assertThat(TraceParent.isValid(SAMPLED.toUpperCase()), is(false));
+        assertThat(TraceParent.isValid("ff" + SAMPLED.substring(2)), is(false));
+        assertThat(TraceParent.isValid("00-00000000000000000000000000000000-" + SPAN_ID + "-01"), is(false));
+        assertThat(TraceParent.isValid("00-" + TRACE_ID + "-0000000000000000-01"), is(false));
+    }
+
+    @Test
+    void testSampled() {
+        assertThat(TraceParent.isSampled(SAMPLED), is(true));
+        assertThat(TraceParent.isSampled("00-" + TRACE_ID + "-" + SPAN_ID + "-00"), is(false));
+        assertThat(TraceParent.isSampled(null), is(false));
+    }
+
+    @Test
+    void testParse() {
+        SpanContext context = TraceParent.parse(SAMPLED);
+
+        assertThat(context.isValid(), is(true));
+        assertThat(context.isRemote(), is(true));
+        assertThat(context.getTraceId(), is(TRACE_ID));
+        assertThat(context.getSpanId(), is(SPAN_ID));
+        assertThat(context.isSampled(), is(true));
+        assertThat(TraceParent.parse("invalid").isValid(), is(false));
+    }
+
+    @Test
+    void testExtract() {
+        Context context = TraceParent.extract(SAMPLED);
+
+        assertThat(Span.fromContext(context).getSpanContext().getTraceId(), is(TRACE_ID));
+        assertThat(TraceParent.extract(null), is(Context.root()));
+    }
+
+    @Test
+    void testHeaders() {
+        TraceParentHeaders headers = TraceParentHeaders.of(SAMPLED).orElseThrow();
+
+        assertThat(headers.get("traceparent").orElseThrow(), is(SAMPLED));
+        assertThat(headers.get("Traceparent").orElseThrow(), is(SAMPLED));
+        assertThat(headers.get("tracestate").isPresent(), is(false));
+        assertThat(headers.contains("traceparent"), is(true));
+        assertThat(TraceParentHeaders.of("invalid").isPresent(), is(false));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.tracing;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for TracingPolicy class.
+ */
+class TracingPolicyTest {
+    private static final String LOW_SAMPLED   = "00-4bf92f3577b34da60000000000000001-00f067aa0ba902b7-01";
+    private static final String HIGH_SAMPLED  = "00-4bf92f3577b34da67fffffffffffffff-00f067aa0ba902b7-01";
+    private static final String LOW_UNSAMPLED = "00-4bf92f3577b34da60000000000000001-00f067aa0ba902b7-00";
+
+    @Test
+    void testSuppression() {
+        TracingPolicy policy = new TracingPolicy(1.0, true,
+                Optional.of(List.of("CoherenceCartRepository.getItems", "CoherenceCartRepositoryAsync")));
+
+        assertThat(policy.isSuppressed("CoherenceCartRepository.getItems"), is(true));
+        assertThat(policy.isSuppressed("CoherenceCartRepository.getItem"), is(false));
+        assertThat(policy.isSuppressed("CoherenceCartRepositoryAsync.getItem"), is(true));
+        assertThat(policy.isSampled("CoherenceCartRepository.getItems", LOW_SAMPLED), is(false));
+        assertThat(policy.isSampled("CoherenceCartRepository.getItem", LOW_SAMPLED), is(true));
+    }
+
+    @Test
+    void testRatioSampling() {
+        TracingPolicy policy = new TracingPolicy(0.5, true, Optional.empty());
+
+        assertThat(policy.isSampled("process-order-event", LOW_SAMPLED), is(true));
+        assertThat(policy.isSampled("process-order-event", HIGH_SAMPLED), is(false));
+    }
+
+    @Test
+    void testUnsampledParent() {
+        TracingPolicy policy = new TracingPolicy(1.0, true, Optional.empty());
+
+        assertThat(policy.isSampled("process-order-event", LOW_UNSAMPLED), is(false));
+        assertThat(policy.isSampled("process-order-event", null), is(true));
+    }
+
+    @Test
+    void testZeroRatio() {
+        TracingPolicy policy = new TracingPolicy(0.0, false, Optional.empty());
+
+        assertThat(policy.isSampled("process-order-event", LOW_SAMPLED), is(false));
+        assertThat(policy.isSampled("process-order-event", null), is(false));
+        assertThat(policy.isKeepErrors(), is(false));
+    }
+}
@@ -7,6 +7,7 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.users;
 
+import java.io.Serial;
 import java.io.Serializable;
 
 import jakarta.json.bind.annotation.JsonbProperty;
@@ -24,6 +25,13 @@ import org.eclipse.microprofile.openapi.annotations.media.Schema;
 @NoArgsConstructor
 @Schema(description = "User address")
 public class Address implements Serializable {
+    /**
+     * The serialization version of addresss stored before the user reference
+     * became transient, which must not change, so they can still be read.
+     */
+    @Serial
+    private static final long serialVersionUID = -9149527223552377984L;
+
     /**
      * The address identifier.
      */
@@ -61,12 +69,13 @@ public class Address implements Serializable {
     private String country;
 
     /**
-     * The user this address is associated with, purely for JPA optimization.
+     * The user this address is associated with. Not serialized, because
+     * addresses are stored in their own map, separately from the user.
      */
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @JsonbTransient
-    private User user;
+    private transient User user;
 
     /**
      * Construct {@code Address} with specified parameters.
@@ -12,6 +12,9 @@ import jakarta.json.bind.annotation.JsonbTypeAdapter;
 import lombok.Builder;
 import lombok.Data;
 
+import com.tangosol.net.cache.KeyAssociation;
+import com.tangosol.util.ValueExtractor;
+
 import java.io.Serializable;
 
 /**
@@ -19,7 +22,12 @@ import java.io.Serializable;
  */
 @JsonbTypeAdapter(AddressId.JsonAdapter.class)
 @Data
-public class AddressId implements Serializable {
+public class AddressId implements Serializable, KeyAssociation<String> {
+    /**
+     * The extractor for the ID of the customer the address belongs to.
+     */
+    public static final ValueExtractor<AddressId, String> USER = AddressId::getUser;
+
     /**
      * The customer Id that the address is associated with.
      */
@@ -53,6 +61,17 @@ public class AddressId implements Serializable {
         this.addressId = addressId;
     }
 
+    /**
+     * Return the ID of the customer the address belongs to, so that all addresses
+     * and cards of a customer are stored in the same partition as the customer.
+     *
+     * @return the ID of the customer the address belongs to
+     */
+    @Override
+    public String getAssociatedKey() {
+        return user;
+    }
+
     @Override
     public String toString() {
         return user + ":" + addressId;
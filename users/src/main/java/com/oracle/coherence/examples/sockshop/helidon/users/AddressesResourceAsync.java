@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.util.Collections;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import static com.oracle.coherence.examples.sockshop.helidon.users.JsonHelpers.embed;
+import static com.oracle.coherence.examples.sockshop.helidon.users.JsonHelpers.obj;
+
+/**
+ * Implementation of the async Addresses REST API.
+ */
+@ApplicationScoped
+@Path("/addresses-async")
+public class AddressesResourceAsync implements AddressApiAsync {
+
+    @Inject
+    private UserRepositoryAsync users;
+
+    @Override
+    public Response getAllAddresses() {
+        return Response.ok(embed("address", Collections.emptyList())).build();
+    }
+
+    @Override
+    public CompletionStage<Response> registerAddress(AddressesResource.AddAddressRequest req) {
+        Address address = new Address(req.number, req.street, req.city, req.postcode, req.country);
+        return users.addAddress(req.userID, address)
+                .thenApply(id -> Response.ok(obj().add("id", id.toString()).build()).build());
+    }
+
+    @Override
+    public CompletionStage<Address> getAddress(AddressId id) {
+        return users.getAddress(id);
+    }
+
+    @Override
+    public CompletionStage<Response> deleteAddress(AddressId id) {
+        return users.removeAddress(id)
+                .handle((ignore, e) -> status(e == null));
+    }
+
+    // --- helpers ----------------------------------------------------------
+
+    private static Response status(boolean fSuccess) {
+        return Response.ok(obj().add("status", fSuccess).build()).build();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import com.oracle.coherence.cdi.PropertyExtractor;
+import com.oracle.coherence.cdi.events.Deleted;
+import com.oracle.coherence.cdi.events.MapName;
+import com.oracle.coherence.cdi.events.Updated;
+
+import com.tangosol.util.MapEvent;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * A short-lived, bounded cache of successful credential verifications.
+ * <p>
+ * Password hashing is deliberately expensive, so repeated logins with the same
+ * credentials are verified against this cache instead. The cache holds the
+ * latest verified credentials of each user as a digest that is salted with a
+ * random value generated on startup, so passwords are never kept in memory.
+ * Entries expire after a configurable time, and are removed when the user is
+ * removed or their password changes. Every member observes those changes in
+ * the {@code users} map, so a user removed through one member can't log in
+ * through another using a cached verification.
+ */
+@ApplicationScoped
+public class AuthCache {
+    private static final int PEPPER_LENGTH = 16;
+
+    private final Map<String, Verification> verifications = new ConcurrentHashMap<>();
+
+    private final byte[] pepper = new byte[PEPPER_LENGTH];
+
+    private final long ttlNanos;
+
+    private final int maxEntries;
+
+    /**
+     * Construct AuthCache instance.
+     *
+     * @param ttl        the time (in milliseconds) a verification is cached for;
+     *                   zero or less disables the cache
+     * @param maxEntries the maximum number of cached verifications
+     */
+    @Inject
+    public AuthCache(@ConfigProperty(name = "users.auth-cache.ttl", defaultValue = "30000") long ttl,
+                     @ConfigProperty(name = "users.auth-cache.max-entries", defaultValue = "10000") int maxEntries) {
+        this.ttlNanos = Math.max(0, ttl) * 1_000_000;
+        this.maxEntries = maxEntries;
+        new SecureRandom().nextBytes(pepper);
+    }
+
+    /**
+     * Return whether the specified credentials were verified recently.
+     *
+     * @param username the username
+     * @param password the password
+     *
+     * @return {@code true} if the credentials were verified within the TTL
+     */
+    public boolean isVerified(String username, String password) {
+        if (ttlNanos == 0) {
+            return false;
+        }
+        Verification verification = verifications.get(username);
+        if (verification == null) {
+            return false;
+        }
+        if (verification.expiry - System.nanoTime() <= 0) {
+            verifications.remove(username, verification);
+            return false;
+        }
+        return MessageDigest.isEqual(verification.digest, digest(username, password));
+    }
+
+    /**
+     * Record successful verification of the specified credentials.
+     *
+     * @param username the username
+     * @param password the password
+     */
+    public void verified(String username, String password) {
+        if (ttlNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (verifications.size() >= maxEntries) {
+            verifications.values().removeIf(v -> v.expiry - now <= 0);
+            if (verifications.size() >= maxEntries) {
+                verifications.clear();
+            }
+        }
+        verifications.put(username, new Verification(digest(username, password), now + ttlNanos));
+    }
+
+    /**
+     * Remove the cached verification of the specified user.
+     *
+     * @param username the username
+     */
+    public void invalidate(String username) {
+        verifications.remove(username);
+    }
+
+    /**
+     * Remove the cached verification of a user that was removed, or whose
+     * password changed, on any member.
+     *
+     * @param event the map event, with the old and new password of the user as values
+     */
+    void onUserChanged(@Observes @MapName("users") @Updated @Deleted @PropertyExtractor("password") MapEvent<String, String> event) {
+        if (event.getId() == MapEvent.ENTRY_DELETED || !Objects.equals(event.getOldValue(), event.getNewValue())) {
+            invalidate(event.getKey());
+        }
+    }
+
+    /**
+     * Return the number of cached verifications.
+     *
+     * @return the number of cached verifications
+     */
+    public int size() {
+        return verifications.size();
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private byte[] digest(String username, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(pepper);
+            digest.update(username.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return digest.digest(password.getBytes(StandardCharsets.UTF_8));
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A cached verification.
+     */
+    private static final class Verification {
+        /**
+         * The digest of the verified credentials.
+         */
+        private final byte[] digest;
+
+        /**
+         * The time (in nanoseconds) the verification expires at.
+         */
+        private final long expiry;
+
+        private Verification(byte[] digest, long expiry) {
+            this.digest = digest;
+            this.expiry = expiry;
+        }
+    }
+}
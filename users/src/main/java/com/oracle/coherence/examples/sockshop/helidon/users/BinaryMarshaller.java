@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import io.grpc.MethodDescriptor;
+
+import io.helidon.grpc.api.Grpc;
+import io.helidon.grpc.core.MarshallerSupplier;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of a gRPC {@link MethodDescriptor.Marshaller} that
+ * uses a compact binary encoding for the messages of {@link UserGrpc}.
+ * <p>
+ * Each message is written as a fixed sequence of nullable strings and
+ * nested messages, without any field names or type information, so the
+ * classes that represent a message can differ between the services, as
+ * long as they write and read the fields in the same order.
+ *
+ * @param <T> the type of value to be marshalled
+ */
+@Grpc.GrpcMarshaller
+public class BinaryMarshaller<T> implements MethodDescriptor.Marshaller<T> {
+    private static final Map<Class<?>, Codec<?>> CODECS = Map.of(
+            String.class, new Codec<String>(BinaryMarshaller::writeString, BinaryMarshaller::readString),
+            User.class, new Codec<User>(BinaryMarshaller::writeCustomer, BinaryMarshaller::readCustomer),
+            Address.class, new Codec<Address>(BinaryMarshaller::writeAddress, BinaryMarshaller::readAddress),
+            Card.class, new Codec<Card>(BinaryMarshaller::writeCard, BinaryMarshaller::readCard),
+            UserDetailsRequest.class, new Codec<UserDetailsRequest>(BinaryMarshaller::writeRequest, BinaryMarshaller::readRequest),
+            UserDetails.class, new Codec<UserDetails>(BinaryMarshaller::writeDetails, BinaryMarshaller::readDetails));
+
+    private final Codec<T> codec;
+
+    /**
+     * Construct {@code BinaryMarshaller} instance.
+     *
+     * @param clazz the type of object to marshall
+     */
+    @SuppressWarnings("unchecked")
+    BinaryMarshaller(Class<T> clazz) {
+        codec = (Codec<T>) CODECS.get(clazz);
+        if (codec == null) {
+            throw new IllegalArgumentException("No binary encoding for " + clazz.getName());
+        }
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try {
+            codec.writer.write(new DataOutputStream(bytes), value);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    @Override
+    public T parse(InputStream in) {
+        try {
+            return codec.reader.read(new DataInputStream(in));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    static void writeCustomer(DataOutput out, User user) throws IOException {
+        writeString(out, user.getUsername());
+        writeString(out, user.getFirstName());
+        writeString(out, user.getLastName());
+        writeString(out, user.getEmail());
+    }
+
+    static User readCustomer(DataInput in) throws IOException {
+        String username = readString(in);
+        return new User(readString(in), readString(in), readString(in), username, null);
+    }
+
+    static void writeAddress(DataOutput out, Address address) throws IOException {
+        writeString(out, address.getAddressId());
+        writeString(out, address.getNumber());
+        writeString(out, address.getStreet());
+        writeString(out, address.getCity());
+        writeString(out, address.getPostcode());
+        writeString(out, address.getCountry());
+    }
+
+    static Address readAddress(DataInput in) throws IOException {
+        String id = readString(in);
+        return new Address(readString(in), readString(in), readString(in), readString(in), readString(in))
+                .setAddressId(id);
+    }
+
+    static void writeCard(DataOutput out, Card card) throws IOException {
+        writeString(out, card.getCardId());
+        writeString(out, card.getLongNum());
+        writeString(out, card.getExpires());
+        writeString(out, card.getCcv());
+    }
+
+    static Card readCard(DataInput in) throws IOException {
+        String id = readString(in);
+        return new Card(readString(in), readString(in), readString(in)).setCardId(id);
+    }
+
+    static void writeRequest(DataOutput out, UserDetailsRequest request) throws IOException {
+        writeString(out, request.getCustomerId());
+        writeString(out, request.getAddressId());
+        writeString(out, request.getCardId());
+    }
+
+    static UserDetailsRequest readRequest(DataInput in) throws IOException {
+        return new UserDetailsRequest(readString(in), readString(in), readString(in));
+    }
+
+    static void writeDetails(DataOutput out, UserDetails details) throws IOException {
+        writeNullable(out, details.getCustomer(), BinaryMarshaller::writeCustomer);
+        writeNullable(out, details.getAddress(), BinaryMarshaller::writeAddress);
+        writeNullable(out, details.getCard(), BinaryMarshaller::writeCard);
+    }
+
+    static UserDetails readDetails(DataInput in) throws IOException {
+        return new UserDetails(readNullable(in, BinaryMarshaller::readCustomer),
+                               readNullable(in, BinaryMarshaller::readAddress),
+                               readNullable(in, BinaryMarshaller::readCard));
+    }
+
+    private static <V> void writeNullable(DataOutput out, V value, Writer<V> writer) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writer.write(out, value);
+        }
+    }
+
+    private static <V> V readNullable(DataInput in, Reader<V> reader) throws IOException {
+        return in.readBoolean() ? reader.read(in) : null;
+    }
+
+    // ---- inner types -----------------------------------------------------
+
+    /**
+     * Writes a value of a specific type.
+     */
+    @FunctionalInterface
+    interface Writer<V> {
+        void write(DataOutput out, V value) throws IOException;
+    }
+
+    /**
+     * Reads a value of a specific type.
+     */
+    @FunctionalInterface
+    interface Reader<V> {
+        V read(DataInput in) throws IOException;
+    }
+
+    /**
+     * The encoding of a specific type.
+     */
+    private static class Codec<V> {
+        private final Writer<V> writer;
+        private final Reader<V> reader;
+
+        Codec(Writer<V> writer, Reader<V> reader) {
+            this.writer = writer;
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * A {@link MarshallerSupplier} implementation that supplies
+     * instances of {@link BinaryMarshaller}.
+     */
+    @Dependent
+    @Named("users-binary")
+    public static class Supplier implements MarshallerSupplier {
+        @Override
+        public <T> MethodDescriptor.Marshaller<T> get(Class<T> clazz) {
+            return new BinaryMarshaller<>(clazz);
+        }
+    }
+}
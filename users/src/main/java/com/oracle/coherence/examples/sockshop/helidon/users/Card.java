@@ -7,10 +7,14 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.users;
 
+import java.io.Serial;
 import java.io.Serializable;
 
 import jakarta.json.bind.annotation.JsonbProperty;
 import jakarta.json.bind.annotation.JsonbTransient;
+
+import com.tangosol.util.ValueExtractor;
+
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -24,6 +28,20 @@ import org.eclipse.microprofile.openapi.annotations.media.Schema;
 @NoArgsConstructor
 @Schema(description = "User credit card")
 public class Card implements Serializable {
+    /**
+     * The serialization version of cards stored before the user reference
+     * became transient, which must not change, so they can still be read.
+     */
+    @Serial
+    private static final long serialVersionUID = 64971192636745414L;
+
+    /**
+     * The extractor for a copy of the card with masked card number, which
+     * allows cards to be masked on the storage members, so full card numbers
+     * are never sent to the clients that only display them.
+     */
+    public static final ValueExtractor<Card, Card> MASKED = Card::masked;
+
     /**
      * The card identifier.
      */
@@ -49,12 +67,13 @@ public class Card implements Serializable {
     private String ccv;
 
     /**
-     * The user this card belongs to, purely for JPA optimization.
+     * The user this card belongs to, which is not serialized, so that
+     * storing or returning a card never includes the whole user.
      */
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @JsonbTransient
-    private User user;
+    private transient User user;
 
     /**
      * Construct {@code Card} with specified parameters.
@@ -114,6 +133,15 @@ public class Card implements Serializable {
         return this;
     }
 
+    /**
+     * Return a copy of this card with masked card number.
+     *
+     * @return a copy of this card with masked card number
+     */
+    public Card masked() {
+        return new Card(longNum, expires, ccv).setCardId(cardId).mask();
+    }
+
     /**
      * Return the last 4 digit of the card number.
      *
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.util.concurrent.CompletionStage;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+
+/**
+ * Async REST API for {@code /cards} service.
+ */
+public interface CardApiAsync {
+    @GET
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Return all cards associated with a user; or an empty list if no card found")
+    @APIResponses({
+          @APIResponse(responseCode = "200", description = "if the retrieval is successful")
+    })
+    Response getAllCards();
+
+    @POST
+    @Consumes(APPLICATION_JSON)
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Register card for a user; no-op if the card exist")
+    @APIResponses({
+          @APIResponse(responseCode = "200", description = "if card is successfully registered")
+    })
+    CompletionStage<Response> registerCard(@Parameter(description = "Add Card request") CardsResource.AddCardRequest req);
+
+    @GET
+    @Path("{id}")
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Return card for the specified identifier")
+    CompletionStage<Card> getCard(@Parameter(description = "Card identifier")
+                                  @PathParam("id") CardId id);
+
+    @DELETE
+    @Path("{id}")
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Delete card for the specified identifier")
+    @APIResponses({
+          @APIResponse(responseCode = "200", description = "if card is successfully deleted")
+    })
+    CompletionStage<Response> deleteCard(@Parameter(description = "Card identifier")
+                                         @PathParam("id") CardId id);
+}
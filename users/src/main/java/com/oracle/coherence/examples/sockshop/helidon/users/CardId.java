@@ -12,6 +12,9 @@ import jakarta.json.bind.annotation.JsonbTypeAdapter;
 import lombok.Builder;
 import lombok.Data;
 
+import com.tangosol.net.cache.KeyAssociation;
+import com.tangosol.util.ValueExtractor;
+
 import java.io.Serializable;
 
 /**
@@ -19,7 +22,12 @@ import java.io.Serializable;
  */
 @JsonbTypeAdapter(CardId.JsonAdapter.class)
 @Data
-public class CardId implements Serializable {
+public class CardId implements Serializable, KeyAssociation<String> {
+    /**
+     * The extractor for the ID of the customer the card belongs to.
+     */
+    public static final ValueExtractor<CardId, String> USER = CardId::getUser;
+
     /**
      * The ID of the customer to whom the card belongs.
      */
@@ -53,6 +61,17 @@ public class CardId implements Serializable {
         this.cardId = cardId;
     }
 
+    /**
+     * Return the key the card is associated with, which keeps each card in the
+     * same partition as its owner.
+     *
+     * @return the ID of the customer the card belongs to
+     */
+    @Override
+    public String getAssociatedKey() {
+        return user;
+    }
+
     @Override
     public String toString() {
         return user + ":" + cardId;
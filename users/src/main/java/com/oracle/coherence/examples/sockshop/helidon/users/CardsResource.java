@@ -38,7 +38,7 @@ public class CardsResource implements CardApi {
 
     @Override
     public Card getCard(CardId id) {
-        return users.getCard(id).mask();
+        return users.getMaskedCard(id);
     }
 
     @Override
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.util.Collections;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Implementation of the async Cards REST API.
+ */
+@ApplicationScoped
+@Path("/cards-async")
+public class CardsResourceAsync implements CardApiAsync {
+
+    @Inject
+    private UserRepositoryAsync users;
+
+    @Override
+    public Response getAllCards() {
+        return Response.ok(JsonHelpers.embed("card", Collections.emptyList())).build();
+    }
+
+    @Override
+    public CompletionStage<Response> registerCard(CardsResource.AddCardRequest req) {
+        Card card = new Card(req.longNum, req.expires, req.ccv);
+        return users.addCard(req.userID, card)
+                .thenApply(id -> Response.ok(JsonHelpers.obj().add("id", id.toString()).build()).build());
+    }
+
+    @Override
+    public CompletionStage<Card> getCard(CardId id) {
+        return users.getMaskedCard(id);
+    }
+
+    @Override
+    public CompletionStage<Response> deleteCard(CardId id) {
+        return users.removeCard(id)
+                .handle((ignore, e) -> status(e == null));
+    }
+
+    // --- helpers ----------------------------------------------------------
+
+    private static Response status(boolean fSuccess) {
+        return Response.ok(JsonHelpers.obj().add("status", fSuccess).build()).build();
+    }
+}
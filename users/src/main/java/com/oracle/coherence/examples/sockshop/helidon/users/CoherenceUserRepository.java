@@ -7,121 +7,479 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.users;
 
-import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
 import com.tangosol.net.NamedMap;
+import com.tangosol.net.PartitionedService;
+import com.tangosol.net.partition.KeyPartitioningStrategy;
+import com.tangosol.net.partition.PartitionSet;
+import com.tangosol.util.Aggregators;
+import com.tangosol.util.Filter;
+import com.tangosol.util.Filters;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.extractor.KeyExtractor;
+import com.tangosol.util.filter.KeyAssociatedFilter;
+import com.tangosol.util.filter.PartitionedFilter;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
 
 /**
  * An implementation of {@link UserRepository}
  * that that uses Coherence as a backend data store.
+ * <p>
+ * Users, addresses and cards are stored in separate maps, so each operation
+ * reads and writes only the entity it needs. Address and card keys are
+ * associated with the username, so all data of a user lives in the same
+ * partition, and queries for the addresses or cards of a user are sent to
+ * that partition only.
+ * <p>
+ * Passwords are hashed on registration. Credentials are verified by extracting
+ * just the stored hash with an aggregator, which doesn't lock the user entry,
+ * and successful verifications are cached briefly in the {@link AuthCache}.
  */
 @ApplicationScoped
+@RepositoryMetrics
 public class CoherenceUserRepository implements UserRepository {
 
     protected NamedMap<String, User> users;
 
+    protected final NamedMap<AddressId, Address> addresses;
+
+    protected final NamedMap<CardId, Card> cards;
+
+    protected final PasswordHasher hasher;
+
+    protected final AuthCache authCache;
+
     @Inject
-    public CoherenceUserRepository(@Name("users") NamedMap<String, User> users) {
+    public CoherenceUserRepository(@Name("users") NamedMap<String, User> users,
+                                   @Name("addresses") NamedMap<AddressId, Address> addresses,
+                                   @Name("cards") NamedMap<CardId, Card> cards,
+                                   PasswordHasher hasher,
+                                   AuthCache authCache) {
         this.users = users;
+        this.addresses = addresses;
+        this.cards = cards;
+        this.hasher = hasher;
+        this.authCache = authCache;
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
     public Address getAddress(AddressId id) {
-        return getOrCreate(id.getUser()).getAddress(id.getAddressId());
+        Address address = addresses.get(id);
+        if (address == null) {
+            address = new Address().setAddressId(id.getAddressId());
+        }
+        return address.setUser(new User(id.getUser()));
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
     public AddressId addAddress(String userID, Address address) {
-        return users.invoke(userID, entry -> {
-            User u = entry.getValue(new User(entry.getKey()));
-            Address addr = u.addAddress(address);
-            entry.setValue(u);
-            return addr.getId();
-        });
+        String addressId = users.invoke(userID, assignAddressId(address.getAddressId()));
+        AddressId id = new AddressId(userID, addressId);
+        addresses.put(id, address.setAddressId(addressId));
+        return id;
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
     public void removeAddress(AddressId id) {
-        String userID = id.getUser();
-        users.invoke(userID, entry -> {
-            User u = entry.getValue(new User(entry.getKey()));
-            entry.setValue(u.removeAddress(id.getAddressId()));
-            return null;
-        });
+        addresses.remove(id);
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
+    public Collection<? extends Address> getAddresses(String userID) {
+        return attach(userID, addresses.values(addressesOf(userID)), Address::setUser);
+    }
+
+    @Override
+    @SampledSpan
     public CardId addCard(String userID, Card card) {
-        return users.invoke(userID, entry -> {
-            User u = entry.getValue(new User(entry.getKey()));
-            Card c = u.addCard(card);
-            entry.setValue(u);
-            return c.getId();
-        });
+        ensureUser(userID);
+        if (card.getCardId() == null) {
+            card.setCardId(card.last4());
+        }
+        CardId id = new CardId(userID, card.getCardId());
+        cards.put(id, card);
+        return id;
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
     public Card getCard(CardId id) {
-        return getOrCreate(id.getUser()).getCard(id.getCardId());
+        Card card = cards.get(id);
+        if (card == null) {
+            card = new Card().setCardId(id.getCardId());
+        }
+        return card.setUser(new User(id.getUser()));
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
+    public Card getMaskedCard(CardId id) {
+        Card card = cards.aggregate(Collections.singleton(id), Aggregators.reduce(Card.MASKED)).get(id);
+        if (card == null) {
+            card = new Card().setCardId(id.getCardId());
+        }
+        return card.setUser(new User(id.getUser()));
+    }
+
+    @Override
+    @SampledSpan
     public void removeCard(CardId id) {
-        String userId = id.getUser();
-        users.invoke(userId, entry -> {
-            User u = entry.getValue(new User(entry.getKey()));
-            entry.setValue(u.removeCard(id.getCardId()));
-            return null;
-        });
+        cards.remove(id);
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
+    public Collection<? extends Card> getCards(String userID) {
+        return attach(userID, cards.values(cardsOf(userID)), Card::setUser);
+    }
+
+    @Override
+    @SampledSpan
+    public Collection<? extends Card> getMaskedCards(String userID) {
+        return attach(userID, cards.aggregate(cardsOf(userID), Aggregators.reduce(Card.MASKED)).values(),
+                      Card::setUser);
+    }
+
+    @Override
+    @SampledSpan
     public Collection<? extends User> getAllUsers() {
         return users.values();
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
+    public UserPage getUsers(UserPage.Cursor cursor, int limit) {
+        PartitionedService service = (PartitionedService) users.getService();
+        int partitionCount = service.getPartitionCount();
+
+        List<User> page = new ArrayList<>(limit);
+        int partition = cursor.getPartition();
+        String after = cursor.getAfter();
+        int span = 1;
+        while (partition < partitionCount && page.size() < limit) {
+            int end = Math.min(partition + span, partitionCount);
+            List<String> keys = sortedKeys(service, users.keySet(partitions(service, partition, end, after)));
+            int needed = limit - page.size();
+            if (keys.size() > needed) {
+                keys = keys.subList(0, needed);
+                page.addAll(inOrder(keys, users.getAll(keys)));
+                return new UserPage(page, nextCursor(service, keys));
+            }
+
+            page.addAll(inOrder(keys, users.getAll(keys)));
+            partition = end;
+            after = null;
+            span = nextSpan(span, keys.size(), needed, partitionCount);
+        }
+        return new UserPage(page, partition < partitionCount ? new UserPage.Cursor(partition, null) : null);
+    }
+
+    @Override
+    @SampledSpan
     public User getOrCreate(String id) {
         return users.getOrDefault(id, new User(id));
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
+    public User getCustomer(String id) {
+        return users.aggregate(Collections.singleton(id), Aggregators.reduce(User.CUSTOMER)).get(id);
+    }
+
+    @Override
+    @SampledSpan
     public User getUser(String id) {
         return users.get(id);
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
     public User removeUser(String id) {
+        authCache.invalidate(id);
+        addresses.invokeAll(addressesOf(id), remove());
+        cards.invokeAll(cardsOf(id), remove());
         return users.remove(id);
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
     public boolean authenticate(String username, String password) {
-        return users.invoke(username, entry -> {
-            User u = entry.getValue(new User(entry.getKey()));
-            return u.authenticate(password);
-        });
+        if (authCache.isVerified(username, password)) {
+            return true;
+        }
+
+        String stored = users.aggregate(Collections.singleton(username), Aggregators.reduce(User.PASSWORD))
+                .get(username);
+        if (!PasswordHasher.verify(password, stored)) {
+            return false;
+        }
+        if (!PasswordHasher.isHashed(stored)) {
+            users.invoke(username, replacePassword(stored, hasher.hash(password)));
+        }
+        authCache.verified(username, password);
+        return true;
     }
 
     @Override
-    @WithSpan
+    @SampledSpan
     public User register(User user) {
-        return users.putIfAbsent(user.getUsername(), user);
+        user.setPassword(hasher.hash(user.getPassword()));
+        User prev = users.putIfAbsent(user.getUsername(), user.header());
+        if (prev == null) {
+            addresses.putAll(embeddedAddresses(user));
+            cards.putAll(embeddedCards(user));
+        }
+        return prev;
+    }
+
+    /**
+     * Create the specified user if it doesn't exist, so that addresses and
+     * cards are never added to a user that doesn't exist.
+     *
+     * @param userID the user id
+     */
+    private void ensureUser(String userID) {
+        if (!users.containsKey(userID)) {
+            users.putIfAbsent(userID, new User(userID));
+        }
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    /**
+     * Return a filter that selects all addresses of the specified user
+     * from the partition that owns the user.
+     *
+     * @param userID the user id
+     *
+     * @return a filter that selects all addresses of the user
+     */
+    static Filter<?> addressesOf(String userID) {
+        return new KeyAssociatedFilter<>(Filters.equal(new KeyExtractor<>(AddressId.USER), userID), userID);
+    }
+
+    /**
+     * Return a filter that selects all cards of the specified user
+     * from the partition that owns the user.
+     *
+     * @param userID the user id
+     *
+     * @return a filter that selects all cards of the user
+     */
+    static Filter<?> cardsOf(String userID) {
+        return new KeyAssociatedFilter<>(Filters.equal(new KeyExtractor<>(CardId.USER), userID), userID);
+    }
+
+    /**
+     * Return a filter that selects the users in the specified range of partitions.
+     *
+     * @param service the partitioned service of the {@code users} map
+     * @param from    the first partition
+     * @param to      the partition after the last one
+     * @param after   the username to start after in the first partition,
+     *                or {@code null} to start from its first user
+     *
+     * @return the filter
+     */
+    static Filter<?> partitions(PartitionedService service, int from, int to, String after) {
+        PartitionSet parts = new PartitionSet(service.getPartitionCount());
+        for (int i = from; i < to; i++) {
+            parts.add(i);
+        }
+        // a username to start after is only passed when resuming within a
+        // partition, which is always queried on its own
+        Filter<?> filter = after == null
+                           ? Filters.always()
+                           : Filters.greater(new KeyExtractor<String, String>(ValueExtractor.identity()), after);
+        return new PartitionedFilter<>(filter, parts);
+    }
+
+    /**
+     * Return the specified usernames in listing order, which is by partition,
+     * and by username within each partition.
+     *
+     * @param service the partitioned service of the {@code users} map
+     * @param keys    the usernames
+     *
+     * @return the sorted usernames
+     */
+    static List<String> sortedKeys(PartitionedService service, Collection<String> keys) {
+        KeyPartitioningStrategy strategy = service.getKeyPartitioningStrategy();
+        List<String> list = new ArrayList<>(keys);
+        list.sort(Comparator.<String>comparingInt(strategy::getKeyPartition).thenComparing(Comparator.naturalOrder()));
+        return list;
+    }
+
+    /**
+     * Return the users with the specified usernames, in the order of the usernames.
+     * Users that were removed since the usernames were read are skipped.
+     *
+     * @param keys  the usernames
+     * @param found the users, keyed by username
+     *
+     * @return the users, in the order of the usernames
+     */
+    static List<User> inOrder(List<String> keys, Map<String, User> found) {
+        List<User> list = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            User user = found.get(key);
+            if (user != null) {
+                list.add(user);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Return the cursor that continues after the last of the specified usernames.
+     *
+     * @param service the partitioned service of the {@code users} map
+     * @param keys    the usernames in the page, in listing order
+     *
+     * @return the cursor of the next page
+     */
+    static UserPage.Cursor nextCursor(PartitionedService service, List<String> keys) {
+        String last = keys.get(keys.size() - 1);
+        return new UserPage.Cursor(service.getKeyPartitioningStrategy().getKeyPartition(last), last);
+    }
+
+    /**
+     * Return the number of partitions to query next.
+     * <p>
+     * Sparse partitions are queried together, so listing a small map doesn't
+     * take a round trip per partition, while the number of users returned by
+     * a single query stays close to the page size.
+     *
+     * @param span           the number of partitions queried last
+     * @param found          the number of users found in them
+     * @param needed         the number of users that were needed
+     * @param partitionCount the partition count
+     *
+     * @return the number of partitions to query next
+     */
+    static int nextSpan(int span, int found, int needed, int partitionCount) {
+        return found * 2 < needed ? Math.min(span * 2, partitionCount) : span;
+    }
+
+    /**
+     * Return the addresses embedded in the specified user, keyed by their IDs.
+     *
+     * @param user the user
+     *
+     * @return the addresses of the user
+     */
+    static Map<AddressId, Address> embeddedAddresses(User user) {
+        Map<AddressId, Address> map = new HashMap<>();
+        user.getAddresses().forEach(address ->
+                map.put(new AddressId(user.getUsername(), address.getAddressId()), address));
+        return map;
+    }
+
+    /**
+     * Return the cards embedded in the specified user, keyed by their IDs.
+     *
+     * @param user the user
+     *
+     * @return the cards of the user
+     */
+    static Map<CardId, Card> embeddedCards(User user) {
+        Map<CardId, Card> map = new HashMap<>();
+        user.getCards().forEach(card ->
+                map.put(new CardId(user.getUsername(), card.getCardId()), card));
+        return map;
+    }
+
+    /**
+     * Associate the specified addresses or cards with their user,
+     * which is not stored with them.
+     *
+     * @param userID the user id
+     * @param values the addresses or cards
+     * @param setter the method that sets the user
+     * @param <T>    the type of values
+     *
+     * @return the values, as a list
+     */
+    static <T> List<T> attach(String userID, Collection<T> values, BiFunction<T, User, T> setter) {
+        User user = new User(userID);
+        List<T> list = new ArrayList<>(values.size());
+        values.forEach(value -> list.add(setter.apply(value, user)));
+        return list;
+    }
+
+    /**
+     * Return an entry processor that removes an entry.
+     *
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     *
+     * @return an entry processor that removes an entry
+     */
+    static <K, V> InvocableMap.EntryProcessor<K, V, Void> remove() {
+        return entry -> {
+            entry.remove(false);
+            return null;
+        };
+    }
+
+    /**
+     * Return an entry processor that assigns an ID to a new address of a user,
+     * creating the user if it doesn't exist.
+     * <p>
+     * The last assigned ID is stored with the user, so IDs are never reused,
+     * even after the addresses they were assigned to are removed.
+     *
+     * @param addressId the ID of the address, or {@code null} to assign the next one
+     *
+     * @return the entry processor, which returns the address ID
+     */
+    static InvocableMap.EntryProcessor<String, User, String> assignAddressId(String addressId) {
+        return entry -> {
+            User u = entry.getValue(new User(entry.getKey()));
+            String id = u.assignAddressId(addressId);
+            entry.setValue(u);
+            return id;
+        };
+    }
+
+    /**
+     * Return an entry processor that replaces the stored password of a user,
+     * if it hasn't changed since it was read.
+     * <p>
+     * Used to hash passwords that were stored in plain text before hashing
+     * was introduced, on the first successful login.
+     *
+     * @param expected the stored password that was verified
+     * @param hash     the hashed password to store
+     *
+     * @return the entry processor
+     */
+    static InvocableMap.EntryProcessor<String, User, Void> replacePassword(String expected, String hash) {
+        return entry -> {
+            User u = entry.isPresent() ? entry.getValue() : null;
+            if (u != null && expected.equals(u.getPassword())) {
+                u.setPassword(hash);
+                entry.setValue(u);
+            }
+            return null;
+        };
     }
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.oracle.coherence.cdi.Name;
+import com.oracle.coherence.examples.sockshop.helidon.metrics.RepositoryMetrics;
+import com.oracle.coherence.examples.sockshop.helidon.tracing.SampledSpan;
+import com.tangosol.net.AsyncNamedMap;
+import com.tangosol.net.PartitionedService;
+import com.tangosol.util.Aggregators;
+import com.tangosol.util.filter.AlwaysFilter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.addressesOf;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.assignAddressId;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.attach;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.cardsOf;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.embeddedAddresses;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.embeddedCards;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.inOrder;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.nextCursor;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.nextSpan;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.partitions;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.remove;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.sortedKeys;
+
+/**
+ * An implementation of {@link UserRepositoryAsync}
+ * that that uses Coherence as a backend data store.
+ * <p>
+ * Data is stored and credentials are verified the same way as in
+ * {@link CoherenceUserRepository}.
+ * Password hashes are verified on the common pool, so the expensive hashing
+ * never runs on Coherence service threads.
+ */
+@ApplicationScoped
+@RepositoryMetrics
+public class CoherenceUserRepositoryAsync implements UserRepositoryAsync {
+
+    protected final AsyncNamedMap<String, User> users;
+
+    protected final AsyncNamedMap<AddressId, Address> addresses;
+
+    protected final AsyncNamedMap<CardId, Card> cards;
+
+    protected final PasswordHasher hasher;
+
+    protected final AuthCache authCache;
+
+    @Inject
+    public CoherenceUserRepositoryAsync(@Name("users") AsyncNamedMap<String, User> users,
+                                        @Name("addresses") AsyncNamedMap<AddressId, Address> addresses,
+                                        @Name("cards") AsyncNamedMap<CardId, Card> cards,
+                                        PasswordHasher hasher,
+                                        AuthCache authCache) {
+        this.users = users;
+        this.addresses = addresses;
+        this.cards = cards;
+        this.hasher = hasher;
+        this.authCache = authCache;
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Address> getAddress(AddressId id) {
+        return addresses.get(id).thenApply(address ->
+                (address == null ? new Address().setAddressId(id.getAddressId()) : address)
+                        .setUser(new User(id.getUser())));
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<AddressId> addAddress(String userID, Address address) {
+        return users.invoke(userID, assignAddressId(address.getAddressId()))
+                .thenCompose(addressId -> {
+                    AddressId id = new AddressId(userID, addressId);
+                    return addresses.put(id, address.setAddressId(addressId)).thenApply(prev -> id);
+                });
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Void> removeAddress(AddressId id) {
+        return addresses.remove(id).thenAccept(ignore -> {});
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Collection<Address>> getAddresses(String userID) {
+        return addresses.values(addressesOf(userID))
+                .thenApply(values -> attach(userID, values, Address::setUser));
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<CardId> addCard(String userID, Card card) {
+        if (card.getCardId() == null) {
+            card.setCardId(card.last4());
+        }
+        CardId id = new CardId(userID, card.getCardId());
+        return ensureUser(userID)
+                .thenCompose(ignore -> cards.put(id, card))
+                .thenApply(prev -> id);
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Card> getCard(CardId id) {
+        return cards.get(id).thenApply(card ->
+                (card == null ? new Card().setCardId(id.getCardId()) : card)
+                        .setUser(new User(id.getUser())));
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Card> getMaskedCard(CardId id) {
+        return cards.aggregate(Collections.singleton(id), Aggregators.reduce(Card.MASKED))
+                .thenApply(masked -> {
+                    Card card = masked.get(id);
+                    return (card == null ? new Card().setCardId(id.getCardId()) : card)
+                            .setUser(new User(id.getUser()));
+                });
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Void> removeCard(CardId id) {
+        return cards.remove(id).thenAccept(ignore -> {});
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Collection<Card>> getCards(String userID) {
+        return cards.values(cardsOf(userID))
+                .thenApply(values -> attach(userID, values, Card::setUser));
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Collection<Card>> getMaskedCards(String userID) {
+        return cards.aggregate(cardsOf(userID), Aggregators.reduce(Card.MASKED))
+                .thenApply(masked -> attach(userID, masked.values(), Card::setUser));
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Collection<User>> getAllUsers() {
+        return users.values(AlwaysFilter.INSTANCE());
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<UserPage> getUsers(UserPage.Cursor cursor, int limit) {
+        PartitionedService service = (PartitionedService) users.getNamedMap().getService();
+        return getUsers(service, cursor.getPartition(), cursor.getAfter(), 1, limit, new ArrayList<>(limit));
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<User> getOrCreate(String id) {
+        return users.getOrDefault(id, new User(id));
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<User> getCustomer(String id) {
+        return users.aggregate(Collections.singleton(id), Aggregators.reduce(User.CUSTOMER))
+                .thenApply(customers -> customers.get(id));
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<User> getUser(String id) {
+        return users.get(id);
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<User> removeUser(String id) {
+        authCache.invalidate(id);
+        return CompletableFuture.allOf(addresses.invokeAll(addressesOf(id), remove()),
+                                       cards.invokeAll(cardsOf(id), remove()))
+                .thenCompose(ignore -> users.remove(id));
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<Boolean> authenticate(String username, String password) {
+        if (authCache.isVerified(username, password)) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+        return users.aggregate(Collections.singleton(username), Aggregators.reduce(User.PASSWORD))
+                .thenComposeAsync(passwords -> {
+                    String stored = passwords.get(username);
+                    if (!PasswordHasher.verify(password, stored)) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    CompletionStage<Void> rehash = PasswordHasher.isHashed(stored)
+                            ? CompletableFuture.completedFuture(null)
+                            : users.invoke(username, CoherenceUserRepository.replacePassword(stored, hasher.hash(password)));
+                    return rehash.thenApply(ignore -> {
+                        authCache.verified(username, password);
+                        return true;
+                    });
+                });
+    }
+
+    @Override
+    @SampledSpan
+    public CompletionStage<User> register(User user) {
+        return CompletableFuture.supplyAsync(() -> hasher.hash(user.getPassword()))
+                .thenCompose(hash -> {
+                    user.setPassword(hash);
+                    return users.putIfAbsent(user.getUsername(), user.header());
+                })
+                .thenCompose(prev -> prev != null
+                        ? CompletableFuture.completedFuture(prev)
+                        : CompletableFuture.allOf(addresses.putAll(embeddedAddresses(user)),
+                                                  cards.putAll(embeddedCards(user)))
+                                .thenApply(ignore -> (User) null));
+    }
+
+    /**
+     * Add users to the specified page, starting at the specified position,
+     * until the page is full or there are no more users.
+     *
+     * @param service   the partitioned service of the {@code users} map
+     * @param partition the partition to start from
+     * @param after     the username to start after, or {@code null} to start
+     *                  from the first user in the partition
+     * @param span      the number of partitions to query
+     * @param limit     the page size
+     * @param page      the users added to the page so far
+     *
+     * @return the page of users
+     */
+    private CompletionStage<UserPage> getUsers(PartitionedService service, int partition, String after,
+                                               int span, int limit, List<User> page) {
+        int partitionCount = service.getPartitionCount();
+        if (partition >= partitionCount) {
+            return CompletableFuture.completedFuture(new UserPage(page, null));
+        }
+        if (page.size() >= limit) {
+            return CompletableFuture.completedFuture(new UserPage(page, new UserPage.Cursor(partition, null)));
+        }
+
+        int end = Math.min(partition + span, partitionCount);
+        int needed = limit - page.size();
+        return users.keySet(partitions(service, partition, end, after)).thenCompose(found -> {
+            List<String> keys = sortedKeys(service, found);
+            List<String> chunk = keys.size() > needed ? keys.subList(0, needed) : keys;
+            return users.getAll(chunk).thenCompose(values -> {
+                page.addAll(inOrder(chunk, values));
+                return keys.size() > needed
+                       ? CompletableFuture.completedFuture(new UserPage(page, nextCursor(service, chunk)))
+                       : getUsers(service, end, null, nextSpan(span, keys.size(), needed, partitionCount), limit, page);
+            });
+        });
+    }
+
+    /**
+     * Create the specified user if it doesn't exist.
+     *
+     * @param userID the user id
+     *
+     * @return a stage that completes when the user exists
+     */
+    private CompletionStage<Void> ensureUser(String userID) {
+        return users.containsKey(userID).thenCompose(exists -> exists
+                ? CompletableFuture.<Void>completedFuture(null)
+                : users.putIfAbsent(userID, new User(userID)).thenAccept(ignore -> {}));
+    }
+}
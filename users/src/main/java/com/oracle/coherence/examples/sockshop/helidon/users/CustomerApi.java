@@ -8,10 +8,12 @@
 package com.oracle.coherence.examples.sockshop.helidon.users;
 
 import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Response;
 
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -24,11 +26,16 @@ import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 public interface CustomerApi {
     @GET
     @Produces(APPLICATION_JSON)
-    @Operation(summary = "Return all customers; or empty collection if no customer found")
+    @Operation(summary = "Return a page of customers; or empty collection if no customer found",
+               description = "The next page is linked as _links.next, which is omitted from the last page")
     @APIResponses({
-          @APIResponse(responseCode = "200", description = "if the retrieval is successful")
+          @APIResponse(responseCode = "200", description = "if the retrieval is successful"),
+          @APIResponse(responseCode = "400", description = "if the cursor is not valid")
     })
-    Response getAllCustomers();
+    Response getAllCustomers(@Parameter(description = "Cursor of the page, as returned in the previous page")
+                             @QueryParam("cursor") String cursor,
+                             @Parameter(description = "Maximum number of customers in the page")
+                             @QueryParam("limit") @DefaultValue("100") int limit);
 
     @GET
     @Path("{id}")
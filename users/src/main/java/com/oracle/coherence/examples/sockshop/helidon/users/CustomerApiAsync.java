@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.util.concurrent.CompletionStage;
+
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+
+/**
+ * Async REST API for {@code /customers} service.
+ */
+public interface CustomerApiAsync {
+    @GET
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Return a page of customers; or empty collection if no customer found",
+               description = "The next page is linked as _links.next, which is omitted from the last page")
+    @APIResponses({
+          @APIResponse(responseCode = "200", description = "if the retrieval is successful"),
+          @APIResponse(responseCode = "400", description = "if the cursor is not valid")
+    })
+    CompletionStage<Response> getAllCustomers(@Parameter(description = "Cursor of the page, as returned in the previous page")
+                                              @QueryParam("cursor") String cursor,
+                                              @Parameter(description = "Maximum number of customers in the page")
+                                              @QueryParam("limit") @DefaultValue("100") int limit);
+
+    @GET
+    @Path("{id}")
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Return customer for the specified identifier")
+    @APIResponses({
+          @APIResponse(responseCode = "200", description = "if the retrieval is successful")
+    })
+    CompletionStage<Response> getCustomer(@Parameter(description = "Customer identifier")
+                                          @PathParam("id") String id);
+
+    @DELETE
+    @Path("{id}")
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Delete customer for the specified identifier")
+    @APIResponses({
+          @APIResponse(responseCode = "200", description = "if the delete is successful")
+    })
+    CompletionStage<Response> deleteCustomer(@Parameter(description = "Customer identifier")
+                                             @PathParam("id") String id);
+
+    @GET
+    @Path("{id}/cards")
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Return all cards for the specified customer identifier")
+    @APIResponses({
+          @APIResponse(responseCode = "200", description = "if the retrieval is successful")
+    })
+    CompletionStage<Response> getCustomerCards(@Parameter(description = "Customer identifier")
+                                               @PathParam("id") String id);
+
+    @GET
+    @Path("{id}/addresses")
+    @Produces(APPLICATION_JSON)
+    @Operation(summary = "Return all addresses for the specified customer identifier")
+    @APIResponses({
+          @APIResponse(responseCode = "200", description = "if the retrieval is successful")
+    })
+    CompletionStage<Response> getCustomerAddresses(@Parameter(description = "Customer identifier")
+                                                   @PathParam("id") String id);
+}
@@ -9,55 +9,94 @@ package com.oracle.coherence.examples.sockshop.helidon.users;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.core.Response;
 
 import lombok.extern.slf4j.Slf4j;
 
 import static com.oracle.coherence.examples.sockshop.helidon.users.JsonHelpers.embed;
+import static com.oracle.coherence.examples.sockshop.helidon.users.JsonHelpers.embedStream;
 import static com.oracle.coherence.examples.sockshop.helidon.users.JsonHelpers.obj;
 
 @ApplicationScoped
 @Path("/customers")
 @Slf4j
 public class CustomersResource implements CustomerApi {
+    /**
+     * The maximum number of customers in a page.
+     */
+    static final int MAX_PAGE_SIZE = 1000;
 
     @Inject
     private UserRepository users;
 
     @Override
-    public Response getAllCustomers() {
-        log.info("Getting all customers");
-        return Response.ok(embed("customer", users.getAllUsers())).build();
+    public Response getAllCustomers(String cursor, int limit) {
+        log.info("Getting customers");
+        int size = pageSize(limit);
+        UserPage page = users.getUsers(decode(cursor), size);
+        return Response.ok(embedStream("customer", page.getUsers(), Links.customers(page.getNext(), size))).build();
     }
 
     @Override
     public Response getCustomer(String id) {
-        log.info("Getting customer: " + id);
-        return Response.ok(users.getOrCreate(id)).build();
+        log.info("Getting customer: {}", id);
+        User customer = users.getCustomer(id);
+        // unknown customers are returned without details, as clients expect a customer
+        return Response.ok(customer == null ? new User(id) : customer).build();
     }
 
     @Override
     public Response deleteCustomer(String id) {
-        log.info("Deleting customer: " + id);
+        log.info("Deleting customer: {}", id);
         User prev = users.removeUser(id);
         if (prev == null) {
-            log.warn("Customer not found for deletion: " + id);
+            log.warn("Customer not found for deletion: {}", id);
         }
         return Response.ok(obj().add("status", prev != null).build()).build();
     }
 
     @Override
     public Response getCustomerCards(String id) {
-        log.info("Getting cards for customer: " + id);
-        User user = users.getUser(id);
-        return Response.ok(embed("card", user.getCards().stream().map(Card::mask).toArray())).build();
+        log.info("Getting cards for customer: {}", id);
+        return Response.ok(embed("card", users.getMaskedCards(id))).build();
     }
 
     @Override
     public Response getCustomerAddresses(String id) {
-        log.info("Getting addresses for customer: " + id);
-        User user = users.getUser(id);
-        return Response.ok(embed("address", user.getAddresses())).build();
+        log.info("Getting addresses for customer: {}", id);
+        return Response.ok(embed("address", users.getAddresses(id))).build();
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    /**
+     * Decode the specified page cursor.
+     *
+     * @param cursor the encoded cursor, or {@code null} for the first page
+     *
+     * @return the decoded cursor
+     *
+     * @throws BadRequestException if the cursor is not valid
+     */
+    static UserPage.Cursor decode(String cursor) {
+        try {
+            return UserPage.Cursor.decode(cursor);
+        }
+        catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Return the page size for the requested limit.
+     *
+     * @param limit the requested number of customers
+     *
+     * @return the page size, between 1 and {@link #MAX_PAGE_SIZE}
+     */
+    static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
     }
 }
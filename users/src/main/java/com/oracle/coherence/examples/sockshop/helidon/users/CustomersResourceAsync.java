@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static com.oracle.coherence.examples.sockshop.helidon.users.CustomersResource.decode;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CustomersResource.pageSize;
+import static com.oracle.coherence.examples.sockshop.helidon.users.JsonHelpers.embed;
+import static com.oracle.coherence.examples.sockshop.helidon.users.JsonHelpers.embedStream;
+import static com.oracle.coherence.examples.sockshop.helidon.users.JsonHelpers.obj;
+
+/**
+ * Implementation of the async Customers REST API.
+ */
+@ApplicationScoped
+@Path("/customers-async")
+@Slf4j
+public class CustomersResourceAsync implements CustomerApiAsync {
+
+    @Inject
+    private UserRepositoryAsync users;
+
+    @Override
+    public CompletionStage<Response> getAllCustomers(String cursor, int limit) {
+        log.info("Getting customers");
+        int size = pageSize(limit);
+        return users.getUsers(decode(cursor), size)
+                .thenApply(page -> Response.ok(embedStream("customer", page.getUsers(),
+                                                           Links.customers(page.getNext(), size))).build());
+    }
+
+    @Override
+    public CompletionStage<Response> getCustomer(String id) {
+        log.info("Getting customer: {}", id);
+        return users.getCustomer(id)
+                .thenApply(customer -> Response.ok(customer == null ? new User(id) : customer).build());
+    }
+
+    @Override
+    public CompletionStage<Response> deleteCustomer(String id) {
+        log.info("Deleting customer: {}", id);
+        return users.removeUser(id)
+                .thenApply(prev -> {
+                    if (prev == null) {
+                        log.warn("Customer not found for deletion: {}", id);
+                    }
+                    return Response.ok(obj().add("status", prev != null).build()).build();
+                });
+    }
+
+    @Override
+    public CompletionStage<Response> getCustomerCards(String id) {
+        log.info("Getting cards for customer: {}", id);
+        return users.getMaskedCards(id)
+                .thenApply(cards -> Response.ok(embed("card", cards)).build());
+    }
+
+    @Override
+    public CompletionStage<Response> getCustomerAddresses(String id) {
+        log.info("Getting addresses for customer: {}", id);
+        return users.getAddresses(id)
+                .thenApply(addresses -> Response.ok(embed("address", addresses)).build());
+    }
+}
@@ -7,16 +7,24 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.users;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import jakarta.json.Json;
 import jakarta.json.JsonBuilderFactory;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.core.StreamingOutput;
 
 import static java.util.Collections.singletonMap;
 
 abstract class JsonHelpers {
     private static final JsonBuilderFactory JSON = Json.createBuilderFactory(null);
+    private static final Jsonb JSONB = JsonbBuilder.create();
 
     static JsonObjectBuilder obj() {
         return JSON.createObjectBuilder();
@@ -25,4 +33,31 @@ abstract class JsonHelpers {
     static Map<String, Object> embed(String name, Object value) {
         return singletonMap("_embedded", singletonMap(name, value));
     }
+
+    /**
+     * Return the output that writes the same document as {@link #embed}, with
+     * the specified links, serializing one value at a time instead of building
+     * the whole document in memory.
+     */
+    static StreamingOutput embedStream(String name, Iterable<?> values, Links links) {
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write("{\"_embedded\":{");
+            writer.write(JSONB.toJson(name));
+            writer.write(":[");
+            String separator = "";
+            for (Object value : values) {
+                writer.write(separator);
+                writer.write(JSONB.toJson(value));
+                separator = ",";
+            }
+            writer.write("]}");
+            if (!links.isEmpty()) {
+                writer.write(",\"_links\":");
+                writer.write(JSONB.toJson(links));
+            }
+            writer.write('}');
+            writer.flush();
+        };
+    }
 }
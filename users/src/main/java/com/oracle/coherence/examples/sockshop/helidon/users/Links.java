@@ -37,6 +37,15 @@ public class Links extends LinkedHashMap<String, Links.Link> implements Serializ
             .addAttrLink("customer", id, "cards");
     }
 
+    public static Links customers(UserPage.Cursor next, int limit) {
+        Links links = new Links();
+        if (next != null) {
+            String href = Link.to(ENTITY_MAP.get("customer")).href + "?cursor=" + next.encode() + "&limit=" + limit;
+            links.put("next", new Link(href));
+        }
+        return links;
+    }
+
     public static Links address(AddressId id) {
         return new Links().addLink("address", id.toString());
     }
@@ -24,6 +24,9 @@ import org.slf4j.Marker;
  * By explicitly setting the MDC values, we ensure they are cached and available
  * for deferred processing (e.g., async appenders).
  * 
+ * The MDC is only touched for events that will actually be logged, and only
+ * when the trace context differs from the one that is already in the MDC.
+ * 
  * @see <a href="https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/13069#issuecomment-3612553350">GitHub Issue</a>
  */
 public class OpenTelemetryMdcTurboFilter extends TurboFilter {
@@ -33,16 +36,29 @@ public class OpenTelemetryMdcTurboFilter extends TurboFilter {
 
     @Override
     public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // skip isXxxEnabled() checks and events below the logger's level,
+        // which will not be logged and don't need the trace context
+        if (format == null || level == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
         Span span = Span.current();
         SpanContext context = span.getSpanContext();
         if (context.isValid()) {
-            MDC.put(TRACE_ID, context.getTraceId());
-            MDC.put(SPAN_ID, context.getSpanId());
-        } else {
+            put(TRACE_ID, context.getTraceId());
+            put(SPAN_ID, context.getSpanId());
+        } else if (MDC.get(TRACE_ID) != null) {
             // Clear stale trace context when span is invalid
             MDC.remove(TRACE_ID);
             MDC.remove(SPAN_ID);
         }
         return FilterReply.NEUTRAL;
     }
+
+    private static void put(String key, String value) {
+        String current = MDC.get(key);
+        if (current != value && !value.equals(current)) {
+            MDC.put(key, value);
+        }
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Salted password hashing using PBKDF2.
+ * <p>
+ * Hashes are stored as {@code pbkdf2-sha256$<iterations>$<salt>$<hash>}, so the
+ * cost can be changed without invalidating existing hashes. Passwords that
+ * were stored before hashing was introduced are still verified as plain text,
+ * so that they can be re-hashed on the next successful login.
+ */
+@ApplicationScoped
+public class PasswordHasher {
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+
+    private static final String PREFIX = "pbkdf2-sha256$";
+
+    private static final int SALT_LENGTH = 16;
+
+    private static final int HASH_LENGTH = 32;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final int iterations;
+
+    /**
+     * Construct PasswordHasher instance.
+     *
+     * @param iterations the number of PBKDF2 iterations to use for new hashes
+     */
+    @Inject
+    public PasswordHasher(@ConfigProperty(name = "users.password.iterations", defaultValue = "10000") int iterations) {
+        this.iterations = Math.max(1, iterations);
+    }
+
+    /**
+     * Hash the specified password with a random salt.
+     *
+     * @param password the password to hash
+     *
+     * @return the salted hash of the password, or the password itself if it
+     *         is {@code null} or already hashed
+     */
+    public String hash(String password) {
+        if (password == null || isHashed(password)) {
+            return password;
+        }
+
+        byte[] salt = new byte[SALT_LENGTH];
+        RANDOM.nextBytes(salt);
+        byte[] hash = pbkdf2(password, salt, iterations, HASH_LENGTH);
+
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX + iterations + '$' + encoder.encodeToString(salt) + '$' + encoder.encodeToString(hash);
+    }
+
+    /**
+     * Return whether the specified stored password is hashed.
+     *
+     * @param stored the stored password
+     *
+     * @return {@code true} if the stored password is hashed, {@code false} if
+     *         it is in plain text
+     */
+    public static boolean isHashed(String stored) {
+        return stored != null && stored.startsWith(PREFIX);
+    }
+
+    /**
+     * Verify the specified password against a stored password.
+     *
+     * @param password the password to verify
+     * @param stored   the stored password, either hashed or in plain text
+     *
+     * @return {@code true} if the password matches the stored password
+     */
+    public static boolean verify(String password, String stored) {
+        if (password == null || stored == null) {
+            return false;
+        }
+        if (!isHashed(stored)) {
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8),
+                                         stored.getBytes(StandardCharsets.UTF_8));
+        }
+
+        String[] parts = stored.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 3) {
+            return false;
+        }
+        try {
+            Base64.Decoder decoder = Base64.getDecoder();
+            int    iterations = Integer.parseInt(parts[0]);
+            byte[] salt       = decoder.decode(parts[1]);
+            byte[] expected   = decoder.decode(parts[2]);
+            return MessageDigest.isEqual(expected, pbkdf2(password, salt, iterations, expected.length));
+        }
+        catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations, int length) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, length * 8);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        }
+        catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to hash password", e);
+        }
+        finally {
+            spec.clearPassword();
+        }
+    }
+}
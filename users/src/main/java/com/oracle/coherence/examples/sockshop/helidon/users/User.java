@@ -7,15 +7,25 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.users;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
 import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.json.bind.annotation.JsonbProperty;
 import jakarta.json.bind.annotation.JsonbTransient;
+
+import com.tangosol.util.ValueExtractor;
+
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 
 /**
@@ -24,6 +34,24 @@ import org.eclipse.microprofile.openapi.annotations.media.Schema;
 @Data
 @Schema(description = "User data representing a customer")
 public class User implements Serializable {
+    /**
+     * The serialization version of users stored before addresses and cards
+     * were keyed by ID, which must not change, so those users can still be read.
+     */
+    @Serial
+    private static final long serialVersionUID = -628533603018260894L;
+
+    /**
+     * The extractor for the stored password, which allows credentials to be
+     * verified without sending the whole user over the wire.
+     */
+    public static final ValueExtractor<User, String> PASSWORD = User::getPassword;
+
+    /**
+     * The extractor for the customer details of the user, without the password.
+     */
+    public static final ValueExtractor<User, User> CUSTOMER = User::customer;
+
     /**
      * User identifier.
      */
@@ -49,22 +77,32 @@ public class User implements Serializable {
     private String email;
 
     /**
-     * The password.
+     * The password, which is hashed by the repository when the user is registered.
      */
     @Schema(description = "User password")
     private String password;
 
     /**
-     * The addresses that are associated with the user.
+     * The addresses that are associated with the user, keyed by address ID,
+     * in the order they were added.
+     */
+    @JsonbTransient
+    private Map<String, Address> addresses = new LinkedHashMap<>();
+
+    /**
+     * The cards that belongs to the user, keyed by card ID,
+     * in the order they were added.
      */
     @JsonbTransient
-    private List<Address> addresses = new ArrayList<>();
+    private Map<String, Card> cards = new LinkedHashMap<>();
 
     /**
-     * The cards that belongs to the user.
+     * The last address ID assigned to an address of this user. Only ever
+     * increases, so the IDs of removed addresses are never reused.
      */
     @JsonbTransient
-    private List<Card> cards = new ArrayList<>();
+    @Setter(AccessLevel.NONE)
+    private int lastAddressId;
 
     /**
      * Default constructor.
@@ -109,6 +147,16 @@ public class User implements Serializable {
         return password;
     }
 
+    /**
+     * Return the addresses of this user.
+     *
+     * @return the addresses of this user, in the order they were added
+     */
+    @JsonbTransient
+    public List<Address> getAddresses() {
+        return new ArrayList<>(addresses.values());
+    }
+
     /**
      * Return the address for the specified address ID.
      *
@@ -117,12 +165,10 @@ public class User implements Serializable {
      * @return the address for the specified address ID
      */
     public Address getAddress(String id) {
-        return addresses.stream()
-            .filter(address -> address.getAddressId().equals(id))
-            .findFirst()
-            .orElse(new Address()
-                    .setAddressId(id)
-                    .setUser(this));
+        Address address = addresses.get(id);
+        return address != null
+               ? address
+               : new Address().setAddressId(id).setUser(this);
     }
 
     /**
@@ -133,11 +179,8 @@ public class User implements Serializable {
      * @return the added address
      */
     public Address addAddress(Address address) {
-        if (address.getAddressId() == null) {
-            address.setAddressId(Integer.toString(addresses.size() + 1));
-        }
-
-        addresses.add(address.setUser(this));
+        address.setAddressId(assignAddressId(address.getAddressId()));
+        addresses.put(address.getAddressId(), address.setUser(this));
         return address;
     }
 
@@ -158,10 +201,63 @@ public class User implements Serializable {
      * @return the user
      */
     public User removeAddress(String id) {
-        addresses.remove(getAddress(id));
+        Address address = addresses.remove(id);
+        if (address != null) {
+            address.setUser(null);
+        }
         return this;
     }
 
+    /**
+     * Return the next address ID, which is never assigned to another address
+     * of this user.
+     *
+     * @return the next address ID
+     */
+    public String nextAddressId() {
+        return Integer.toString(++lastAddressId);
+    }
+
+    /**
+     * Return the ID to use for a new address of this user.
+     *
+     * @param id the explicit ID of the address, or {@code null} to assign the next one
+     *
+     * @return the specified ID, which is never assigned to another address if
+     *         it is numeric, or the next address ID if none was specified
+     */
+    public String assignAddressId(String id) {
+        if (id == null) {
+            return nextAddressId();
+        }
+        reserveAddressId(id);
+        return id;
+    }
+
+    /**
+     * Make sure the specified numeric address ID is never assigned to a new address.
+     *
+     * @param id the address ID that is in use
+     */
+    private void reserveAddressId(String id) {
+        try {
+            lastAddressId = Math.max(lastAddressId, Integer.parseInt(id));
+        }
+        catch (NumberFormatException ignore) {
+            // only numeric IDs can collide with the assigned ones
+        }
+    }
+
+    /**
+     * Return the cards of this user.
+     *
+     * @return the cards of this user, in the order they were added
+     */
+    @JsonbTransient
+    public List<Card> getCards() {
+        return new ArrayList<>(cards.values());
+    }
+
     /**
      * Return the card for the specified card ID.
      *
@@ -170,16 +266,17 @@ public class User implements Serializable {
      * @return the card for the specified card ID
      */
     public Card getCard(String id) {
-        return cards.stream()
-            .filter(card -> card.getCardId().equals(id))
-            .findFirst()
-            .orElse(new Card()
-                .setCardId(id)
-                .setUser(this));
+        Card card = cards.get(id);
+        return card != null
+               ? card
+               : new Card().setCardId(id).setUser(this);
     }
 
     /**
      * Add the specified card to the user.
+     * <p/>
+     * Cards are identified by the last four digits of the card number, so
+     * adding a card replaces an existing card with the same last four digits.
      *
      * @param card the card to be added
      *
@@ -189,7 +286,7 @@ public class User implements Serializable {
         if (card.getCardId() == null) {
             card.setCardId(card.last4());
         }
-        cards.add(card.setUser(this));
+        cards.put(card.getCardId(), card.setUser(this));
         return card;
     }
 
@@ -210,10 +307,76 @@ public class User implements Serializable {
      * @return this user
      */
     public User removeCard(String id) {
-        cards.remove(getCard(id));
+        Card card = cards.remove(id);
+        if (card != null) {
+            card.setUser(null);
+        }
         return this;
     }
 
+    /**
+     * Return a copy of this user without addresses and cards, but with the
+     * last assigned address ID, which is what the {@code users} map stores.
+     *
+     * @return a copy of this user without addresses and cards
+     */
+    User header() {
+        User header = new User(firstName, lastName, email, username, password);
+        header.lastAddressId = lastAddressId;
+        return header;
+    }
+
+    /**
+     * Read this user, accepting both the current form and the one used before
+     * addresses and cards were keyed by ID, which stored them in lists.
+     *
+     * @param in the stream to read this user from
+     *
+     * @throws IOException            if an I/O error occurs
+     * @throws ClassNotFoundException if the class of an address or card can't be found
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        username = (String) fields.get("username", null);
+        firstName = (String) fields.get("firstName", null);
+        lastName = (String) fields.get("lastName", null);
+        email = (String) fields.get("email", null);
+        password = (String) fields.get("password", null);
+        lastAddressId = fields.get("lastAddressId", 0);
+
+        addresses = new LinkedHashMap<>();
+        cards = new LinkedHashMap<>();
+        valuesOf(fields.get("addresses", null), Address.class).forEach(this::addAddress);
+        valuesOf(fields.get("cards", null), Card.class).forEach(this::addCard);
+    }
+
+    /**
+     * Return the elements of a serialized list, or the values of a serialized map.
+     *
+     * @param field the value of the serialized field
+     * @param type  the type of the elements
+     * @param <T>   the type of the elements
+     *
+     * @return the elements of the field
+     */
+    private static <T> List<T> valuesOf(Object field, Class<T> type) {
+        Collection<?> values = field instanceof Map<?, ?> map
+                               ? map.values()
+                               : field instanceof Collection<?> list ? list : List.of();
+        return values.stream().map(type::cast).toList();
+    }
+
+    /**
+     * Return a copy of this user with the customer details only, which are
+     * the name, email and username.
+     *
+     * @return a copy of this user with the customer details only
+     */
+    public User customer() {
+        return new User(firstName, lastName, email, username, null);
+    }
+
     /**
      * Return {@code _links} attribute for this entity.
      *
@@ -232,6 +395,6 @@ public class User implements Serializable {
      * @return true if the specified password match the user's password
      */
     public Boolean authenticate(String password) {
-        return password.equals(this.password);
+        return PasswordHasher.verify(password, this.password);
     }
 }
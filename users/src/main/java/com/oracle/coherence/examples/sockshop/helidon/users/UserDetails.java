@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The customer, address and card requested by a {@link UserDetailsRequest}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDetails {
+    /**
+     * The customer details, without the password.
+     */
+    private User customer;
+
+    /**
+     * The address.
+     */
+    private Address address;
+
+    /**
+     * The card, with masked card number.
+     */
+    private Card card;
+}
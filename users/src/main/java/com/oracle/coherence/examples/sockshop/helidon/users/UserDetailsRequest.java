@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A request for the customer, address and card used by an order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDetailsRequest {
+    /**
+     * The customer identifier.
+     */
+    private String customerId;
+
+    /**
+     * The address identifier, in the {@code user:addressId} format.
+     */
+    private String addressId;
+
+    /**
+     * The card identifier, in the {@code user:cardId} format.
+     */
+    private String cardId;
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.helidon.grpc.api.Grpc;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of the Users Service gRPC API.
+ * <p>
+ * Returns the same customers, addresses and masked cards as the REST API,
+ * and allows all three to be looked up in a single call, which is what the
+ * orders service needs for each new order.
+ */
+@ApplicationScoped
+@Grpc.GrpcService("UserGrpc")
+@Grpc.GrpcMarshaller("users-binary")
+@Slf4j
+public class UserGrpc {
+    /**
+     * User repository to use.
+     */
+    @Inject
+    private UserRepositoryAsync users;
+
+    @Grpc.Unary
+    public User customer(String customerId) {
+        return customerAsync(customerId).join();
+    }
+
+    @Grpc.Unary
+    public Address address(String addressId) {
+        return users.getAddress(new AddressId(addressId)).toCompletableFuture().join();
+    }
+
+    @Grpc.Unary
+    public Card card(String cardId) {
+        return users.getMaskedCard(new CardId(cardId)).toCompletableFuture().join();
+    }
+
+    @Grpc.Unary
+    public UserDetails details(UserDetailsRequest request) {
+        log.debug("Getting user details: {}", request);
+
+        // the lookups are independent, so they run concurrently
+        CompletableFuture<User>    customer = customerAsync(request.getCustomerId());
+        CompletableFuture<Address> address  = users.getAddress(new AddressId(request.getAddressId())).toCompletableFuture();
+        CompletableFuture<Card>    card     = users.getMaskedCard(new CardId(request.getCardId())).toCompletableFuture();
+
+        return new UserDetails(customer.join(), address.join(), card.join());
+    }
+
+    // ---- helpers ---------------------------------------------------------
+
+    /**
+     * Return the customer details of the specified user.
+     *
+     * @param customerId the customer identifier
+     *
+     * @return the customer details; without any details if the customer
+     *         doesn't exist, which is what the REST API returns as well
+     */
+    private CompletableFuture<User> customerAsync(String customerId) {
+        return users.getCustomer(customerId)
+                .thenApply(customer -> customer == null ? new User(customerId) : customer)
+                .toCompletableFuture();
+    }
+}
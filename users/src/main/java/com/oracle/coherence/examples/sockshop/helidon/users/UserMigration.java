@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import com.oracle.coherence.cdi.Name;
+import com.tangosol.net.NamedMap;
+import com.tangosol.util.Filter;
+import com.tangosol.util.Filters;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.ValueExtractor;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.embeddedAddresses;
+import static com.oracle.coherence.examples.sockshop.helidon.users.CoherenceUserRepository.embeddedCards;
+
+/**
+ * Moves addresses and cards that are still embedded in {@code users} entries
+ * into the {@code addresses} and {@code cards} maps.
+ * <p>
+ * Runs once per cluster, when the first member starts: the member that
+ * claims the migration in the {@code migrations} map runs it, and marks it
+ * as done when it completes. A claim that is older than the configured
+ * timeout is assumed to belong to a member that failed, and can be taken over
+ * by the next member that starts. The addresses and cards of each user are
+ * written to their own maps before they are removed from the user, so the
+ * migration can be safely interrupted and run again.
+ */
+@ApplicationScoped
+@Slf4j
+public class UserMigration {
+    /**
+     * The key of this migration in the {@code migrations} map.
+     */
+    static final String MIGRATION = "users.embedded-addresses-and-cards";
+
+    /**
+     * The value of a completed migration in the {@code migrations} map.
+     */
+    static final long DONE = -1L;
+
+    /**
+     * The extractor for whether a user has embedded addresses or cards.
+     */
+    static final ValueExtractor<User, Boolean> HAS_EMBEDDED =
+            user -> !user.getAddresses().isEmpty() || !user.getCards().isEmpty();
+
+    /**
+     * The filter that selects users with embedded addresses or cards.
+     */
+    static final Filter<User> EMBEDDED = Filters.isTrue(HAS_EMBEDDED);
+
+    private final NamedMap<String, User> users;
+
+    private final NamedMap<AddressId, Address> addresses;
+
+    private final NamedMap<CardId, Card> cards;
+
+    private final NamedMap<String, Long> migrations;
+
+    private final long claimTimeout;
+
+    @Inject
+    UserMigration(@Name("users") NamedMap<String, User> users,
+                  @Name("addresses") NamedMap<AddressId, Address> addresses,
+                  @Name("cards") NamedMap<CardId, Card> cards,
+                  @Name("migrations") NamedMap<String, Long> migrations,
+                  @ConfigProperty(name = "users.migration.claim-timeout-millis", defaultValue = "600000") long claimTimeout) {
+        this.users = users;
+        this.addresses = addresses;
+        this.cards = cards;
+        this.migrations = migrations;
+        this.claimTimeout = claimTimeout;
+    }
+
+    /**
+     * Migrate all users with embedded addresses or cards when the application
+     * starts, unless another member has migrated them or is migrating them.
+     *
+     * @param event  the application startup event
+     */
+    void init(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        if (!migrations.invoke(MIGRATION, claim(System.currentTimeMillis(), claimTimeout))) {
+            return;
+        }
+        int migrated = migrate();
+        migrations.put(MIGRATION, DONE);
+        if (migrated > 0) {
+            log.info("Moved addresses and cards of {} users into separate maps", migrated);
+        }
+    }
+
+    /**
+     * Migrate all users with embedded addresses or cards.
+     *
+     * @return the number of migrated users
+     */
+    int migrate() {
+        int migrated = 0;
+        for (String username : users.keySet(EMBEDDED)) {
+            User user = users.get(username);
+            if (user != null) {
+                addresses.putAll(embeddedAddresses(user));
+                cards.putAll(embeddedCards(user));
+                users.invoke(username, strip());
+                migrated++;
+            }
+        }
+        return migrated;
+    }
+
+    /**
+     * Return an entry processor that claims a migration, unless it is done or
+     * was claimed by another member within the claim timeout.
+     *
+     * @param now     the current time, in milliseconds
+     * @param timeout the time (in milliseconds) after which a claim can be taken over
+     *
+     * @return the entry processor, which returns whether the migration was claimed
+     */
+    static InvocableMap.EntryProcessor<String, Long, Boolean> claim(long now, long timeout) {
+        return entry -> {
+            Long claimed = entry.getValue();
+            if (claimed == null || (claimed != DONE && now - claimed > timeout)) {
+                entry.setValue(now);
+                return true;
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Return an entry processor that removes embedded addresses and cards from a user.
+     *
+     * @return the entry processor
+     */
+    static InvocableMap.EntryProcessor<String, User, Void> strip() {
+        return entry -> {
+            if (entry.isPresent()) {
+                entry.setValue(entry.getValue().header());
+            }
+            return null;
+        };
+    }
+}
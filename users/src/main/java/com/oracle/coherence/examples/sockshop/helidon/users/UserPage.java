@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A page of users, and the cursor of the next page.
+ * <p>
+ * Users are listed partition by partition, in key order within each
+ * partition, so the position in the listing can be captured by a partition
+ * number and the last key returned from it, regardless of how many users
+ * were added or removed in the meantime.
+ */
+@Data
+@AllArgsConstructor
+public class UserPage {
+    /**
+     * The users in this page.
+     */
+    private List<User> users;
+
+    /**
+     * The cursor of the next page, or {@code null} if this is the last page.
+     */
+    private Cursor next;
+
+    /**
+     * The position in the listing of all users.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Cursor {
+        /**
+         * The cursor of the first page.
+         */
+        public static final Cursor FIRST = new Cursor(0, null);
+
+        /**
+         * The partition to continue from.
+         */
+        private int partition;
+
+        /**
+         * The last username returned from the partition,
+         * or {@code null} to start from its first user.
+         */
+        private String after;
+
+        /**
+         * Return the cursor encoded as an opaque, URL-safe string.
+         *
+         * @return the encoded cursor
+         */
+        public String encode() {
+            String value = after == null ? Integer.toString(partition) : partition + ":" + after;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Decode the specified cursor.
+         *
+         * @param cursor the encoded cursor, or {@code null} for the first page
+         *
+         * @return the decoded cursor
+         *
+         * @throws IllegalArgumentException if the cursor is not valid
+         */
+        public static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isEmpty()) {
+                return FIRST;
+            }
+
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            try {
+                int partition = Integer.parseInt(separator < 0 ? value : value.substring(0, separator));
+                if (partition < 0) {
+                    throw new IllegalArgumentException("Invalid cursor: " + cursor);
+                }
+                return new Cursor(partition, separator < 0 ? null : value.substring(separator + 1));
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+            }
+        }
+    }
+}
@@ -40,6 +40,15 @@ public interface UserRepository {
      */
     void removeAddress(AddressId id);
 
+    /**
+     * Return all addresses of the specified user.
+     *
+     * @param userID the user id
+     *
+     * @return the addresses of the user; empty if the user has none
+     */
+    Collection<? extends Address> getAddresses(String userID);
+
     /**
      * Add a {@code Card} to the specified user.
      *
@@ -59,6 +68,18 @@ public interface UserRepository {
      */
     Card getCard(CardId id);
 
+    /**
+     * Return the card for the specified card ID, with masked card number.
+     * <p>
+     * The card is masked on the storage member, so the full card number is
+     * never read by this service.
+     *
+     * @param id the card ID
+     *
+     * @return the card with masked card number
+     */
+    Card getMaskedCard(CardId id);
+
     /**
      * Remove the card  with the specified identifier.
      *
@@ -66,6 +87,24 @@ public interface UserRepository {
      */
     void removeCard(CardId id);
 
+    /**
+     * Return all cards of the specified user.
+     *
+     * @param userID the user id
+     *
+     * @return the cards of the user; empty if the user has none
+     */
+    Collection<? extends Card> getCards(String userID);
+
+    /**
+     * Return the cards of the specified user, with masked card numbers.
+     *
+     * @param userID the user id
+     *
+     * @return the masked cards of the user; empty if the user has none
+     */
+    Collection<? extends Card> getMaskedCards(String userID);
+
     /**
      * Return all users.
      *
@@ -73,6 +112,19 @@ public interface UserRepository {
      */
     Collection<? extends User> getAllUsers();
 
+    /**
+     * Return a page of users, starting at the specified position.
+     * <p>
+     * Unlike {@link #getAllUsers()}, only the requested page is loaded, so
+     * all users can be listed page by page regardless of how many there are.
+     *
+     * @param cursor the position to start from
+     * @param limit  the maximum number of users to return
+     *
+     * @return the page of users, with the position of the next page
+     */
+    UserPage getUsers(UserPage.Cursor cursor, int limit);
+
     /**
      * Return an existing {@code User} for the specified user identifier;
      * or a newly created {@code User}.
@@ -83,6 +135,18 @@ public interface UserRepository {
      */
     User getOrCreate(String id);
 
+    /**
+     * Return the customer details of the specified user, without the password.
+     * <p>
+     * Unlike {@link #getOrCreate(String)}, a missing user is neither created
+     * nor substituted.
+     *
+     * @param id the user id
+     *
+     * @return the customer details, or {@code null} if the user doesn't exist
+     */
+    User getCustomer(String id);
+
     /**
      * Return the {@code User} with the specified user identifier.
      *
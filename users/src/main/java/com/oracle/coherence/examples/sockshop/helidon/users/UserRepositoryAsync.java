@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A repository interface that should be implemented by
+ * the various async data store integrations.
+ */
+public interface UserRepositoryAsync {
+    /**
+     * Add an {@code Address} to the specified user.
+     *
+     * @param userID  the user id
+     * @param address the address to add
+     *
+     * @return the {@code AddressId} of the address
+     */
+    CompletionStage<AddressId> addAddress(String userID, Address address);
+
+    /**
+     * Return the {@code Address} for the specified address identifier.
+     *
+     * @param id the address id
+     *
+     * @return the {@code Address} with the specified identifier
+     */
+    CompletionStage<Address> getAddress(AddressId id);
+
+    /**
+     * Remove the address with the specified identifier.
+     *
+     * @param id the address id
+     */
+    CompletionStage<Void> removeAddress(AddressId id);
+
+    /**
+     * Return all addresses of the specified user.
+     *
+     * @param userID the user id
+     *
+     * @return the addresses of the user; empty if the user has none
+     */
+    CompletionStage<Collection<Address>> getAddresses(String userID);
+
+    /**
+     * Add a {@code Card} to the specified user.
+     *
+     * @param userID the user id
+     * @param card   the card to add
+     *
+     * @return the {@code CardId} of the card
+     */
+    CompletionStage<CardId> addCard(String userID, Card card);
+
+    /**
+     * Return the {@code Card} with the specified card identifier.
+     *
+     * @param id the card id
+     *
+     * @return the {@code Card} with the specified card id
+     */
+    CompletionStage<Card> getCard(CardId id);
+
+    /**
+     * Return the card for the specified card ID, with masked card number.
+     * <p>
+     * The card is masked on the storage member, so the full card number is
+     * never read by this service.
+     *
+     * @param id the card ID
+     *
+     * @return the card with masked card number
+     */
+    CompletionStage<Card> getMaskedCard(CardId id);
+
+    /**
+     * Remove the card  with the specified identifier.
+     *
+     * @param id the card id
+     */
+    CompletionStage<Void> removeCard(CardId id);
+
+    /**
+     * Return all cards of the specified user.
+     *
+     * @param userID the user id
+     *
+     * @return the cards of the user; empty if the user has none
+     */
+    CompletionStage<Collection<Card>> getCards(String userID);
+
+    /**
+     * Return the cards of the specified user, with masked card numbers.
+     *
+     * @param userID the user id
+     *
+     * @return the masked cards of the user; empty if the user has none
+     */
+    CompletionStage<Collection<Card>> getMaskedCards(String userID);
+
+    /**
+     * Return all users.
+     *
+     * @return a collection of {@code User}s
+     */
+    CompletionStage<Collection<User>> getAllUsers();
+
+    /**
+     * Return a page of users, starting at the specified position.
+     * <p>
+     * Unlike {@link #getAllUsers()}, only the requested page is loaded, so
+     * all users can be listed page by page regardless of how many there are.
+     *
+     * @param cursor the position to start from
+     * @param limit  the maximum number of users to return
+     *
+     * @return the page of users, with the position of the next page
+     */
+    CompletionStage<UserPage> getUsers(UserPage.Cursor cursor, int limit);
+
+    /**
+     * Return an existing {@code User} for the specified user identifier;
+     * or a newly created {@code User}.
+     *
+     * @param id the user id
+     *
+     * @return the {@code User} with the specified user id
+     */
+    CompletionStage<User> getOrCreate(String id);
+
+    /**
+     * Return the customer details of the specified user, without the password.
+     * <p>
+     * Unlike {@link #getOrCreate(String)}, a missing user is neither created
+     * nor substituted.
+     *
+     * @param id the user id
+     *
+     * @return the customer details, or {@code null} if the user doesn't exist
+     */
+    CompletionStage<User> getCustomer(String id);
+
+    /**
+     * Return the {@code User} with the specified user identifier.
+     *
+     * @param id the user id
+     *
+     * @return the {@code User} with the specified user id
+     */
+    CompletionStage<User> getUser(String id);
+
+    /**
+     * Remove the {@code User} with the specified user identifier;
+     *
+     * @param id the id
+     *
+     * @return the removed {@code User}; can be {@code null}
+     */
+    CompletionStage<User> removeUser(String id);
+
+    /**
+     * Authenticate a {@code User} with the specified username against
+     * the specified password.
+     *
+     * @param username the username of the user to be authenticated
+     * @param password the password to authenticate against
+     *
+     * @return true if password match
+     */
+    CompletionStage<Boolean> authenticate(String username, String password);
+
+    /**
+     * Register the specified user.
+     *
+     * @param user the user to be registered
+     *
+     * @return the registered user
+     */
+    CompletionStage<User> register(User user);
+}
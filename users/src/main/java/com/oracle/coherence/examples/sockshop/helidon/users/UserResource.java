@@ -41,7 +41,7 @@ public class UserResource implements UserApi {
     static final String HEADER_AUTHENTICATION = "Authorization";
     static final String BASIC_PREFIX = "Basic ";
 
-    private static final Pattern CREDENTIAL_PATTERN = Pattern.compile("(.*):(.*)");
+    static final Pattern CREDENTIAL_PATTERN = Pattern.compile("(.*):(.*)");
 
     @Inject
     private UserRepository users;
@@ -56,18 +56,18 @@ public class UserResource implements UserApi {
         String  usernameAndPassword = new String(Base64.getDecoder().decode(b64), StandardCharsets.UTF_8);
         Matcher matcher = CREDENTIAL_PATTERN.matcher(usernameAndPassword);
         if (!matcher.matches()) {
-            log.warn("Basic authentication header with invalid content: " + usernameAndPassword);
+            log.warn("Basic authentication header with invalid content: {}", usernameAndPassword);
             return fail("Basic authentication header with invalid content");
         }
 
         final String username = matcher.group(1);
         final String password = matcher.group(2);
 
-        log.info("Login attempt for user: " + username);
+        log.info("Login attempt for user: {}", username);
         boolean fAuth = users.authenticate(username, password);
 
         if (fAuth) {
-            log.info("User logged in successfully: " + username);
+            log.info("User logged in successfully: {}", username);
             JsonObject entity = obj()
                     .add("user",
                          obj().add("id", username))
@@ -75,7 +75,7 @@ public class UserResource implements UserApi {
             return Response.ok(entity).build();
         }
         else {
-            log.warn("Failed login attempt for user: " + username);
+            log.warn("Failed login attempt for user: {}", username);
             return fail("Invalid username or password");
         }
     }
@@ -83,19 +83,19 @@ public class UserResource implements UserApi {
     @Override
     public Response register(User user) {
         String username = user.getUsername();
-        log.info("Registering new user: " + username);
+        log.info("Registering new user: {}", username);
         User prev = users.register(user);
         if (prev != null) {
-            log.warn("Registration failed - user already exists: " + username);
+            log.warn("Registration failed - user already exists: {}", username);
             return Response.status(CONFLICT).entity("User with that ID already exists").build();
         }
-        log.info("User registered successfully: " + username);
+        log.info("User registered successfully: {}", username);
         return Response.ok(obj().add("id", username).build()).build();
     }
 
     // ---- helpers ---------------------------------------------------------
 
-    private Response fail(String message) {
+    static Response fail(String message) {
         return Response
                 .status(UNAUTHORIZED)
                 .header(HEADER_AUTHENTICATION_REQUIRED, "Basic realm=\"sockshop\"")
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.regex.Matcher;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static com.oracle.coherence.examples.sockshop.helidon.users.JsonHelpers.obj;
+import static com.oracle.coherence.examples.sockshop.helidon.users.UserResource.BASIC_PREFIX;
+import static com.oracle.coherence.examples.sockshop.helidon.users.UserResource.CREDENTIAL_PATTERN;
+import static com.oracle.coherence.examples.sockshop.helidon.users.UserResource.fail;
+import static jakarta.ws.rs.core.Response.Status.CONFLICT;
+
+/*
+ * DISCLAIMER: See UserResource -- this is the same naive authentication
+ * scheme, exposed through the async repository.
+ */
+@ApplicationScoped
+@Path("/async")
+@Slf4j
+public class UserResourceAsync implements UserApiAsync {
+
+    @Inject
+    private UserRepositoryAsync users;
+
+    @Override
+    public CompletionStage<Response> login(String auth) {
+        if (!auth.startsWith(BASIC_PREFIX)) {
+            log.warn("Login attempt with missing Basic authentication header");
+            return CompletableFuture.completedFuture(fail("Basic authentication header is missing"));
+        }
+        String  b64 = auth.substring(BASIC_PREFIX.length());
+        String  usernameAndPassword = new String(Base64.getDecoder().decode(b64), StandardCharsets.UTF_8);
+        Matcher matcher = CREDENTIAL_PATTERN.matcher(usernameAndPassword);
+        if (!matcher.matches()) {
+            log.warn("Basic authentication header with invalid content: {}", usernameAndPassword);
+            return CompletableFuture.completedFuture(fail("Basic authentication header with invalid content"));
+        }
+
+        final String username = matcher.group(1);
+        final String password = matcher.group(2);
+
+        log.info("Login attempt for user: {}", username);
+        return users.authenticate(username, password)
+                .thenApply(fAuth -> {
+                    if (fAuth) {
+                        log.info("User logged in successfully: {}", username);
+                        JsonObject entity = obj()
+                                .add("user",
+                                     obj().add("id", username))
+                                .build();
+                        return Response.ok(entity).build();
+                    }
+                    else {
+                        log.warn("Failed login attempt for user: {}", username);
+                        return fail("Invalid username or password");
+                    }
+                });
+    }
+
+    @Override
+    public CompletionStage<Response> register(User user) {
+        String username = user.getUsername();
+        log.info("Registering new user: {}", username);
+        return users.register(user)
+                .thenApply(prev -> {
+                    if (prev != null) {
+                        log.warn("Registration failed - user already exists: {}", username);
+                        return Response.status(CONFLICT).entity("User with that ID already exists").build();
+                    }
+                    log.info("User registered successfully: {}", username);
+                    return Response.ok(obj().add("id", username).build()).build();
+                });
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.ObservableHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for AuthCache class.
+ */
+class AuthCacheTest {
+    @Test
+    void testVerified() {
+        AuthCache cache = new AuthCache(60_000, 10);
+        assertThat(cache.isVerified("user", "pass"), is(false));
+
+        cache.verified("user", "pass");
+        assertThat(cache.isVerified("user", "pass"), is(true));
+        assertThat(cache.isVerified("user", "wrong"), is(false));
+        assertThat(cache.isVerified("other", "pass"), is(false));
+    }
+
+    @Test
+    void testInvalidate() {
+        AuthCache cache = new AuthCache(60_000, 10);
+        cache.verified("user", "pass");
+
+        cache.invalidate("user");
+        assertThat(cache.isVerified("user", "pass"), is(false));
+    }
+
+    @Test
+    void testInvalidateOnRemoteRemove() {
+        AuthCache cache = new AuthCache(60_000, 10);
+        cache.verified("user", "pass");
+
+        cache.onUserChanged(event(MapEvent.ENTRY_DELETED, "hash", null));
+        assertThat(cache.isVerified("user", "pass"), is(false));
+    }
+
+    @Test
+    void testInvalidateOnPasswordChange() {
+        AuthCache cache = new AuthCache(60_000, 10);
+        cache.verified("user", "pass");
+
+        cache.onUserChanged(event(MapEvent.ENTRY_UPDATED, "hash", "hash"));
+        assertThat(cache.isVerified("user", "pass"), is(true));
+
+        cache.onUserChanged(event(MapEvent.ENTRY_UPDATED, "hash", "other"));
+        assertThat(cache.isVerified("user", "pass"), is(false));
+    }
+
+    @Test
+    void testExpiry() throws InterruptedException {
+        AuthCache cache = new AuthCache(1, 10);
+        cache.verified("user", "pass");
+
+        Thread.sleep(10);
+        assertThat(cache.isVerified("user", "pass"), is(false));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void testDisabled() {
+        AuthCache cache = new AuthCache(0, 10);
+        cache.verified("user", "pass");
+
+        assertThat(cache.isVerified("user", "pass"), is(false));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void testBounded() {
+        AuthCache cache = new AuthCache(60_000, 2);
+        cache.verified("user1", "pass");
+        cache.verified("user2", "pass");
+        cache.verified("user3", "pass");
+
+        assertThat(cache.size() <= 2, is(true));
+        assertThat(cache.isVerified("user3", "pass"), is(true));
+    }
+
+    private static MapEvent<String, String> event(int id, String oldPassword, String newPassword) {
+        return new MapEvent<>(new ObservableHashMap<>(), id, "user", oldPassword, newPassword);
+    }
+}
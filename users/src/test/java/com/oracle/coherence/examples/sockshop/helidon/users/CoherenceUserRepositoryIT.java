@@ -9,11 +9,17 @@ package com.oracle.coherence.examples.sockshop.helidon.users;
 
 import jakarta.enterprise.inject.spi.CDI;
 
+import com.tangosol.net.Coherence;
+
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 
 import io.helidon.microprofile.server.Server;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
 /**
  * Tests for Coherence repository implementation.
  */
@@ -43,4 +49,22 @@ class CoherenceUserRepositoryIT extends UserRepositoryTest {
     public UserRepository getUserRepository() {
         return CDI.current().select(UserRepository.class).get();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCachedVerificationIsInvalidatedByRemoteRemove() throws InterruptedException {
+        UserRepository users = getUserRepository();
+        users.register(new User("Test", "User", "test@weavesocks.com", "testuser", "pass"));
+        assertThat(users.authenticate("testuser", "pass"), is(true));
+
+        // remove the user directly from the map, the way another member
+        // would, which bypasses this member's repository
+        Coherence.getInstance().getSession().getMap("users").remove("testuser");
+
+        AuthCache authCache = CDI.current().select(AuthCache.class).get();
+        long end = System.currentTimeMillis() + 10_000;
+        while (authCache.isVerified("testuser", "pass") && System.currentTimeMillis() < end) {
+            Thread.sleep(100);
+        }
+        assertThat(users.authenticate("testuser", "pass"), is(false));
+    }
+}
@@ -20,7 +20,10 @@ import org.junit.jupiter.api.Test;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 /**
  * Integration tests for {@link AddressesResource}.
@@ -74,6 +77,45 @@ public class CustomerResourceIT {
                 body("size()", is(1));
     }
 
+    @Test
+    public void testCustomersArePaged() {
+        users.register(new User("Other", "User", "other@weavesocks.com", "other", "pass"));
+
+        String next =
+        given().
+            queryParam("limit", 1).
+        when().
+            get("/customers").
+        then().
+            statusCode(200).
+            body("_embedded.customer.size()", is(1)).
+            body("_links.next.href", containsString("limit=1")).
+            extract().path("_links.next.href");
+
+        String cursor = next.substring(next.indexOf("cursor=") + 7, next.indexOf('&'));
+        given().
+            queryParam("cursor", cursor).
+            queryParam("limit", 1000).
+        when().
+            get("/customers").
+        then().
+            statusCode(200).
+            body("_embedded.customer.size()", greaterThanOrEqualTo(1)).
+            body("_links", nullValue());
+
+        users.removeUser("other");
+    }
+
+    @Test
+    public void testInvalidCursor() {
+        given().
+            queryParam("cursor", "not a cursor").
+        when().
+            get("/customers").
+        then().
+            statusCode(400);
+    }
+
     @Test
     void testGetCustomer() {
         when().
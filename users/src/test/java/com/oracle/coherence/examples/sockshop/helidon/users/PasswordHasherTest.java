@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Unit tests for PasswordHasher class.
+ */
+class PasswordHasherTest {
+    private final PasswordHasher hasher = new PasswordHasher(1000);
+
+    @Test
+    void testHashAndVerify() {
+        String hash = hasher.hash("pass");
+
+        assertThat(PasswordHasher.isHashed(hash), is(true));
+        assertThat(PasswordHasher.verify("pass", hash), is(true));
+        assertThat(PasswordHasher.verify("wrong", hash), is(false));
+    }
+
+    @Test
+    void testHashIsSalted() {
+        assertThat(hasher.hash("pass"), not(hasher.hash("pass")));
+    }
+
+    @Test
+    void testHashIsIdempotent() {
+        String hash = hasher.hash("pass");
+
+        assertThat(hasher.hash(hash), is(hash));
+        assertThat(hasher.hash(null), is(nullValue()));
+    }
+
+    @Test
+    void testVerifyWithDifferentCost() {
+        String hash = new PasswordHasher(10).hash("pass");
+
+        assertThat(PasswordHasher.verify("pass", hash), is(true));
+    }
+
+    @Test
+    void testVerifyPlainText() {
+        assertThat(PasswordHasher.isHashed("pass"), is(false));
+        assertThat(PasswordHasher.verify("pass", "pass"), is(true));
+        assertThat(PasswordHasher.verify("wrong", "pass"), is(false));
+        assertThat(PasswordHasher.verify("pass", null), is(false));
+    }
+
+    @Test
+    void testVerifyMalformedHash() {
+        assertThat(PasswordHasher.verify("pass", "pbkdf2-sha256$1000$!!!"), is(false));
+        assertThat(PasswordHasher.verify("pass", "pbkdf2-sha256$x$AAAA$AAAA"), is(false));
+    }
+}
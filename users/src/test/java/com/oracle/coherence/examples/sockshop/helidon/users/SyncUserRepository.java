@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import java.util.Collection;
+
+/**
+ * Helper class that blocks on async repository calls, allowing
+ * us to reuse the tests for both sync and async repository implementations.
+ */
+public class SyncUserRepository implements UserRepository {
+    private UserRepositoryAsync users;
+
+    public SyncUserRepository(UserRepositoryAsync users) {
+        this.users = users;
+    }
+
+    @Override
+    public AddressId addAddress(String userID, Address address) {
+        return users.addAddress(userID, address).toCompletableFuture().join();
+    }
+
+    @Override
+    public Address getAddress(AddressId id) {
+        return users.getAddress(id).toCompletableFuture().join();
+    }
+
+    @Override
+    public void removeAddress(AddressId id) {
+        users.removeAddress(id).toCompletableFuture().join();
+    }
+
+    @Override
+    public Collection<? extends Address> getAddresses(String userID) {
+        return users.getAddresses(userID).toCompletableFuture().join();
+    }
+
+    @Override
+    public CardId addCard(String userID, Card card) {
+        return users.addCard(userID, card).toCompletableFuture().join();
+    }
+
+    @Override
+    public Card getCard(CardId id) {
+        return users.getCard(id).toCompletableFuture().join();
+    }
+
+    @Override
+    public Card getMaskedCard(CardId id) {
+        return users.getMaskedCard(id).toCompletableFuture().join();
+    }
+
+    @Override
+    public void removeCard(CardId id) {
+        users.removeCard(id).toCompletableFuture().join();
+    }
+
+    @Override
+    public Collection<? extends Card> getCards(String userID) {
+        return users.getCards(userID).toCompletableFuture().join();
+    }
+
+    @Override
+    public Collection<? extends Card> getMaskedCards(String userID) {
+        return users.getMaskedCards(userID).toCompletableFuture().join();
+    }
+
+    @Override
+    public Collection<? extends User> getAllUsers() {
+        return users.getAllUsers().toCompletableFuture().join();
+    }
+
+    @Override
+    public UserPage getUsers(UserPage.Cursor cursor, int limit) {
+        return users.getUsers(cursor, limit).toCompletableFuture().join();
+    }
+
+    @Override
+    public User getOrCreate(String id) {
+        return users.getOrCreate(id).toCompletableFuture().join();
+    }
+
+    @Override
+    public User getCustomer(String id) {
+        return users.getCustomer(id).toCompletableFuture().join();
+    }
+
+    @Override
+    public User getUser(String id) {
+        return users.getUser(id).toCompletableFuture().join();
+    }
+
+    @Override
+    public User removeUser(String id) {
+        return users.removeUser(id).toCompletableFuture().join();
+    }
+
+    @Override
+    public boolean authenticate(String username, String password) {
+        return users.authenticate(username, password).toCompletableFuture().join();
+    }
+
+    @Override
+    public User register(User user) {
+        return users.register(user).toCompletableFuture().join();
+    }
+}
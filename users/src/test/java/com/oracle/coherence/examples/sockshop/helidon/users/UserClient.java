@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import io.helidon.grpc.api.Grpc;
+
+@Grpc.GrpcService("UserGrpc")
+@Grpc.GrpcMarshaller("users-binary")
+public interface UserClient {
+    @Grpc.Unary
+    User customer(String customerId);
+
+    @Grpc.Unary
+    Address address(String addressId);
+
+    @Grpc.Unary
+    Card card(String cardId);
+
+    @Grpc.Unary
+    UserDetails details(UserDetailsRequest request);
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import io.helidon.grpc.api.Grpc;
+
+import io.helidon.microprofile.grpc.client.GrpcClientCdiExtension;
+import io.helidon.microprofile.grpc.client.GrpcConfigurablePort;
+import io.helidon.microprofile.grpc.server.GrpcMpCdiExtension;
+
+import io.helidon.microprofile.testing.junit5.AddBean;
+import io.helidon.microprofile.testing.junit5.AddExtension;
+import io.helidon.microprofile.testing.junit5.HelidonTest;
+
+import jakarta.inject.Inject;
+
+import jakarta.ws.rs.client.WebTarget;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Integration tests for {@link UserGrpc}.
+ */
+@HelidonTest
+@AddBean(UserClient.class)
+@AddExtension(GrpcMpCdiExtension.class)
+@AddExtension(GrpcClientCdiExtension.class)
+public class UserGrpcIT {
+    @BeforeAll
+    static void startServer() {
+        // disable global tracing so we can start server in multiple test suites
+        System.setProperty("tracing.global", "false");
+        System.setProperty("grpc.port", "0");
+    }
+
+    @Inject
+    private WebTarget target;
+
+    @Inject
+    @Grpc.GrpcProxy
+    private UserClient client;
+
+    @Inject
+    private UserRepository users;
+
+    @BeforeEach
+    void setup() {
+        if (client instanceof GrpcConfigurablePort client) {
+            client.channelPort(target.getUri().getPort());
+        }
+        users.removeUser("grpcuser");
+        User user = new User("Grpc", "User", "grpc@weavesocks.com", "grpcuser", "pass");
+        user.addAddress(new Address("123", "Main St", "Springfield", "12123", "USA"));
+        user.addCard(new Card("1234123412345678", "12/29", "123"));
+        users.register(user);
+    }
+
+    @Test
+    void testCustomer() {
+        User customer = client.customer("grpcuser");
+        assertThat(customer.getUsername(), is("grpcuser"));
+        assertThat(customer.getFirstName(), is("Grpc"));
+        assertThat(customer.getEmail(), is("grpc@weavesocks.com"));
+        assertThat(customer.getPassword(), is(nullValue()));
+    }
+
+    @Test
+    void testUnknownCustomer() {
+        User customer = client.customer("nosuchuser");
+        assertThat(customer.getUsername(), is("nosuchuser"));
+        assertThat(customer.getFirstName(), is(nullValue()));
+    }
+
+    @Test
+    void testAddress() {
+        Address address = client.address("grpcuser:1");
+        assertThat(address.getAddressId(), is("1"));
+        assertThat(address.getStreet(), is("Main St"));
+        assertThat(address.getCountry(), is("USA"));
+    }
+
+    @Test
+    void testMaskedCard() {
+        Card card = client.card("grpcuser:5678");
+        assertThat(card.getCardId(), is("5678"));
+        assertThat(card.getLongNum(), is("************5678"));
+        assertThat(card.getExpires(), is("12/29"));
+    }
+
+    @Test
+    void testDetails() {
+        UserDetails details = client.details(new UserDetailsRequest("grpcuser", "grpcuser:1", "grpcuser:5678"));
+        assertThat(details.getCustomer().getLastName(), is("User"));
+        assertThat(details.getAddress().getCity(), is("Springfield"));
+        assertThat(details.getCard().getLongNum(), is("************5678"));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import jakarta.enterprise.inject.spi.CDI;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedMap;
+
+import io.helidon.microprofile.server.Server;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for {@link UserMigration}.
+ */
+class UserMigrationIT {
+    private static Server SERVER;
+
+    /**
+     * This will start the application on ephemeral port to avoid port conflicts.
+     * We can discover the actual port by calling {@link io.helidon.microprofile.server.Server#port()} method afterwards.
+     */
+    @BeforeAll
+    static void startServer() {
+        // disable global tracing so we can start server in multiple test suites
+        System.setProperty("tracing.global", "false");
+        SERVER = Server.builder().port(0).build().start();
+    }
+
+    /**
+     * Stop the server, as we cannot have multiple servers started at the same time.
+     */
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop();
+    }
+
+    @Test
+    void testMigrateEmbeddedAddressesAndCards() {
+        UserRepository repository = CDI.current().select(UserRepository.class).get();
+        repository.removeUser("legacyuser");
+
+        // store the user the way it was stored before addresses and cards were split out
+        User legacy = new User("Legacy", "User", "legacy@weavesocks.com", "legacyuser", "pass");
+        legacy.addAddress(new Address("555", "woodbury St", "Westford", "01886", "USA"));
+        legacy.addCard(new Card("1234123412341234", "12/19", "123"));
+        NamedMap<String, User> users = Coherence.getInstance().getSession().getMap("users");
+        users.put("legacyuser", legacy);
+
+        UserMigration migration = CDI.current().select(UserMigration.class).get();
+        assertThat(migration.migrate(), is(1));
+        assertThat(migration.migrate(), is(0));
+
+        assertThat(users.get("legacyuser").getAddresses(), is(empty()));
+        assertThat(users.get("legacyuser").getCards(), is(empty()));
+        assertThat(repository.getAddress(new AddressId("legacyuser", "1")).getCity(), is("Westford"));
+        assertThat(repository.getCard(new CardId("legacyuser", "1234")).getLongNum(), is("1234123412341234"));
+        assertThat(repository.authenticate("legacyuser", "pass"), is(true));
+    }
+
+    @Test
+    void testMigrationRunsOnlyOnce() {
+        NamedMap<String, User> users = Coherence.getInstance().getSession().getMap("users");
+        NamedMap<String, Long> migrations = Coherence.getInstance().getSession().getMap("migrations");
+        UserMigration migration = CDI.current().select(UserMigration.class).get();
+        // the migration ran when the server started
+        assertThat(migrations.get(UserMigration.MIGRATION), is(UserMigration.DONE));
+
+        User legacy = new User("Legacy", "User", "legacy@weavesocks.com", "claimuser", "pass");
+        legacy.addCard(new Card("1234123412341234", "12/19", "123"));
+        users.put("claimuser", legacy);
+
+        // a completed or recently claimed migration doesn't run again
+        migration.init(null);
+        assertThat(users.get("claimuser").getCards().size(), is(1));
+        migrations.put(UserMigration.MIGRATION, System.currentTimeMillis());
+        migration.init(null);
+        assertThat(users.get("claimuser").getCards().size(), is(1));
+
+        // a migration claimed by a member that failed is taken over
+        migrations.put(UserMigration.MIGRATION, System.currentTimeMillis() - 3_600_000);
+        migration.init(null);
+        assertThat(users.get("claimuser").getCards(), is(empty()));
+        assertThat(migrations.get(UserMigration.MIGRATION), is(UserMigration.DONE));
+
+        users.remove("claimuser");
+    }
+}
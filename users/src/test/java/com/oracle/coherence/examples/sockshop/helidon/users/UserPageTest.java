@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.examples.sockshop.helidon.users;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for UserPage class.
+ */
+class UserPageTest {
+    @Test
+    void testFirstCursor() {
+        assertThat(UserPage.Cursor.decode(null), is(UserPage.Cursor.FIRST));
+        assertThat(UserPage.Cursor.decode(""), is(UserPage.Cursor.FIRST));
+    }
+
+    @Test
+    void testCursorRoundTrip() {
+        UserPage.Cursor cursor = new UserPage.Cursor(42, "user:with/odd?chars");
+        String encoded = cursor.encode();
+        assertThat(encoded, matchesPattern("[A-Za-z0-9_-]+"));
+        assertThat(UserPage.Cursor.decode(encoded), is(cursor));
+
+        UserPage.Cursor start = UserPage.Cursor.decode(new UserPage.Cursor(7, null).encode());
+        assertThat(start.getPartition(), is(7));
+        assertThat(start.getAfter(), is(nullValue()));
+    }
+
+    @Test
+    void testInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> UserPage.Cursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> UserPage.Cursor.decode(new UserPage.Cursor(-1, null).encode()));
+    }
+}
@@ -10,7 +10,11 @@ package com.oracle.coherence.examples.sockshop.helidon.users;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -56,6 +60,30 @@ public abstract class UserRepositoryTest {
         assertThat(users.getCard(cardId).getLongNum(), is("1234123412341234"));
     }
 
+    @Test
+    void testMaskedCards() {
+        User u = users.getOrCreate("testuser");
+        users.register(u);
+
+        CardId cardId = users.addCard(u.getUsername(), new Card("1234123412345678", "12/19", "123"));
+        assertThat(users.getMaskedCard(cardId).getLongNum(), is("************5678"));
+        assertThat(users.getMaskedCard(new CardId("testuser", "0000")).getLongNum(), is(nullValue()));
+        assertThat(users.getMaskedCards("testuser").iterator().next().getLongNum(), is("************5678"));
+        assertThat(users.getCard(cardId).getLongNum(), is("1234123412345678"));
+    }
+
+    @Test
+    void testCustomer() {
+        users.register(new User("Test", "User", "test@weavesocks.com", "testuser", "pass"));
+
+        User customer = users.getCustomer("testuser");
+        assertThat(customer.getFirstName(), is("Test"));
+        assertThat(customer.getEmail(), is("test@weavesocks.com"));
+        assertThat(customer.getPassword(), is(nullValue()));
+        assertThat(users.getCustomer("nosuchuser"), is(nullValue()));
+        assertThat(users.getUser("nosuchuser"), is(nullValue()));
+    }
+
     @Test
     void testUserAuthentication() {
         User u1 = users.getOrCreate("testuser");
@@ -64,6 +92,7 @@ public abstract class UserRepositoryTest {
 
         assertThat(users.authenticate("testuser", "wrong"), is(false));
         assertThat(users.authenticate("testuser", "pass"), is(true));
+        assertThat(PasswordHasher.isHashed(users.getUser("testuser").getPassword()), is(true));
     }
 
     @Test
@@ -75,6 +104,32 @@ public abstract class UserRepositoryTest {
         assertThat(users.getUser("testuser"), is(nullValue()));
     }
 
+    @Test
+    void testAddressesAndCardsAreStoredSeparately() {
+        User u = new User("Test", "User", "user@weavesocks.com", "testuser", "pass");
+        u.addAddress(new Address("555", "woodbury St", "Westford", "01886", "USA"));
+        u.addCard(new Card("1234123412341234", "12/19", "123"));
+        users.register(u);
+
+        AddressId addressId = users.addAddress("testuser", new Address("16", "huntington", "lexington", "01886", "USA"));
+        assertThat(addressId.getAddressId(), is("2"));
+        users.addCard("testuser", new Card("4321432143214321", "01/21", "789"));
+
+        assertThat(users.getUser("testuser").getAddresses(), is(empty()));
+        assertThat(users.getUser("testuser").getCards(), is(empty()));
+        assertThat(users.getAddresses("testuser").size(), is(2));
+        assertThat(users.getCards("testuser").size(), is(2));
+        assertThat(users.getAddress(addressId).getId(), is(addressId));
+
+        users.removeAddress(new AddressId("testuser", "1"));
+        assertThat(users.addAddress("testuser", new Address("1", "Main St", "Springfield", "12123", "USA")).getAddressId(),
+                   is("3"));
+
+        users.removeUser("testuser");
+        assertThat(users.getAddresses("testuser"), is(empty()));
+        assertThat(users.getCards("testuser"), is(empty()));
+    }
+
     @Test
     void testAllUsers() {
         User u1 = new User("foo", "passfoo", "foo@weavesocks.com", "foouser", "pass");
@@ -89,4 +144,23 @@ public abstract class UserRepositoryTest {
 
         assertThat(allUsers.size(), greaterThanOrEqualTo(3));
     }
+
+    @Test
+    void testUsersArePaged() {
+        Set<String> usernames = Set.of("pageuser1", "pageuser2", "pageuser3", "pageuser4", "pageuser5");
+        usernames.forEach(username -> users.register(new User("Page", "User", "page@weavesocks.com", username, "pass")));
+
+        List<String> listed = new ArrayList<>();
+        UserPage.Cursor cursor = UserPage.Cursor.FIRST;
+        while (cursor != null) {
+            UserPage page = users.getUsers(cursor, 2);
+            assertThat(page.getUsers().size(), lessThanOrEqualTo(2));
+            page.getUsers().forEach(user -> listed.add(user.getUsername()));
+            cursor = page.getNext();
+        }
+
+        assertThat(listed, hasItems(usernames.toArray(new String[0])));
+        assertThat(new HashSet<>(listed).size(), is(listed.size()));
+        usernames.forEach(users::removeUser);
+    }
 }
@@ -7,6 +7,13 @@
 
 package com.oracle.coherence.examples.sockshop.helidon.users;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -48,6 +55,39 @@ class UserTest
         assertThat(user.getAddresses().size(), is(0));
     }
 
+    @Test
+    void testAddressIdsAreNotReused() {
+        User user = new User("Test", "User", "user@weavesocks.com", "user", "pass");
+        Address first = user.addAddress(new Address("666", "Sock St", "Weave", "33633", "USA"));
+        Address second = user.addAddress(new Address("777", "Sock St", "Weave", "33633", "USA"));
+        assertThat(first.getAddressId(), is("1"));
+        assertThat(second.getAddressId(), is("2"));
+
+        user.removeAddress(first.getAddressId());
+        Address third = user.addAddress(new Address("888", "Sock St", "Weave", "33633", "USA"));
+        assertThat(third.getAddressId(), is("3"));
+        assertThat(user.getAddress("2"), is(second));
+        assertThat(user.getAddresses().size(), is(2));
+    }
+
+    @Test
+    void testAddressIdsSkipExistingIds() {
+        User user = new User("Test", "User", "user@weavesocks.com", "user", "pass");
+        user.addAddress(new Address("666", "Sock St", "Weave", "33633", "USA").setAddressId("5"));
+        Address address = user.addAddress(new Address("777", "Sock St", "Weave", "33633", "USA"));
+        assertThat(address.getAddressId(), is("6"));
+        assertThat(user.header().getLastAddressId(), is(6));
+    }
+
+    @Test
+    void testAssignAddressId() {
+        User user = new User("user");
+        assertThat(user.assignAddressId(null), is("1"));
+        assertThat(user.assignAddressId("home"), is("home"));
+        assertThat(user.assignAddressId("4"), is("4"));
+        assertThat(user.assignAddressId(null), is("5"));
+    }
+
     @Test
     void testAddCard() {
         User user = new User("Test", "User", "user@weavesocks.com", "user", "pass");
@@ -70,4 +110,51 @@ class UserTest
         user.removeCard(card.getCardId());
         assertThat(user.getCards().size(), is(0));
     }
+
+    @Test
+    void testReadUserStoredWithAddressAndCardLists() throws Exception {
+        // serialized by the User class that kept addresses and cards in lists,
+        // with a back-reference to the user in each address and card
+        User user;
+        try (InputStream in = UserTest.class.getResourceAsStream("/legacy-user.ser")) {
+            user = (User) new ObjectInputStream(in).readObject();
+        }
+
+        assertThat(user.getUsername(), is("legacy"));
+        assertThat(user.getPassword(), is("pass"));
+        assertThat(user.getAddresses().size(), is(2));
+        assertThat(user.getAddress("2").getCity(), is("lexington"));
+        assertThat(user.getAddress("2").getId(), is(new AddressId("legacy", "2")));
+        assertThat(user.getCard("1234").getLongNum(), is("1234123412341234"));
+        assertThat(user.getCard("1234").getUser(), is(sameInstance(user)));
+        assertThat(user.getLastAddressId(), is(2));
+        assertThat(user.addAddress(new Address("1", "Main St", "Springfield", "12123", "USA")).getAddressId(), is("3"));
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        User user = new User("Test", "User", "user@weavesocks.com", "user", "pass");
+        user.addAddress(new Address("555", "woodbury St", "Westford", "01886", "USA"));
+        user.addCard(new Card("6854657645765476", "03/22", "456"));
+        user.removeAddress("1");
+
+        User copy = deserialize(serialize(user));
+        assertThat(copy, is(user));
+        assertThat(copy.getLastAddressId(), is(1));
+        assertThat(copy.getCard("5476").getUser(), is(sameInstance(copy)));
+    }
+
+    private static byte[] serialize(Object o) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(o);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static User deserialize(byte[] bytes) throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (User) in.readObject();
+        }
+    }
 }